@@ -0,0 +1,60 @@
+package com.github.amangusss.gym_application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+@Slf4j
+@Component("userCache")
+public class CaffeineUserCache implements UserCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    public CaffeineUserCache(@Value("${security.user-cache.max-size:10000}") long maxSize,
+                             @Value("${security.user-cache.expire-after-write:300000}") long expireAfterWriteMillis) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMillis))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        UserDetails cached = cache.getIfPresent(username);
+        return cached != null ? User.withUserDetails(cached).build() : null;
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        cache.put(user.getUsername(), User.withUserDetails(user).build());
+        log.debug("Cached user details for: {}", user.getUsername());
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        cache.invalidate(username);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(username);
+                }
+            });
+        }
+
+        log.debug("Evicted cached user details for: {}", username);
+    }
+}
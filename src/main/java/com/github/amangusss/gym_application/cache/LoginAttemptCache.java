@@ -3,21 +3,23 @@ package com.github.amangusss.gym_application.cache;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-
-import java.time.LocalDateTime;
 
 @Getter
-@Setter
-@Builder
-@NoArgsConstructor
+@Builder(toBuilder = true)
 @AllArgsConstructor
 public class LoginAttemptCache {
 
-    private String username;
-    private int attemptCount;
-    private LocalDateTime firstAttemptTime;
-    private LocalDateTime lastAttemptTime;
-    private LocalDateTime lockedUntil;
+    private final String username;
+    private final int attemptCount;
+    private final long firstAttemptMillis;
+    private final long lastAttemptMillis;
+    private final long lockedUntilMillis;
+
+    public boolean isLocked(long nowMillis) {
+        return lockedUntilMillis > nowMillis;
+    }
+
+    public boolean isLockoutExpired(long nowMillis) {
+        return lockedUntilMillis != 0 && lockedUntilMillis <= nowMillis;
+    }
 }
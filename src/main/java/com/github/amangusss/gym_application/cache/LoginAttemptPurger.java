@@ -0,0 +1,77 @@
+package com.github.amangusss.gym_application.cache;
+
+import com.github.amangusss.gym_application.metrics.LoginAttemptPurgeMetrics;
+import com.github.amangusss.gym_application.repository.LoginAttemptRepository;
+import com.github.amangusss.gym_application.repository.LoginAttemptRepository.PurgeCandidate;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component("loginAttemptPurger")
+public class LoginAttemptPurger {
+
+    private final LoginAttemptRepository loginAttemptRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LoginAttemptPurgeMetrics metrics;
+    private final int chunkSize;
+
+    public LoginAttemptPurger(LoginAttemptRepository loginAttemptRepository,
+                              PlatformTransactionManager transactionManager,
+                              LoginAttemptPurgeMetrics metrics,
+                              @Value("${security.login-attempts.purge-chunk-size:1000}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Purge chunk size must be positive");
+        }
+
+        this.loginAttemptRepository = loginAttemptRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.metrics = metrics;
+        this.chunkSize = chunkSize;
+    }
+
+    public long purgeOlderThan(LocalDateTime threshold) {
+        long startedAt = System.nanoTime();
+        long purged = 0;
+        LocalDateTime afterTime = null;
+        Long afterId = 0L;
+
+        try {
+            while (true) {
+                List<PurgeCandidate> chunk = loginAttemptRepository.findPurgeCandidates(
+                        threshold, afterTime, afterId, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                List<Long> ids = chunk.stream().map(PurgeCandidate::getId).toList();
+                Integer deleted = transactionTemplate.execute(status ->
+                        loginAttemptRepository.deleteAllByIdInAndLastAttemptTimeBefore(ids, threshold));
+                int deletedRows = deleted != null ? deleted : 0;
+                metrics.recordChunk(deletedRows);
+                purged += deletedRows;
+
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+
+                PurgeCandidate last = chunk.get(chunk.size() - 1);
+                afterTime = last.getLastAttemptTime();
+                afterId = last.getId();
+            }
+        } finally {
+            metrics.recordRun(System.nanoTime() - startedAt);
+        }
+
+        log.debug("Purged {} login attempts with last attempt before {}", purged, threshold);
+        return purged;
+    }
+}
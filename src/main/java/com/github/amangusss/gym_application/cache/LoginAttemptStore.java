@@ -0,0 +1,70 @@
+package com.github.amangusss.gym_application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+@Slf4j
+@Component("loginAttemptStore")
+public class LoginAttemptStore {
+
+    private final Cache<String, LoginAttemptCache> attempts;
+
+    public LoginAttemptStore(@Value("${security.login-attempts.max-tracked-users:10000}") long maxTrackedUsers,
+                             @Value("${security.login-attempts.retention-ms:900000}") long retentionMillis) {
+        this.attempts = Caffeine.newBuilder()
+                .maximumSize(maxTrackedUsers)
+                .expireAfter(new AttemptExpiry(retentionMillis))
+                .build();
+
+        log.debug("Login attempt store created: max {} users, retention {} ms", maxTrackedUsers, retentionMillis);
+    }
+
+    public LoginAttemptCache get(String username) {
+        return attempts.getIfPresent(username);
+    }
+
+    public LoginAttemptCache compute(String username,
+                                     BiFunction<String, LoginAttemptCache, LoginAttemptCache> remapping) {
+        return attempts.asMap().compute(username, remapping);
+    }
+
+    public void put(LoginAttemptCache attempt) {
+        attempts.put(attempt.getUsername(), attempt);
+    }
+
+    public long size() {
+        return attempts.estimatedSize();
+    }
+
+    public void clear() {
+        attempts.invalidateAll();
+    }
+
+    private record AttemptExpiry(long retentionMillis) implements Expiry<String, LoginAttemptCache> {
+
+        @Override
+        public long expireAfterCreate(String key, LoginAttemptCache value, long currentTime) {
+            long expiresAt = Math.max(value.getLastAttemptMillis() + retentionMillis, value.getLockedUntilMillis());
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAt - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, LoginAttemptCache value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, LoginAttemptCache value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
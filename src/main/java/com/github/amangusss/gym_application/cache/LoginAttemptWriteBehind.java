@@ -0,0 +1,158 @@
+package com.github.amangusss.gym_application.cache;
+
+import com.github.amangusss.gym_application.entity.auth.LoginAttempt;
+import com.github.amangusss.gym_application.metrics.LoginAttemptFlushMetrics;
+import com.github.amangusss.gym_application.repository.LoginAttemptRepository;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component("loginAttemptWriteBehind")
+public class LoginAttemptWriteBehind {
+
+    private final LoginAttemptRepository loginAttemptRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LoginAttemptFlushMetrics metrics;
+    private final Map<String, PendingWrite> pending = new ConcurrentHashMap<>();
+    private final int batchSize;
+
+    public LoginAttemptWriteBehind(LoginAttemptRepository loginAttemptRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   LoginAttemptFlushMetrics metrics,
+                                   @Value("${security.login-attempts.flush-batch-size:500}") int batchSize) {
+        this.loginAttemptRepository = loginAttemptRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.metrics = metrics;
+        this.batchSize = batchSize;
+        metrics.bindPending(pending);
+    }
+
+    public void enqueueSave(LoginAttemptCache attempt) {
+        enqueue(attempt.getUsername(), attempt);
+    }
+
+    public void enqueueDelete(String username) {
+        enqueue(username, null);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(initialDelayString = "${security.login-attempts.flush-interval-ms:1000}",
+            fixedDelayString = "${security.login-attempts.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        while (!pending.isEmpty() && flushBatch()) {
+            log.trace("Flushed login attempt batch, {} changes pending", pending.size());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing {} pending login attempt changes before shutdown", pending.size());
+        flush();
+    }
+
+    private void enqueue(String username, LoginAttemptCache attempt) {
+        PendingWrite write = new PendingWrite(attempt, System.nanoTime());
+        pending.merge(username, write, (previous, latest) -> new PendingWrite(latest.attempt(), previous.enqueuedAt()));
+    }
+
+    private boolean flushBatch() {
+        Map<String, PendingWrite> batch = new HashMap<>();
+        for (String username : pending.keySet()) {
+            if (batch.size() >= batchSize) {
+                break;
+            }
+            PendingWrite write = pending.remove(username);
+            if (write != null) {
+                batch.put(username, write);
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return false;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(batch));
+        } catch (Exception e) {
+            metrics.incrementFailures();
+            log.error("Failed to flush {} login attempt changes, requeueing", batch.size(), e);
+            batch.forEach(pending::putIfAbsent);
+            return false;
+        }
+
+        long flushedAt = System.nanoTime();
+        batch.values().forEach(write -> metrics.recordLag(flushedAt - write.enqueuedAt()));
+        metrics.recordBatchSize(batch.size());
+        log.debug("Flushed {} login attempt changes", batch.size());
+        return true;
+    }
+
+    private void write(Map<String, PendingWrite> batch) {
+        List<String> deletes = new ArrayList<>();
+        Map<String, LoginAttemptCache> saves = new HashMap<>();
+        batch.forEach((username, write) -> {
+            if (write.attempt() == null) {
+                deletes.add(username);
+            } else {
+                saves.put(username, write.attempt());
+            }
+        });
+
+        if (!deletes.isEmpty()) {
+            loginAttemptRepository.deleteAllByUsernameIn(deletes);
+        }
+
+        if (saves.isEmpty()) {
+            return;
+        }
+
+        Map<String, LoginAttempt> existing = loginAttemptRepository.findAllByUsernameIn(saves.keySet()).stream()
+                .collect(Collectors.toMap(LoginAttempt::getUsername, Function.identity(), (first, second) -> first));
+
+        List<LoginAttempt> entities = saves.values().stream()
+                .map(attempt -> apply(existing.get(attempt.getUsername()), attempt))
+                .toList();
+        loginAttemptRepository.saveAll(entities);
+    }
+
+    private LoginAttempt apply(LoginAttempt entity, LoginAttemptCache attempt) {
+        LoginAttempt target = entity != null ? entity : LoginAttempt.builder()
+                .username(attempt.getUsername())
+                .build();
+
+        target.setAttemptCount(attempt.getAttemptCount());
+        target.setFirstAttemptTime(toDateTime(attempt.getFirstAttemptMillis()));
+        target.setLastAttemptTime(toDateTime(attempt.getLastAttemptMillis()));
+        target.setLockedUntil(attempt.getLockedUntilMillis() != 0 ? toDateTime(attempt.getLockedUntilMillis()) : null);
+        return target;
+    }
+
+    private LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private record PendingWrite(LoginAttemptCache attempt, long enqueuedAt) {
+    }
+}
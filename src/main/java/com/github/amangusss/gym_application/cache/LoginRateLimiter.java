@@ -0,0 +1,95 @@
+package com.github.amangusss.gym_application.cache;
+
+import com.github.amangusss.gym_application.exception.TooManyRequestsException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component("loginRateLimiter")
+public class LoginRateLimiter {
+
+    private final BucketGroup ipBuckets;
+    private final BucketGroup usernameBuckets;
+
+    public LoginRateLimiter(@Value("${security.rate-limit.ip.capacity:20}") int ipCapacity,
+                            @Value("${security.rate-limit.ip.refill-per-minute:20}") int ipRefillPerMinute,
+                            @Value("${security.rate-limit.username.capacity:10}") int usernameCapacity,
+                            @Value("${security.rate-limit.username.refill-per-minute:5}") int usernameRefillPerMinute,
+                            @Value("${security.rate-limit.max-tracked-keys:100000}") long maxTrackedKeys) {
+        if (ipCapacity < 1 || ipRefillPerMinute < 1 || usernameCapacity < 1 || usernameRefillPerMinute < 1) {
+            throw new IllegalArgumentException("Rate limit capacities and refill rates must be positive");
+        }
+
+        this.ipBuckets = new BucketGroup(ipCapacity, ipRefillPerMinute, maxTrackedKeys);
+        this.usernameBuckets = new BucketGroup(usernameCapacity, usernameRefillPerMinute, maxTrackedKeys);
+
+        log.debug("Login rate limiter created: ip {}/{} per min, username {}/{} per min, max {} keys",
+                ipCapacity, ipRefillPerMinute, usernameCapacity, usernameRefillPerMinute, maxTrackedKeys);
+    }
+
+    public void checkLogin(String clientIp, String username) {
+        long now = System.currentTimeMillis();
+
+        long ipWaitMillis = ipBuckets.tryAcquire(clientIp, now);
+        if (ipWaitMillis > 0) {
+            log.warn("Login rate limit exceeded for client {}", clientIp);
+            throw new TooManyRequestsException("Too many login attempts from this client", toSeconds(ipWaitMillis));
+        }
+
+        long usernameWaitMillis = usernameBuckets.tryAcquire(username, now);
+        if (usernameWaitMillis > 0) {
+            log.warn("Login rate limit exceeded for user {}", username);
+            throw new TooManyRequestsException("Too many login attempts for this user", toSeconds(usernameWaitMillis));
+        }
+    }
+
+    public void clear() {
+        ipBuckets.buckets.invalidateAll();
+        usernameBuckets.buckets.invalidateAll();
+    }
+
+    private static long toSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    private static final class BucketGroup {
+
+        private final int capacity;
+        private final double tokensPerMilli;
+        private final Cache<String, Bucket> buckets;
+
+        private BucketGroup(int capacity, int refillPerMinute, long maxTrackedKeys) {
+            this.capacity = capacity;
+            this.tokensPerMilli = refillPerMinute / 60_000.0;
+            long fullRefillMillis = (long) Math.ceil(capacity / tokensPerMilli);
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxTrackedKeys)
+                    .expireAfterAccess(Duration.ofMillis(fullRefillMillis))
+                    .build();
+        }
+
+        private long tryAcquire(String key, long now) {
+            Bucket bucket = buckets.asMap().compute(key, (k, current) -> {
+                double tokens = current == null
+                        ? capacity
+                        : Math.min(capacity, current.tokens() + (now - current.refilledAtMillis()) * tokensPerMilli);
+                return tokens >= 1
+                        ? new Bucket(tokens - 1, now, true)
+                        : new Bucket(tokens, now, false);
+            });
+
+            return bucket.granted() ? 0 : (long) Math.ceil((1 - bucket.tokens()) / tokensPerMilli);
+        }
+    }
+
+    private record Bucket(double tokens, long refilledAtMillis, boolean granted) {
+    }
+}
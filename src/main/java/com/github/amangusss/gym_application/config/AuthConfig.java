@@ -1,14 +1,20 @@
 package com.github.amangusss.gym_application.config;
 
+import com.github.amangusss.gym_application.metrics.PasswordHashingMetrics;
+import com.github.amangusss.gym_application.util.credentials.BoundedPasswordEncoder;
+
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -19,11 +25,15 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class AuthConfig {
 
     UserDetailsService userDetailsService;
+    UserDetailsPasswordService userDetailsPasswordService;
+    UserCache userCache;
 
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
+        authProvider.setUserCache(userCache);
         return authProvider;
     }
 
@@ -32,8 +42,13 @@ public class AuthConfig {
         return config.getAuthenticationManager();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(PasswordHashingMetrics passwordHashingMetrics,
+                                           @Value("${security.bcrypt.strength:12}") int strength,
+                                           @Value("${security.bcrypt.threads:0}") int threads,
+                                           @Value("${security.bcrypt.queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), passwordHashingMetrics,
+                poolSize, queueCapacity);
     }
 }
@@ -17,17 +17,14 @@ import java.time.Duration;
 @EnableCaching
 public class CacheConfig {
 
-    public static final String LOGIN_ATTEMPTS_CACHE = "loginAttempts";
-
     @Bean
     public CacheManager cacheManager() {
         log.info("Initializing Caffeine Cache Manager");
 
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(LOGIN_ATTEMPTS_CACHE);
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.setCaffeine(caffeineCacheBuilder());
         cacheManager.setAllowNullValues(false);
 
-        log.debug("Caffeine Cache Manager configured with cache: {}", LOGIN_ATTEMPTS_CACHE);
         return cacheManager;
     }
 
@@ -1,6 +1,12 @@
 package com.github.amangusss.gym_application.config;
 
+import com.github.amangusss.gym_application.jms.converter.WorkloadBinaryMessageConverter;
+import com.github.amangusss.gym_application.metrics.JmsPoolMetrics;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.messaginghub.pooled.jms.JmsPoolConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jms.annotation.EnableJms;
@@ -13,11 +19,41 @@ import org.springframework.jms.support.converter.MessageType;
 public class JmsConfig {
 
     @Bean
-    public MessageConverter jacksonJmsMessageConverter(ObjectMapper objectMapper) {
-        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
-        converter.setTargetType(MessageType.TEXT);
-        converter.setTypeIdPropertyName("_type");
-        converter.setObjectMapper(objectMapper);
-        return converter;
+    public MessageConverter jmsMessageConverter(ObjectMapper objectMapper,
+                                                @Value("${app.jms.message-format:json}") String messageFormat) {
+        MappingJackson2MessageConverter jsonConverter = new MappingJackson2MessageConverter();
+        jsonConverter.setTargetType(MessageType.TEXT);
+        jsonConverter.setTypeIdPropertyName("_type");
+        jsonConverter.setObjectMapper(objectMapper);
+
+        return switch (messageFormat.toLowerCase()) {
+            case "json" -> jsonConverter;
+            case "binary" -> new WorkloadBinaryMessageConverter(jsonConverter);
+            default -> throw new IllegalArgumentException("Unsupported JMS message format: " + messageFormat);
+        };
+    }
+
+    @Bean(destroyMethod = "stop")
+    public JmsPoolConnectionFactory jmsConnectionFactory(
+            JmsPoolMetrics jmsPoolMetrics,
+            @Value("${spring.activemq.broker-url}") String brokerUrl,
+            @Value("${spring.activemq.user:#{null}}") String user,
+            @Value("${spring.activemq.password:#{null}}") String password,
+            @Value("${spring.activemq.packages.trust-all:false}") boolean trustAllPackages,
+            @Value("${app.jms.pool.max-connections:4}") int maxConnections,
+            @Value("${app.jms.pool.max-sessions-per-connection:50}") int maxSessionsPerConnection,
+            @Value("${app.jms.pool.idle-timeout-ms:30000}") int idleTimeoutMillis) {
+        ActiveMQConnectionFactory target = new ActiveMQConnectionFactory(user, password, brokerUrl);
+        target.setTrustAllPackages(trustAllPackages);
+
+        JmsPoolConnectionFactory pool = new JmsPoolConnectionFactory();
+        pool.setConnectionFactory(target);
+        pool.setMaxConnections(maxConnections);
+        pool.setMaxSessionsPerConnection(maxSessionsPerConnection);
+        pool.setConnectionIdleTimeout(idleTimeoutMillis);
+        pool.setUseAnonymousProducers(true);
+
+        jmsPoolMetrics.bindPool(pool);
+        return pool;
     }
 }
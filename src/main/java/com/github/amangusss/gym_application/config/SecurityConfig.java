@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -32,7 +33,9 @@ public class SecurityConfig {
 
     private static final String[] PUBLIC_ROUTES = {
             "/api/trainees/register",
+            "/api/trainees/register/batch",
             "/api/trainers/register",
+            "/api/trainers/register/batch",
             "/api/auth/login",
             "/v3/api-docs/**",
             "/swagger-ui/**",
@@ -40,8 +43,12 @@ public class SecurityConfig {
             "/actuator/**"
     };
 
+    private static final String ADMIN_ROUTES = "/api/admin/**";
+
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   @Value("${security.admin-authority:ROLE_ADMIN}") String adminAuthority)
+            throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -49,6 +56,7 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(PUBLIC_ROUTES).permitAll()
+                        .requestMatchers(ADMIN_ROUTES).hasAuthority(adminAuthority)
                         .anyRequest().authenticated())
                 .authenticationProvider(authenticationProvider)
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
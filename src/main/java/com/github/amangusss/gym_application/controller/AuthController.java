@@ -3,6 +3,7 @@ package com.github.amangusss.gym_application.controller;
 import com.github.amangusss.dto.generated.LoginRequest;
 import com.github.amangusss.dto.generated.LoginResponse;
 import com.github.amangusss.dto.generated.ChangePasswordRequest;
+import com.github.amangusss.gym_application.cache.LoginRateLimiter;
 import com.github.amangusss.gym_application.dto.auth.AuthDTO;
 import com.github.amangusss.gym_application.service.AuthService;
 
@@ -10,6 +11,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 import lombok.AccessLevel;
@@ -38,14 +40,18 @@ import java.util.UUID;
 public class AuthController {
 
     AuthService authService;
+    LoginRateLimiter loginRateLimiter;
 
     @PostMapping("/login")
     @Operation(summary = "Login", description = "Authenticates user (trainee or trainer) with username and password. Returns JWT token.")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request,
+                                               HttpServletRequest httpRequest) {
 
         String transactionId = UUID.randomUUID().toString();
         log.info("[Transaction: {}] POST /api/auth/login - user: {}", transactionId, request.getUsername());
 
+        loginRateLimiter.checkLogin(httpRequest.getRemoteAddr(), request.getUsername());
+
         AuthDTO.Request.Login internalRequest = new AuthDTO.Request.Login(
                 request.getUsername(),
                 request.getPassword()
@@ -92,7 +98,7 @@ public class AuthController {
         String username = authentication.getName();
         log.info("[Transaction: {}] POST /api/auth/logout - user: {}", transactionId, username);
 
-        authService.logout(username);
+        authService.logout(username, (String) authentication.getCredentials());
 
         log.info("[Transaction: {}] Response: 200 OK", transactionId);
         return ResponseEntity.ok(new AuthDTO.Response.Logout("Logged out successfully"));
@@ -15,6 +15,8 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +26,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -32,6 +35,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -39,12 +43,15 @@ import java.util.UUID;
 
 @Slf4j
 @RestController
+@Validated
 @RequestMapping("/api/trainees")
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 @Tag(name = "Trainee", description = "Trainee management APIs")
 public class TraineeController {
 
+    private static final int MAX_BATCH_ROWS = 500;
+
     TraineeService traineeService;
     TraineeMetrics traineeMetrics;
     MetricsExecutor metricsExecutor;
@@ -76,6 +83,39 @@ public class TraineeController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping(value = "/register/batch", consumes = "application/json", produces = "application/json")
+    @Operation(summary = "Register trainees in batch", description = "Creates trainee profiles for every row and returns generated credentials or a per-row error")
+    public ResponseEntity<List<BatchRegistrationResult>> registerTrainees(
+            @RequestBody @Size(min = 1, max = MAX_BATCH_ROWS) List<@NotNull @Valid TraineeRegistrationRequest> requests) {
+
+        String transactionId = UUID.randomUUID().toString();
+        log.info("[Transaction: {}] POST /api/trainees/register/batch with {} rows", transactionId, requests.size());
+
+        List<TraineeDTO.Request.Register> internalRequests = requests.stream()
+                .map(openApiTraineeMapper::toInternalTraineeCreate)
+                .toList();
+
+        List<TraineeDTO.Response.BatchRegistered> internalResponse = metricsExecutor.executeWithMetrics(
+                MetricsExecutor.MetricsContext.builder()
+                        .operation("register_trainees_batch")
+                        .endpoint("/api/trainees/register/batch")
+                        .method("POST")
+                        .build(),
+                () -> traineeService.createTrainees(internalRequests),
+                result -> result.stream()
+                        .filter(row -> row.error() == null)
+                        .forEach(row -> traineeMetrics.incrementTraineeRegistered()),
+                ex -> traineeMetrics.incrementTraineeOperationFailed("register_batch")
+        );
+
+        List<BatchRegistrationResult> response = internalResponse.stream()
+                .map(openApiTraineeMapper::toGeneratedBatchRegistrationResult)
+                .toList();
+
+        log.info("[Transaction: {}] Response: 200 OK", transactionId);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping(value = "/profile", produces = "application/json")
     @Operation(summary = "Get current trainee profile",
             description = "Retrieves the profile of the currently authenticated trainee. Username is taken from JWT token.",
@@ -135,7 +175,7 @@ public class TraineeController {
     }
 
     @GetMapping(value = "/{username}/trainings", produces = "application/json")
-    @Operation(summary = "Get trainee trainings list", description = "Retrieves list of trainings for a trainee with optional filters. Requires JWT authentication.",
+    @Operation(summary = "Get trainee trainings list", description = "Retrieves list of trainings for a trainee with optional filters and paging. Requires JWT authentication.",
             security = @SecurityRequirement(name = "Bearer Authentication"))
     public ResponseEntity<List<TrainingResponse>> getTraineeTrainings(
             @Parameter(description = "Trainee username") @PathVariable String username,
@@ -158,7 +198,8 @@ public class TraineeController {
                         .method("GET")
                         .build(),
                 () -> traineeService.getTraineeTrainings(
-                        username, filter.periodFrom(), filter.periodTo(), filter.trainerName(), filter.trainingType()),
+                        username, filter.periodFrom(), filter.periodTo(), filter.trainerName(), filter.trainingType(),
+                        filter.page(), filter.size()),
                 result -> traineeMetrics.recordTraineeTrainingsQuery(username),
                 null
         );
@@ -172,10 +213,12 @@ public class TraineeController {
     }
 
     @GetMapping(value = "/{username}/trainers/unassigned", produces = "application/json")
-    @Operation(summary = "Get unassigned trainers", description = "Retrieves list of active trainers not assigned to the trainee. Requires JWT authentication.",
+    @Operation(summary = "Get unassigned trainers", description = "Retrieves list of active trainers not assigned to the trainee with optional paging. Requires JWT authentication.",
             security = @SecurityRequirement(name = "Bearer Authentication"))
     public ResponseEntity<List<TrainerUnassignedResponse>> getUnassignedTrainers(
             @Parameter(description = "Trainee username") @PathVariable String username,
+            @Parameter(description = "Zero-based page index") @RequestParam(required = false) Integer page,
+            @Parameter(description = "Page size") @RequestParam(required = false) Integer size,
             Authentication authentication) {
 
         String transactionId = UUID.randomUUID().toString();
@@ -191,7 +234,7 @@ public class TraineeController {
                         .endpoint("/api/trainees/{username}/trainers/unassigned")
                         .method("GET")
                         .build(),
-                () -> traineeService.getUnassignedTrainers(username),
+                () -> traineeService.getUnassignedTrainers(username, page, size),
                 result -> traineeMetrics.recordUnassignedTrainersQuery(username),
                 null
         );
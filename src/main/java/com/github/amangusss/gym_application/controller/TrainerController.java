@@ -14,6 +14,8 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -37,12 +40,15 @@ import java.util.UUID;
 
 @Slf4j
 @RestController
+@Validated
 @RequestMapping("/api/trainers")
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 @Tag(name = "Trainer", description = "Trainer management APIs")
 public class TrainerController {
 
+    private static final int MAX_BATCH_ROWS = 500;
+
     TrainerService trainerService;
     TrainerMetrics trainerMetrics;
     MetricsExecutor metricsExecutor;
@@ -78,6 +84,42 @@ public class TrainerController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping(value = "/register/batch", consumes = "application/json", produces = "application/json")
+    @Operation(summary = "Register trainers in batch", description = "Creates trainer profiles for every row and returns generated credentials or a per-row error")
+    public ResponseEntity<List<BatchRegistrationResult>> registerTrainers(
+            @RequestBody @Size(min = 1, max = MAX_BATCH_ROWS) List<@NotNull @Valid TrainerRegistrationRequest> requests) {
+
+        String transactionId = UUID.randomUUID().toString();
+        log.info("[Transaction: {}] POST /api/trainers/register/batch with {} rows", transactionId, requests.size());
+
+        List<TrainerDTO.Request.Register> internalRequests = requests.stream()
+                .map(openApiTrainerMapper::toInternalTrainerCreate)
+                .toList();
+
+        List<TrainerDTO.Response.BatchRegistered> internalResponse = metricsExecutor.executeWithMetrics(
+                MetricsExecutor.MetricsContext.builder()
+                        .operation("register_trainers_batch")
+                        .endpoint("/api/trainers/register/batch")
+                        .method("POST")
+                        .build(),
+                () -> trainerService.registerTrainers(internalRequests),
+                result -> result.stream()
+                        .filter(row -> row.error() == null)
+                        .forEach(row -> {
+                            trainerMetrics.incrementTrainerRegistered();
+                            trainerMetrics.recordTrainerBySpecialization(internalRequests.get(row.index()).specialization());
+                        }),
+                ex -> trainerMetrics.incrementTrainerOperationFailed("register_batch")
+        );
+
+        List<BatchRegistrationResult> response = internalResponse.stream()
+                .map(openApiTrainerMapper::toGeneratedBatchRegistrationResult)
+                .toList();
+
+        log.info("[Transaction: {}] Response: 200 OK", transactionId);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping(value = "/profile", produces = "application/json")
     @Operation(summary = "Get current trainer profile",
             description = "Retrieves the profile of the currently authenticated trainer. Username is taken from JWT token.",
@@ -201,7 +243,7 @@ public class TrainerController {
     }
 
     @GetMapping(value = "/{username}/trainings", produces = "application/json")
-    @Operation(summary = "Get trainer trainings list", description = "Retrieves list of trainings for a trainer with optional filters. Requires JWT authentication.",
+    @Operation(summary = "Get trainer trainings list", description = "Retrieves list of trainings for a trainer with optional filters and paging. Requires JWT authentication.",
             security = @SecurityRequirement(name = "Bearer Authentication"))
     public ResponseEntity<List<TrainingResponse>> getTrainerTrainings(
             @Parameter(description = "Trainer username") @PathVariable String username,
@@ -222,7 +264,8 @@ public class TrainerController {
                         .method("GET")
                         .build(),
                 () -> trainerService.getTrainerTrainings(
-                        username, filter.periodFrom(), filter.periodTo(), filter.traineeName()),
+                        username, filter.periodFrom(), filter.periodTo(), filter.traineeName(),
+                        filter.page(), filter.size()),
                 result -> trainerMetrics.recordTrainerTrainingsQuery(username),
                 null
         );
@@ -0,0 +1,98 @@
+package com.github.amangusss.gym_application.controller;
+
+import com.github.amangusss.gym_application.dto.workload.WorkloadDlqDTO;
+import com.github.amangusss.gym_application.jms.service.WorkloadDlqService;
+import com.github.amangusss.gym_application.metrics.MetricsExecutor;
+import com.github.amangusss.gym_application.metrics.WorkloadDlqMetrics;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/workload-dlq")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@Tag(name = "Workload DLQ", description = "Dead-lettered workload message inspection and redrive APIs")
+public class WorkloadDlqController {
+
+    WorkloadDlqService workloadDlqService;
+    WorkloadDlqMetrics workloadDlqMetrics;
+    MetricsExecutor metricsExecutor;
+
+    @GetMapping(produces = "application/json")
+    @Operation(summary = "List dead letters", description = "Lists stored dead-lettered workload messages, newest first. Requires JWT authentication with the admin authority.",
+            security = @SecurityRequirement(name = "Bearer Authentication"))
+    public ResponseEntity<List<WorkloadDlqDTO.Response.DeadLetter>> getDeadLetters(
+            @Parameter(description = "Exact error reason") @RequestParam(required = false) String errorReason,
+            @Parameter(description = "PENDING, REDRIVEN or UNREADABLE") @RequestParam(required = false) String status,
+            @Parameter(description = "Received at or after (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Received at or before (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Zero-based page index") @RequestParam(required = false) Integer page,
+            @Parameter(description = "Page size") @RequestParam(required = false) Integer size) {
+
+        String transactionId = UUID.randomUUID().toString();
+        log.info("[Transaction: {}] GET /api/admin/workload-dlq", transactionId);
+
+        List<WorkloadDlqDTO.Response.DeadLetter> response = metricsExecutor.executeWithMetrics(
+                MetricsExecutor.MetricsContext.builder()
+                        .operation("get_workload_dead_letters")
+                        .endpoint("/api/admin/workload-dlq")
+                        .method("GET")
+                        .build(),
+                () -> workloadDlqService.getDeadLetters(errorReason, status, from, to, page, size),
+                result -> workloadDlqMetrics.incrementDeadLetterQueries(),
+                ex -> workloadDlqMetrics.incrementOperationFailed("list")
+        );
+
+        log.info("[Transaction: {}] Response: 200 OK", transactionId);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/redrive", produces = "application/json")
+    @Operation(summary = "Redrive dead letters", description = "Sends the selected pending dead letters, or all of them when no ids are given, back to the workload queue at the configured rate. Requires JWT authentication with the admin authority.",
+            security = @SecurityRequirement(name = "Bearer Authentication"))
+    public ResponseEntity<WorkloadDlqDTO.Response.Redrive> redrive(
+            @RequestBody(required = false) WorkloadDlqDTO.Request.Redrive request) {
+
+        String transactionId = UUID.randomUUID().toString();
+        log.info("[Transaction: {}] POST /api/admin/workload-dlq/redrive", transactionId);
+
+        WorkloadDlqDTO.Response.Redrive response = metricsExecutor.executeWithMetrics(
+                MetricsExecutor.MetricsContext.builder()
+                        .operation("redrive_workload_dead_letters")
+                        .endpoint("/api/admin/workload-dlq/redrive")
+                        .method("POST")
+                        .build(),
+                () -> workloadDlqService.redrive(request != null ? request.ids() : null),
+                result -> workloadDlqMetrics.incrementRedriveRequested(),
+                ex -> workloadDlqMetrics.incrementOperationFailed("redrive")
+        );
+
+        log.info("[Transaction: {}] Response: 202 Accepted", transactionId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+}
@@ -44,6 +44,13 @@ public class TraineeDTO {
                 String password
         ) {}
 
+        public record BatchRegistered(
+                int index,
+                String username,
+                String password,
+                String error
+        ) {}
+
         public record Profile(
                 String firstName,
                 String lastName,
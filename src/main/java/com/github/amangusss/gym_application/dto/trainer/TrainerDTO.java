@@ -37,6 +37,13 @@ public class TrainerDTO {
                 String password
         ) {}
 
+        public record BatchRegistered(
+                int index,
+                String username,
+                String password,
+                String error
+        ) {}
+
         public record Profile(
                 String firstName,
                 String lastName,
@@ -24,14 +24,18 @@ public class TrainingDTO {
         public record TrainerTrainingsFilter(
                 LocalDate periodFrom,
                 LocalDate periodTo,
-                String traineeName
+                String traineeName,
+                Integer page,
+                Integer size
         ) {}
 
         public record TraineeTrainingsFilter(
                 LocalDate periodFrom,
                 LocalDate periodTo,
                 String trainerName,
-                String trainingType
+                String trainingType,
+                Integer page,
+                Integer size
         ) {}
     }
 
@@ -0,0 +1,36 @@
+package com.github.amangusss.gym_application.dto.workload;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class WorkloadDlqDTO {
+
+    private WorkloadDlqDTO() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static class Request {
+        public record Redrive(
+                List<Long> ids
+        ) {}
+    }
+
+    public static class Response {
+        public record DeadLetter(
+                Long id,
+                String messageId,
+                String transactionId,
+                String errorReason,
+                String body,
+                LocalDateTime receivedAt,
+                String status,
+                int redriveAttempts,
+                LocalDateTime redrivenAt,
+                String lastRedriveError
+        ) {}
+
+        public record Redrive(
+                long queued
+        ) {}
+    }
+}
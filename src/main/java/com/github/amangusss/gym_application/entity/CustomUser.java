@@ -4,7 +4,10 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
 import lombok.AllArgsConstructor;
@@ -15,6 +18,7 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 
+import java.util.Locale;
 import java.util.Objects;
 
 @Getter
@@ -29,7 +33,8 @@ import java.util.Objects;
 public class CustomUser {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_id_seq", allocationSize = 50)
     Long id;
 
     @Column(name = "first_name", nullable = false)
@@ -48,6 +53,20 @@ public class CustomUser {
     @Column(nullable = false)
     String password;
 
+    @Setter(lombok.AccessLevel.NONE)
+    @Column(name = "search_name", nullable = false, length = 201)
+    String searchName;
+
+    @PrePersist
+    @PreUpdate
+    void updateSearchName() {
+        searchName = normalizeSearchName(Objects.toString(firstName, "").trim() + " " + Objects.toString(lastName, "").trim());
+    }
+
+    public static String normalizeSearchName(String name) {
+        return name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,43 @@
+package com.github.amangusss.gym_application.entity.auth;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "revoked_tokens")
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE)
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "revoked_tokens_seq")
+    @SequenceGenerator(name = "revoked_tokens_seq", sequenceName = "revoked_tokens_id_seq", allocationSize = 50)
+    Long id;
+
+    @Column(name = "token_id", nullable = false, unique = true, length = 36)
+    String tokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    LocalDateTime revokedAt;
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.Table;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Column;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
@@ -43,7 +44,8 @@ import java.util.Set;
 public class Trainee {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trainees_seq")
+    @SequenceGenerator(name = "trainees_seq", sequenceName = "trainees_id_seq", allocationSize = 50)
     Long id;
 
     @OneToOne(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
@@ -11,6 +11,7 @@ import jakarta.persistence.Table;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
@@ -42,7 +43,8 @@ import java.util.Set;
 public class Trainer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trainers_seq")
+    @SequenceGenerator(name = "trainers_seq", sequenceName = "trainers_id_seq", allocationSize = 50)
     Long id;
 
     @OneToOne(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
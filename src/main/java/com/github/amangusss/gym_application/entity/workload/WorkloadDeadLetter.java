@@ -0,0 +1,70 @@
+package com.github.amangusss.gym_application.entity.workload;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "workload_dead_letters")
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE)
+public class WorkloadDeadLetter {
+
+    public enum Status {
+        PENDING,
+        REDRIVEN,
+        UNREADABLE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workload_dead_letters_seq")
+    @SequenceGenerator(name = "workload_dead_letters_seq", sequenceName = "workload_dead_letters_id_seq", allocationSize = 50)
+    Long id;
+
+    @Column(name = "message_id", nullable = false, unique = true, length = 100)
+    String messageId;
+
+    @Column(name = "transaction_id", length = 64)
+    String transactionId;
+
+    @Column(name = "error_reason", length = 500)
+    String errorReason;
+
+    @Column(columnDefinition = "TEXT")
+    String body;
+
+    @Column(name = "received_at", nullable = false)
+    LocalDateTime receivedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    Status status;
+
+    @Column(name = "redrive_attempts", nullable = false)
+    int redriveAttempts;
+
+    @Column(name = "redriven_at")
+    LocalDateTime redrivenAt;
+
+    @Column(name = "last_redrive_error", length = 500)
+    String lastRedriveError;
+}
@@ -0,0 +1,61 @@
+package com.github.amangusss.gym_application.entity.workload;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "workload_outbox")
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE)
+public class WorkloadOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workload_outbox_seq")
+    @SequenceGenerator(name = "workload_outbox_seq", sequenceName = "workload_outbox_id_seq", allocationSize = 50)
+    Long id;
+
+    @Column(name = "trainer_username", nullable = false, length = 100)
+    String trainerUsername;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    String payload;
+
+    @Column(name = "transaction_id", length = 64)
+    String transactionId;
+
+    @Column(name = "created_at", nullable = false)
+    LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    String lastError;
+
+    @Column(name = "claimed_by", length = 100)
+    String claimedBy;
+
+    @Column(name = "claimed_until")
+    LocalDateTime claimedUntil;
+}
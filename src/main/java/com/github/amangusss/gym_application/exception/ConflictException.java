@@ -0,0 +1,8 @@
+package com.github.amangusss.gym_application.exception;
+
+public class ConflictException extends GymApplicationException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.github.amangusss.gym_application.exception;
+
+public class ServiceUnavailableException extends GymApplicationException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.amangusss.gym_application.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends GymApplicationException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,152 @@
+package com.github.amangusss.gym_application.jms.converter;
+
+import com.github.amangusss.gym_application.dto.workload.WorkloadDTO;
+import jakarta.jms.BytesMessage;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+import org.springframework.jms.support.converter.MessageConversionException;
+import org.springframework.jms.support.converter.MessageConverter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+
+public class WorkloadBinaryMessageConverter implements MessageConverter {
+
+    public static final String FORMAT_PROPERTY = "_format";
+    public static final String FORMAT = "workload-binary";
+    public static final byte SCHEMA_VERSION = 1;
+
+    private static final int HAS_IS_ACTIVE = 1;
+    private static final int HAS_TRAINING_DATE = 1 << 1;
+    private static final int HAS_TRAINING_DURATION = 1 << 2;
+    private static final int HAS_ACTION_TYPE = 1 << 3;
+    private static final int IS_ACTIVE = 1 << 4;
+
+    private static final int ACTION_ADD = 0;
+    private static final int ACTION_DELETE = 1;
+
+    private final MessageConverter fallback;
+
+    public WorkloadBinaryMessageConverter(MessageConverter fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Message toMessage(Object object, Session session) throws JMSException {
+        if (!(object instanceof WorkloadDTO.Request.Workload workload)) {
+            return fallback.toMessage(object, session);
+        }
+
+        BytesMessage message = session.createBytesMessage();
+        message.writeBytes(encode(workload));
+        message.setStringProperty(FORMAT_PROPERTY, FORMAT);
+        return message;
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws JMSException {
+        if (!(message instanceof BytesMessage bytesMessage) || !FORMAT.equals(message.getStringProperty(FORMAT_PROPERTY))) {
+            return fallback.fromMessage(message);
+        }
+
+        byte[] payload = new byte[(int) bytesMessage.getBodyLength()];
+        bytesMessage.readBytes(payload);
+        return decode(payload);
+    }
+
+    public byte[] encode(WorkloadDTO.Request.Workload workload) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(SCHEMA_VERSION);
+            out.writeByte(flags(workload));
+            writeString(out, workload.username());
+            writeString(out, workload.firstName());
+            writeString(out, workload.lastName());
+            if (workload.trainingDate() != null) {
+                out.writeInt((int) workload.trainingDate().toEpochDay());
+            }
+            if (workload.trainingDuration() != null) {
+                out.writeDouble(workload.trainingDuration());
+            }
+            if (workload.actionType() != null) {
+                out.writeByte(actionCode(workload.actionType()));
+            }
+        } catch (IOException e) {
+            throw new MessageConversionException("Cannot encode workload for trainer " + workload.username(), e);
+        }
+        return buffer.toByteArray();
+    }
+
+    public WorkloadDTO.Request.Workload decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version != SCHEMA_VERSION) {
+                throw new MessageConversionException("Unsupported workload schema version: " + version);
+            }
+
+            int flags = in.readUnsignedByte();
+            return WorkloadDTO.Request.Workload.builder()
+                    .username(readString(in))
+                    .firstName(readString(in))
+                    .lastName(readString(in))
+                    .isActive((flags & HAS_IS_ACTIVE) != 0 ? (flags & IS_ACTIVE) != 0 : null)
+                    .trainingDate((flags & HAS_TRAINING_DATE) != 0 ? LocalDate.ofEpochDay(in.readInt()) : null)
+                    .trainingDuration((flags & HAS_TRAINING_DURATION) != 0 ? in.readDouble() : null)
+                    .actionType((flags & HAS_ACTION_TYPE) != 0 ? actionType(in.readUnsignedByte()) : null)
+                    .build();
+        } catch (IOException e) {
+            throw new MessageConversionException("Cannot decode workload message", e);
+        }
+    }
+
+    private static int flags(WorkloadDTO.Request.Workload workload) {
+        int flags = 0;
+        if (workload.isActive() != null) {
+            flags |= HAS_IS_ACTIVE;
+            if (workload.isActive()) {
+                flags |= IS_ACTIVE;
+            }
+        }
+        if (workload.trainingDate() != null) {
+            flags |= HAS_TRAINING_DATE;
+        }
+        if (workload.trainingDuration() != null) {
+            flags |= HAS_TRAINING_DURATION;
+        }
+        if (workload.actionType() != null) {
+            flags |= HAS_ACTION_TYPE;
+        }
+        return flags;
+    }
+
+    private static int actionCode(WorkloadDTO.ActionType actionType) {
+        return switch (actionType) {
+            case ADD -> ACTION_ADD;
+            case DELETE -> ACTION_DELETE;
+        };
+    }
+
+    private static WorkloadDTO.ActionType actionType(int code) {
+        return switch (code) {
+            case ACTION_ADD -> WorkloadDTO.ActionType.ADD;
+            case ACTION_DELETE -> WorkloadDTO.ActionType.DELETE;
+            default -> throw new MessageConversionException("Unknown workload action type code: " + code);
+        };
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,186 @@
+package com.github.amangusss.gym_application.jms.dlq;
+
+import com.github.amangusss.gym_application.dto.workload.WorkloadDTO;
+import com.github.amangusss.gym_application.entity.workload.WorkloadDeadLetter;
+import com.github.amangusss.gym_application.exception.ConflictException;
+import com.github.amangusss.gym_application.jms.service.WorkloadMessageProducer;
+import com.github.amangusss.gym_application.metrics.WorkloadDlqMetrics;
+import com.github.amangusss.gym_application.repository.WorkloadDeadLetterRepository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component("workloadDlqRedriver")
+public class WorkloadDlqRedriver {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final WorkloadDeadLetterRepository deadLetterRepository;
+    private final WorkloadMessageProducer workloadMessageProducer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkloadDlqMetrics metrics;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "workload-dlq-redrive");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final int batchSize;
+    private final long sendIntervalNanos;
+
+    public WorkloadDlqRedriver(WorkloadDeadLetterRepository deadLetterRepository,
+                               WorkloadMessageProducer workloadMessageProducer,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               WorkloadDlqMetrics metrics,
+                               @Value("${app.jms.dlq.redrive.batch-size:50}") int batchSize,
+                               @Value("${app.jms.dlq.redrive.rate-per-second:20}") double ratePerSecond) {
+        if (batchSize < 1 || ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Redrive batch size and rate must be positive");
+        }
+
+        this.deadLetterRepository = deadLetterRepository;
+        this.workloadMessageProducer = workloadMessageProducer;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.metrics = metrics;
+        this.batchSize = batchSize;
+        this.sendIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+    }
+
+    public long start(List<Long> ids) {
+        if (!running.compareAndSet(false, true)) {
+            throw new ConflictException("A workload DLQ redrive is already running");
+        }
+
+        List<Long> selectedIds = ids == null || ids.isEmpty() ? null : List.copyOf(ids);
+        long pending;
+        try {
+            pending = selectedIds == null
+                    ? deadLetterRepository.countByStatus(WorkloadDeadLetter.Status.PENDING)
+                    : deadLetterRepository.countByStatusAndIdIn(WorkloadDeadLetter.Status.PENDING, selectedIds);
+            metrics.redriveStarted(pending);
+            executor.execute(() -> redrive(selectedIds));
+        } catch (RuntimeException e) {
+            running.set(false);
+            metrics.redriveFinished();
+            throw e;
+        }
+
+        log.info("Workload DLQ redrive started for {} messages", pending);
+        return pending;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void redrive(List<Long> selectedIds) {
+        long afterId = 0;
+        long nextSendAt = System.nanoTime();
+        int sent = 0;
+        int failed = 0;
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                PageRequest page = PageRequest.of(0, batchSize);
+                List<WorkloadDeadLetter> batch = selectedIds == null
+                        ? deadLetterRepository.findRedriveBatch(WorkloadDeadLetter.Status.PENDING, afterId, page)
+                        : deadLetterRepository.findRedriveBatchByIds(WorkloadDeadLetter.Status.PENDING, afterId, selectedIds, page);
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                List<WorkloadDeadLetter> processed = new ArrayList<>(batch.size());
+                try {
+                    for (WorkloadDeadLetter deadLetter : batch) {
+                        nextSendAt = throttle(nextSendAt);
+                        if (redriveOne(deadLetter)) {
+                            sent++;
+                        } else {
+                            failed++;
+                        }
+                        processed.add(deadLetter);
+                    }
+                } finally {
+                    if (!processed.isEmpty()) {
+                        transactionTemplate.executeWithoutResult(status -> deadLetterRepository.saveAll(processed));
+                        metrics.incrementRedriveBatches();
+                    }
+                }
+
+                afterId = batch.get(batch.size() - 1).getId();
+                log.debug("Workload DLQ redrive progress: {} sent, {} failed", sent, failed);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Workload DLQ redrive interrupted after {} sent, {} failed", sent, failed);
+        } catch (Exception e) {
+            log.error("Workload DLQ redrive aborted after {} sent, {} failed: {}", sent, failed, e.getMessage(), e);
+        } finally {
+            metrics.redriveFinished();
+            running.set(false);
+        }
+
+        log.info("Workload DLQ redrive finished: {} sent, {} failed", sent, failed);
+    }
+
+    private boolean redriveOne(WorkloadDeadLetter deadLetter) {
+        deadLetter.setRedriveAttempts(deadLetter.getRedriveAttempts() + 1);
+        try {
+            WorkloadDTO.Request.Workload workload = objectMapper.readValue(deadLetter.getBody(), WorkloadDTO.Request.Workload.class);
+            workloadMessageProducer.sendWorkloadMessage(workload, deadLetter.getTransactionId());
+
+            deadLetter.setStatus(WorkloadDeadLetter.Status.REDRIVEN);
+            deadLetter.setRedrivenAt(LocalDateTime.now());
+            deadLetter.setLastRedriveError(null);
+            metrics.recordRedrive(true);
+            return true;
+        } catch (Exception e) {
+            deadLetter.setLastRedriveError(truncate(e.getMessage()));
+            metrics.recordRedrive(false);
+            log.warn("[{}] Failed to redrive dead-lettered workload message {}: {}",
+                    deadLetter.getTransactionId(), deadLetter.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private long throttle(long nextSendAt) throws InterruptedException {
+        long wait = nextSendAt - System.nanoTime();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+        return Math.max(nextSendAt, System.nanoTime() - sendIntervalNanos) + sendIntervalNanos;
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
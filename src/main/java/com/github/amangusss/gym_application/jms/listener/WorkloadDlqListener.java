@@ -1,33 +1,67 @@
 package com.github.amangusss.gym_application.jms.listener;
 
+import com.github.amangusss.gym_application.jms.service.WorkloadDlqService;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.jms.BytesMessage;
 import jakarta.jms.JMSException;
 import jakarta.jms.Message;
 import jakarta.jms.TextMessage;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jms.annotation.JmsListener;
+import org.springframework.jms.support.converter.MessageConverter;
 import org.springframework.stereotype.Component;
 
+import java.util.Base64;
+
 @Slf4j
 @Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class WorkloadDlqListener {
 
+    WorkloadDlqService workloadDlqService;
+    MessageConverter messageConverter;
+    ObjectMapper objectMapper;
+
     @JmsListener(destination = "${app.jms.queue.workload-dlq}")
-    public void handleDeadLetter(Message message) {
-        try {
-            String transactionId = message.getStringProperty("transactionId");
-            String errorReason = message.getStringProperty("errorReason");
-            String effectiveTransactionId = transactionId != null ? transactionId : "N/A";
+    public void handleDeadLetter(Message message) throws JMSException {
+        String transactionId = message.getStringProperty("transactionId");
+        String errorReason = message.getStringProperty("errorReason");
+        String effectiveTransactionId = transactionId != null ? transactionId : "N/A";
+        DeadLetterBody body = readBody(message);
 
-            String body = "unknown";
-            if (message instanceof TextMessage textMessage) {
-                body = textMessage.getText();
-            }
+        log.error("[{}] Message moved to DLQ. Reason: {}. Body: {}",
+                effectiveTransactionId, errorReason, body.content());
 
-            log.error("[{}] Message moved to DLQ. Reason: {}. Body: {}",
-                    effectiveTransactionId, errorReason, body);
+        workloadDlqService.recordDeadLetter(message.getJMSMessageID(), transactionId, errorReason,
+                body.content(), body.redrivable());
+    }
 
-        } catch (JMSException e) {
-            log.error("Error reading DLQ message: {}", e.getMessage(), e);
+    private DeadLetterBody readBody(Message message) throws JMSException {
+        try {
+            Object payload = messageConverter.fromMessage(message);
+            String content = payload instanceof String text ? text : objectMapper.writeValueAsString(payload);
+            return new DeadLetterBody(content, true);
+        } catch (Exception e) {
+            log.debug("Cannot convert DLQ message {}: {}", message.getJMSMessageID(), e.getMessage());
         }
+
+        if (message instanceof TextMessage textMessage) {
+            return new DeadLetterBody(textMessage.getText(), false);
+        }
+        if (message instanceof BytesMessage bytesMessage) {
+            bytesMessage.reset();
+            byte[] raw = new byte[(int) bytesMessage.getBodyLength()];
+            bytesMessage.readBytes(raw);
+            return new DeadLetterBody(Base64.getEncoder().encodeToString(raw), false);
+        }
+        return new DeadLetterBody(null, false);
+    }
+
+    private record DeadLetterBody(String content, boolean redrivable) {
     }
 }
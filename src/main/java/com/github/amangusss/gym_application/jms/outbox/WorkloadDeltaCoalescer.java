@@ -0,0 +1,96 @@
+package com.github.amangusss.gym_application.jms.outbox;
+
+import com.github.amangusss.gym_application.dto.workload.WorkloadDTO;
+import com.github.amangusss.gym_application.metrics.WorkloadCoalescingMetrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Component("workloadDeltaCoalescer")
+public class WorkloadDeltaCoalescer {
+
+    private static final double EPSILON = 1e-9;
+
+    private final WorkloadCoalescingMetrics metrics;
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int maxEvents;
+
+    public WorkloadDeltaCoalescer(WorkloadCoalescingMetrics metrics,
+                                  @Value("${workload.coalescing.enabled:false}") boolean enabled,
+                                  @Value("${workload.coalescing.window-ms:2000}") long windowMillis,
+                                  @Value("${workload.coalescing.max-events:500}") int maxEvents) {
+        if (windowMillis < 0 || maxEvents < 1) {
+            throw new IllegalArgumentException("Coalescing window must not be negative and max events must be positive");
+        }
+
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.windowMillis = windowMillis;
+        this.maxEvents = maxEvents;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMaxEvents() {
+        return maxEvents;
+    }
+
+    public boolean isDue(LocalDateTime oldestCreatedAt, int pendingEvents, LocalDateTime now) {
+        return !enabled
+                || pendingEvents >= maxEvents
+                || !oldestCreatedAt.plusNanos(windowMillis * 1_000_000).isAfter(now);
+    }
+
+    public static boolean isCoalescable(WorkloadDTO.Request.Workload workload) {
+        return workload.trainingDate() != null;
+    }
+
+    public static YearMonth keyOf(WorkloadDTO.Request.Workload workload) {
+        return YearMonth.from(workload.trainingDate());
+    }
+
+    public Optional<WorkloadDTO.Request.Workload> coalesce(List<WorkloadDTO.Request.Workload> workloads) {
+        if (workloads.isEmpty()) {
+            throw new IllegalArgumentException("Nothing to coalesce");
+        }
+
+        WorkloadDTO.Request.Workload latest = workloads.get(workloads.size() - 1);
+        double netDuration = workloads.stream()
+                .mapToDouble(WorkloadDeltaCoalescer::signedDuration)
+                .sum();
+
+        if (Math.abs(netDuration) < EPSILON) {
+            metrics.recordWindow(workloads.size(), false);
+            log.debug("Workload deltas for trainer {} in {} cancelled out across {} events",
+                    latest.username(), keyOf(latest), workloads.size());
+            return Optional.empty();
+        }
+
+        metrics.recordWindow(workloads.size(), true);
+        return Optional.of(WorkloadDTO.Request.Workload.builder()
+                .username(latest.username())
+                .firstName(latest.firstName())
+                .lastName(latest.lastName())
+                .isActive(latest.isActive())
+                .trainingDate(latest.trainingDate())
+                .trainingDuration(Math.abs(netDuration))
+                .actionType(netDuration > 0 ? WorkloadDTO.ActionType.ADD : WorkloadDTO.ActionType.DELETE)
+                .build());
+    }
+
+    private static double signedDuration(WorkloadDTO.Request.Workload workload) {
+        double duration = workload.trainingDuration() != null ? workload.trainingDuration() : 0;
+        return workload.actionType() == WorkloadDTO.ActionType.DELETE ? -duration : duration;
+    }
+}
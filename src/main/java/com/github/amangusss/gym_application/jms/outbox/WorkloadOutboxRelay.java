@@ -0,0 +1,405 @@
+package com.github.amangusss.gym_application.jms.outbox;
+
+import com.github.amangusss.gym_application.dto.workload.WorkloadDTO;
+import com.github.amangusss.gym_application.entity.workload.WorkloadOutboxEvent;
+import com.github.amangusss.gym_application.metrics.WorkloadOutboxMetrics;
+import com.github.amangusss.gym_application.repository.WorkloadOutboxRepository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component("workloadOutboxRelay")
+public class WorkloadOutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final WorkloadOutboxRepository outboxRepository;
+    private final WorkloadPublishQueue publishQueue;
+    private final WorkloadDeltaCoalescer coalescer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkloadOutboxMetrics metrics;
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
+    private final Map<String, List<WorkloadOutboxEvent>> inFlight = new ConcurrentHashMap<>();
+    private final Queue<WorkloadOutboxEvent> publishedEvents = new ConcurrentLinkedQueue<>();
+    private final Queue<FailedPublish> failedPublishes = new ConcurrentLinkedQueue<>();
+    private final ExecutorService wakeUpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "workload-outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final String nodeId;
+    private final int batchSize;
+    private final long leaseMillis;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private volatile boolean flushing;
+
+    public WorkloadOutboxRelay(WorkloadOutboxRepository outboxRepository,
+                               WorkloadPublishQueue publishQueue,
+                               WorkloadDeltaCoalescer coalescer,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               WorkloadOutboxMetrics metrics,
+                               @Value("${workload.outbox.node-id:}") String nodeId,
+                               @Value("${workload.outbox.batch-size:100}") int batchSize,
+                               @Value("${workload.outbox.lease-ms:60000}") long leaseMillis,
+                               @Value("${workload.outbox.backoff-initial-ms:1000}") long initialBackoffMillis,
+                               @Value("${workload.outbox.backoff-max-ms:300000}") long maxBackoffMillis) {
+        this.outboxRepository = outboxRepository;
+        this.publishQueue = publishQueue;
+        this.coalescer = coalescer;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.metrics = metrics;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.batchSize = batchSize;
+        this.leaseMillis = leaseMillis;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+
+        log.info("Workload outbox relay claims rows as node {}", this.nodeId);
+    }
+
+    public void wakeUp() {
+        if (!wakeUpRequested.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            wakeUpExecutor.execute(() -> {
+                wakeUpRequested.set(false);
+                drain();
+            });
+        } catch (RejectedExecutionException e) {
+            wakeUpRequested.set(false);
+            log.debug("Workload outbox relay is shutting down, wake-up ignored");
+        }
+    }
+
+    @Scheduled(initialDelayString = "${workload.outbox.poll-interval-ms:1000}",
+            fixedDelayString = "${workload.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        drain();
+        try {
+            metrics.updateBacklog(outboxRepository.count());
+        } catch (Exception e) {
+            log.warn("Cannot sample workload outbox backlog: {}", e.getMessage());
+        }
+    }
+
+    public void drain() {
+        if (!drainLock.tryLock()) {
+            return;
+        }
+
+        try {
+            do {
+                applyCompletions();
+            } while (relayBatch());
+        } catch (Exception e) {
+            log.error("Error while draining workload outbox: {}", e.getMessage(), e);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wakeUpExecutor.shutdownNow();
+        flushCoalescingWindows();
+        publishQueue.shutdown();
+
+        drainLock.lock();
+        try {
+            applyCompletions();
+            releaseAbandonedClaims();
+        } catch (Exception e) {
+            log.error("Error recording workload publish results on shutdown: {}", e.getMessage(), e);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private void flushCoalescingWindows() {
+        if (!coalescer.isEnabled()) {
+            return;
+        }
+
+        drainLock.lock();
+        try {
+            flushing = true;
+            do {
+                applyCompletions();
+            } while (relayBatch());
+        } catch (Exception e) {
+            log.error("Error flushing workload coalescing windows on shutdown: {}", e.getMessage(), e);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private boolean relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        ClaimedBatch claimed = transactionTemplate.execute(status -> claimBatch(now));
+        if (claimed == null || claimed.heads() == 0) {
+            return false;
+        }
+
+        List<WorkloadOutboxEvent> unsent = new ArrayList<>();
+        List<WorkloadOutboxEvent> rejected = new ArrayList<>();
+        int submitted = 0;
+        int cancelled = 0;
+        boolean queueFull = false;
+
+        for (ClaimedWindow window : claimed.windows()) {
+            if (queueFull) {
+                unsent.addAll(window.events());
+                continue;
+            }
+
+            Optional<WorkloadDTO.Request.Workload> delta = coalescer.isEnabled()
+                    ? coalescer.coalesce(window.workloads())
+                    : Optional.of(window.workloads().get(0));
+
+            inFlight.put(window.trainer(), window.events());
+            if (delta.isEmpty()) {
+                publishedEvents.addAll(window.events());
+                cancelled++;
+                continue;
+            }
+
+            WorkloadOutboxEvent head = window.events().get(0);
+            WorkloadOutboxEvent last = window.events().get(window.events().size() - 1);
+            boolean accepted = publishQueue.submit(new WorkloadPublishQueue.PublishTask(
+                    window.trainer(), delta.get(), head.getTransactionId(), last.getId(),
+                    error -> onPublished(window.events(), error)));
+            if (accepted) {
+                submitted++;
+                continue;
+            }
+
+            inFlight.remove(window.trainer());
+            queueFull = true;
+            if (publishQueue.getOverflowPolicy() == WorkloadPublishQueue.OverflowPolicy.REJECT) {
+                window.events().forEach(event -> scheduleRetry(event, "Publish queue full", now));
+                rejected.addAll(window.events());
+            } else {
+                unsent.addAll(window.events());
+            }
+        }
+
+        if (!rejected.isEmpty() || !unsent.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                rejected.forEach(this::rescheduleClaimed);
+                if (!unsent.isEmpty()) {
+                    outboxRepository.releaseClaims(ids(unsent), nodeId);
+                }
+            });
+        }
+
+        log.debug("Workload outbox batch: {} handed to publish queue, {} cancelled out, {} rescheduled",
+                submitted, cancelled, claimed.rescheduled() + rejected.size());
+        return submitted + cancelled > 0 && claimed.heads() == batchSize;
+    }
+
+    private ClaimedBatch claimBatch(LocalDateTime now) {
+        Set<String> excludedTrainers = Set.copyOf(inFlight.keySet());
+        List<WorkloadOutboxEvent> heads = excludedTrainers.isEmpty()
+                ? outboxRepository.claimReadyHeads(now, PageRequest.of(0, batchSize))
+                : outboxRepository.claimReadyHeadsExcluding(now, excludedTrainers, PageRequest.of(0, batchSize));
+        LocalDateTime claimedUntil = now.plus(Duration.ofMillis(leaseMillis));
+
+        List<ClaimedWindow> windows = new ArrayList<>();
+        List<WorkloadOutboxEvent> changed = new ArrayList<>();
+        int rescheduled = 0;
+
+        for (WorkloadOutboxEvent head : heads) {
+            List<WorkloadOutboxEvent> events = new ArrayList<>();
+            List<WorkloadDTO.Request.Workload> workloads = new ArrayList<>();
+            try {
+                collectWindow(head, now, events, workloads);
+            } catch (Exception e) {
+                scheduleRetry(head, e.getMessage(), now);
+                changed.add(head);
+                rescheduled++;
+                continue;
+            }
+
+            if (!flushing && !coalescer.isDue(head.getCreatedAt(), events.size(), now)) {
+                continue;
+            }
+
+            for (WorkloadOutboxEvent event : events) {
+                event.setClaimedBy(nodeId);
+                event.setClaimedUntil(claimedUntil);
+            }
+            changed.addAll(events);
+            windows.add(new ClaimedWindow(head.getTrainerUsername(), events, workloads));
+        }
+
+        if (!changed.isEmpty()) {
+            outboxRepository.saveAll(changed);
+        }
+        return new ClaimedBatch(heads.size(), windows, rescheduled);
+    }
+
+    private void collectWindow(WorkloadOutboxEvent head, LocalDateTime now,
+                               List<WorkloadOutboxEvent> events,
+                               List<WorkloadDTO.Request.Workload> workloads) throws Exception {
+        WorkloadDTO.Request.Workload first = objectMapper.readValue(head.getPayload(), WorkloadDTO.Request.Workload.class);
+        events.add(head);
+        workloads.add(first);
+        if (!coalescer.isEnabled() || coalescer.getMaxEvents() <= 1 || !WorkloadDeltaCoalescer.isCoalescable(first)) {
+            return;
+        }
+
+        YearMonth window = WorkloadDeltaCoalescer.keyOf(first);
+        List<WorkloadOutboxEvent> pending = outboxRepository.claimTrainerEvents(
+                head.getTrainerUsername(), head.getId(), now, PageRequest.of(0, coalescer.getMaxEvents() - 1));
+        for (WorkloadOutboxEvent event : pending) {
+            WorkloadDTO.Request.Workload workload;
+            try {
+                workload = objectMapper.readValue(event.getPayload(), WorkloadDTO.Request.Workload.class);
+            } catch (Exception e) {
+                return;
+            }
+
+            if (WorkloadDeltaCoalescer.isCoalescable(workload) && WorkloadDeltaCoalescer.keyOf(workload).equals(window)) {
+                events.add(event);
+                workloads.add(workload);
+            }
+        }
+    }
+
+    private void onPublished(List<WorkloadOutboxEvent> events, Exception error) {
+        LocalDateTime now = LocalDateTime.now();
+        for (WorkloadOutboxEvent event : events) {
+            if (error == null) {
+                publishedEvents.add(event);
+                metrics.recordPublished(Duration.between(event.getCreatedAt(), now).toMillis());
+            } else {
+                failedPublishes.add(new FailedPublish(event, error));
+                metrics.incrementFailures();
+            }
+        }
+        wakeUp();
+    }
+
+    private void applyCompletions() {
+        List<WorkloadOutboxEvent> published = new ArrayList<>();
+        for (WorkloadOutboxEvent event; (event = publishedEvents.poll()) != null; ) {
+            published.add(event);
+        }
+
+        List<WorkloadOutboxEvent> failed = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (FailedPublish failure; (failure = failedPublishes.poll()) != null; ) {
+            WorkloadOutboxEvent event = failure.event();
+            scheduleRetry(event, failure.error().getMessage(), now);
+            failed.add(event);
+            log.warn("[{}] Failed to publish workload event {} for trainer {} (attempt {}), retry at {}: {}",
+                    event.getTransactionId(), event.getId(), event.getTrainerUsername(),
+                    event.getAttempts(), event.getNextAttemptAt(), failure.error().getMessage());
+        }
+
+        if (published.isEmpty() && failed.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!published.isEmpty()) {
+                    int deleted = outboxRepository.deleteClaimed(ids(published), nodeId);
+                    if (deleted < published.size()) {
+                        log.warn("{} published workload events were no longer claimed by node {}, left for their new owner",
+                                published.size() - deleted, nodeId);
+                    }
+                }
+                failed.forEach(this::rescheduleClaimed);
+            });
+        } finally {
+            published.forEach(event -> inFlight.remove(event.getTrainerUsername()));
+            failed.forEach(event -> inFlight.remove(event.getTrainerUsername()));
+        }
+    }
+
+    private void releaseAbandonedClaims() {
+        List<WorkloadOutboxEvent> abandoned = inFlight.values().stream()
+                .flatMap(List::stream)
+                .toList();
+        if (abandoned.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.releaseClaims(ids(abandoned), nodeId));
+        inFlight.clear();
+        log.info("Released {} unpublished workload events for other relay nodes", abandoned.size());
+    }
+
+    private void rescheduleClaimed(WorkloadOutboxEvent event) {
+        outboxRepository.rescheduleClaimed(event.getId(), nodeId, event.getAttempts(),
+                event.getNextAttemptAt(), event.getLastError());
+    }
+
+    private void scheduleRetry(WorkloadOutboxEvent event, String error, LocalDateTime now) {
+        int attempts = event.getAttempts() + 1;
+        long backoff = initialBackoffMillis << Math.min(attempts - 1, 20);
+
+        event.setAttempts(attempts);
+        event.setNextAttemptAt(now.plus(Duration.ofMillis(Math.min(backoff, maxBackoffMillis))));
+        event.setLastError(truncate(error));
+    }
+
+    private static List<Long> ids(List<WorkloadOutboxEvent> events) {
+        return events.stream().map(WorkloadOutboxEvent::getId).toList();
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private record ClaimedWindow(String trainer,
+                                 List<WorkloadOutboxEvent> events,
+                                 List<WorkloadDTO.Request.Workload> workloads) {
+    }
+
+    private record ClaimedBatch(int heads, List<ClaimedWindow> windows, int rescheduled) {
+    }
+
+    private record FailedPublish(WorkloadOutboxEvent event, Exception error) {
+    }
+}
@@ -0,0 +1,201 @@
+package com.github.amangusss.gym_application.jms.outbox;
+
+import com.github.amangusss.gym_application.dto.workload.WorkloadDTO;
+import com.github.amangusss.gym_application.jms.service.WorkloadMessageProducer;
+import com.github.amangusss.gym_application.metrics.WorkloadPublishMetrics;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Component("workloadPublishQueue")
+public class WorkloadPublishQueue {
+
+    private static final long SENDER_POLL_MILLIS = 200;
+
+    public enum OverflowPolicy {
+        BLOCK,
+        REJECT,
+        SPILL
+    }
+
+    public record PublishTask(String trainerUsername,
+                              WorkloadDTO.Request.Workload workload,
+                              String transactionId,
+                              long sequence,
+                              Consumer<Exception> onComplete) {
+    }
+
+    private record QueuedTask(PublishTask task, long enqueuedAtNanos) {
+    }
+
+    private final WorkloadMessageProducer workloadMessageProducer;
+    private final WorkloadPublishMetrics metrics;
+    private final List<BlockingQueue<QueuedTask>> partitions;
+    private final ExecutorService senders;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMillis;
+    private final long shutdownTimeoutMillis;
+    private volatile boolean accepting = true;
+
+    public WorkloadPublishQueue(WorkloadMessageProducer workloadMessageProducer,
+                                WorkloadPublishMetrics metrics,
+                                @Value("${workload.publish.queue-capacity:1000}") int capacity,
+                                @Value("${workload.publish.senders:2}") int senderCount,
+                                @Value("${workload.publish.overflow-policy:BLOCK}") OverflowPolicy overflowPolicy,
+                                @Value("${workload.publish.block-timeout-ms:5000}") long blockTimeoutMillis,
+                                @Value("${workload.publish.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis) {
+        if (capacity < 1 || senderCount < 1) {
+            throw new IllegalArgumentException("Publish queue capacity and sender count must be positive");
+        }
+
+        this.workloadMessageProducer = workloadMessageProducer;
+        this.metrics = metrics;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMillis = blockTimeoutMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.partitions = IntStream.range(0, senderCount)
+                .<BlockingQueue<QueuedTask>>mapToObj(i -> new ArrayBlockingQueue<>(Math.max(1, capacity / senderCount)))
+                .toList();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderCount, runnable -> {
+            Thread thread = new Thread(runnable, "workload-publisher-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        partitions.forEach(partition -> senders.execute(() -> runSender(partition)));
+
+        metrics.bindDepth(this::depth);
+        log.info("Workload publish queue started: capacity {}, {} senders, overflow policy {}",
+                capacity, senderCount, overflowPolicy);
+    }
+
+    public boolean submit(PublishTask task) {
+        if (!accepting) {
+            metrics.incrementDropped(WorkloadPublishMetrics.REASON_SHUTDOWN);
+            return false;
+        }
+
+        BlockingQueue<QueuedTask> partition =
+                partitions.get(Math.floorMod(task.trainerUsername().hashCode(), partitions.size()));
+        QueuedTask queued = new QueuedTask(task, System.nanoTime());
+
+        return switch (overflowPolicy) {
+            case BLOCK -> offerBlocking(partition, queued);
+            case REJECT -> offerOrCount(partition, queued, WorkloadPublishMetrics.REASON_REJECTED);
+            case SPILL -> offerOrCount(partition, queued, WorkloadPublishMetrics.REASON_SPILLED);
+        };
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public int depth() {
+        return partitions.stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!accepting) {
+            return;
+        }
+
+        accepting = false;
+        log.info("Draining {} queued workload events before shutdown", depth());
+        senders.shutdown();
+
+        try {
+            if (!senders.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                int abandoned = depth();
+                senders.shutdownNow();
+                partitions.forEach(BlockingQueue::clear);
+                for (int i = 0; i < abandoned; i++) {
+                    metrics.incrementDropped(WorkloadPublishMetrics.REASON_SHUTDOWN);
+                }
+                log.warn("Publish queue did not drain in {} ms, {} events left in the outbox",
+                        shutdownTimeoutMillis, abandoned);
+            }
+        } catch (InterruptedException e) {
+            senders.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean offerBlocking(BlockingQueue<QueuedTask> partition, QueuedTask queued) {
+        try {
+            if (partition.offer(queued, blockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        metrics.incrementDropped(WorkloadPublishMetrics.REASON_TIMEOUT);
+        return false;
+    }
+
+    private boolean offerOrCount(BlockingQueue<QueuedTask> partition, QueuedTask queued, String reason) {
+        if (partition.offer(queued)) {
+            return true;
+        }
+
+        metrics.incrementDropped(reason);
+        return false;
+    }
+
+    private void runSender(BlockingQueue<QueuedTask> partition) {
+        while (true) {
+            QueuedTask queued;
+            try {
+                queued = partition.poll(SENDER_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (queued == null) {
+                if (!accepting) {
+                    return;
+                }
+                continue;
+            }
+
+            send(queued);
+        }
+    }
+
+    private void send(QueuedTask queued) {
+        PublishTask task = queued.task();
+        Exception failure = null;
+
+        try {
+            workloadMessageProducer.sendWorkloadMessage(task.workload(), task.transactionId(), task.sequence());
+            metrics.recordSent(System.nanoTime() - queued.enqueuedAtNanos());
+        } catch (Exception e) {
+            failure = e;
+        }
+
+        try {
+            task.onComplete().accept(failure);
+        } catch (Exception e) {
+            log.error("[{}] Publish completion callback failed for trainer {}: {}",
+                    task.transactionId(), task.trainerUsername(), e.getMessage(), e);
+        }
+    }
+}
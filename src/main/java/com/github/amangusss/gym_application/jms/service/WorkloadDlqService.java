@@ -0,0 +1,15 @@
+package com.github.amangusss.gym_application.jms.service;
+
+import com.github.amangusss.gym_application.dto.workload.WorkloadDlqDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface WorkloadDlqService {
+
+    void recordDeadLetter(String messageId, String transactionId, String errorReason, String body, boolean redrivable);
+    List<WorkloadDlqDTO.Response.DeadLetter> getDeadLetters(String errorReason, String status,
+                                                            LocalDateTime receivedFrom, LocalDateTime receivedTo,
+                                                            Integer page, Integer size);
+    WorkloadDlqDTO.Response.Redrive redrive(List<Long> ids);
+}
@@ -2,7 +2,23 @@ package com.github.amangusss.gym_application.jms.service;
 
 import com.github.amangusss.gym_application.dto.workload.WorkloadDTO;
 
+/**
+ * Publishes trainer workload deltas to the workload queue.
+ * <p>
+ * Every message carries {@value #GROUP_ID_PROPERTY} set to the trainer username, so the broker
+ * delivers all updates for one trainer to a single consumer in send order while different trainers
+ * are spread across consumers. Messages sent through the outbox relay carry {@value #SEQUENCE_PROPERTY},
+ * the id of the last outbox row they cover. Outbox ids come from one database sequence and the relay
+ * publishes each trainer's rows in id order, so the sequence increases per trainer across all nodes
+ * (it is not contiguous) and lets consumers discard anything older than what they already applied.
+ * Redriven dead letters have no outbox row and are sent without a sequence.
+ */
 public interface WorkloadMessageProducer {
 
+    String GROUP_ID_PROPERTY = "JMSXGroupID";
+    String SEQUENCE_PROPERTY = "workloadSequence";
+
     void sendWorkloadMessage(WorkloadDTO.Request.Workload workload, String transactionId);
+
+    void sendWorkloadMessage(WorkloadDTO.Request.Workload workload, String transactionId, long sequence);
 }
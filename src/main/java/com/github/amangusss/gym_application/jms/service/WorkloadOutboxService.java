@@ -0,0 +1,8 @@
+package com.github.amangusss.gym_application.jms.service;
+
+import com.github.amangusss.gym_application.dto.workload.WorkloadDTO;
+
+public interface WorkloadOutboxService {
+
+    void enqueue(WorkloadDTO.Request.Workload workload, String transactionId);
+}
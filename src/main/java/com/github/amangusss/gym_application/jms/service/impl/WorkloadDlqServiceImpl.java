@@ -0,0 +1,99 @@
+package com.github.amangusss.gym_application.jms.service.impl;
+
+import com.github.amangusss.gym_application.dto.workload.WorkloadDlqDTO;
+import com.github.amangusss.gym_application.entity.workload.WorkloadDeadLetter;
+import com.github.amangusss.gym_application.exception.ValidationException;
+import com.github.amangusss.gym_application.jms.dlq.WorkloadDlqRedriver;
+import com.github.amangusss.gym_application.jms.service.WorkloadDlqService;
+import com.github.amangusss.gym_application.mapper.WorkloadDeadLetterMapper;
+import com.github.amangusss.gym_application.metrics.WorkloadDlqMetrics;
+import com.github.amangusss.gym_application.repository.WorkloadDeadLetterRepository;
+import com.github.amangusss.gym_application.util.paging.PageableFactory;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class WorkloadDlqServiceImpl implements WorkloadDlqService {
+
+    private static final int MAX_REASON_LENGTH = 500;
+
+    WorkloadDeadLetterRepository deadLetterRepository;
+    WorkloadDeadLetterMapper deadLetterMapper;
+    WorkloadDlqRedriver workloadDlqRedriver;
+    WorkloadDlqMetrics workloadDlqMetrics;
+    PageableFactory pageableFactory;
+
+    @Override
+    @Transactional
+    public void recordDeadLetter(String messageId, String transactionId, String errorReason, String body, boolean redrivable) {
+        if (deadLetterRepository.existsByMessageId(messageId)) {
+            log.debug("[{}] Dead letter {} already stored, skipping redelivery", transactionId, messageId);
+            return;
+        }
+
+        deadLetterRepository.save(WorkloadDeadLetter.builder()
+                .messageId(messageId)
+                .transactionId(transactionId)
+                .errorReason(errorReason != null && errorReason.length() > MAX_REASON_LENGTH
+                        ? errorReason.substring(0, MAX_REASON_LENGTH)
+                        : errorReason)
+                .body(body)
+                .receivedAt(LocalDateTime.now())
+                .status(redrivable ? WorkloadDeadLetter.Status.PENDING : WorkloadDeadLetter.Status.UNREADABLE)
+                .build());
+        workloadDlqMetrics.incrementReceived();
+
+        log.info("[{}] Dead-lettered workload message {} stored{}", transactionId, messageId,
+                redrivable ? "" : " as unreadable");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<WorkloadDlqDTO.Response.DeadLetter> getDeadLetters(String errorReason, String status,
+                                                                   LocalDateTime receivedFrom, LocalDateTime receivedTo,
+                                                                   Integer page, Integer size) {
+        log.debug("Fetching dead letters: reason={}, status={}, from={}, to={}", errorReason, status, receivedFrom, receivedTo);
+
+        Pageable pageable = pageableFactory.create(page != null ? page : 0, size);
+
+        List<WorkloadDlqDTO.Response.DeadLetter> response = deadLetterRepository
+                .findDeadLetters(errorReason, parseStatus(status), receivedFrom, receivedTo, pageable)
+                .stream()
+                .map(deadLetterMapper::toResponse)
+                .toList();
+
+        log.info("Retrieved {} dead letters", response.size());
+        return response;
+    }
+
+    @Override
+    public WorkloadDlqDTO.Response.Redrive redrive(List<Long> ids) {
+        log.info("Redrive requested for {}", ids == null || ids.isEmpty() ? "all pending dead letters" : ids.size() + " dead letters");
+        return new WorkloadDlqDTO.Response.Redrive(workloadDlqRedriver.start(ids));
+    }
+
+    private static WorkloadDeadLetter.Status parseStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+
+        try {
+            return WorkloadDeadLetter.Status.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Unknown dead letter status: " + status);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.github.amangusss.gym_application.jms.service.impl;
 
 import com.github.amangusss.gym_application.dto.workload.WorkloadDTO;
 import com.github.amangusss.gym_application.jms.service.WorkloadMessageProducer;
+import com.github.amangusss.gym_application.metrics.JmsPoolMetrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -17,19 +19,38 @@ import org.springframework.stereotype.Service;
 public class WorkloadMessageProducerImpl implements WorkloadMessageProducer {
 
     final JmsTemplate jmsTemplate;
+    final JmsPoolMetrics jmsPoolMetrics;
 
     @Value("${app.jms.queue.workload}")
     String workloadQueue;
 
     @Override
     public void sendWorkloadMessage(WorkloadDTO.Request.Workload workload, String transactionId) {
+        send(workload, transactionId, null);
+    }
+
+    @Override
+    public void sendWorkloadMessage(WorkloadDTO.Request.Workload workload, String transactionId, long sequence) {
+        send(workload, transactionId, sequence);
+    }
+
+    private void send(WorkloadDTO.Request.Workload workload, String transactionId, Long sequence) {
         log.info("Sending workload message to queue {}: username={}, action={}",
                 workloadQueue, workload.username(), workload.actionType());
 
-        jmsTemplate.convertAndSend(workloadQueue, workload, message -> {
-            message.setStringProperty("transactionId", transactionId);
-            return message;
-        });
+        Timer.Sample sample = jmsPoolMetrics.startSend();
+        try {
+            jmsTemplate.convertAndSend(workloadQueue, workload, message -> {
+                message.setStringProperty("transactionId", transactionId);
+                message.setStringProperty(GROUP_ID_PROPERTY, workload.username());
+                if (sequence != null) {
+                    message.setLongProperty(SEQUENCE_PROPERTY, sequence);
+                }
+                return message;
+            });
+        } finally {
+            jmsPoolMetrics.stopSend(sample);
+        }
 
         log.info("Workload message sent successfully to queue {}", workloadQueue);
     }
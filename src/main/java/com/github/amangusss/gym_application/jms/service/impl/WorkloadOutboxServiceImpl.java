@@ -0,0 +1,67 @@
+package com.github.amangusss.gym_application.jms.service.impl;
+
+import com.github.amangusss.gym_application.dto.workload.WorkloadDTO;
+import com.github.amangusss.gym_application.entity.workload.WorkloadOutboxEvent;
+import com.github.amangusss.gym_application.jms.outbox.WorkloadOutboxRelay;
+import com.github.amangusss.gym_application.jms.service.WorkloadOutboxService;
+import com.github.amangusss.gym_application.repository.WorkloadOutboxRepository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class WorkloadOutboxServiceImpl implements WorkloadOutboxService {
+
+    WorkloadOutboxRepository outboxRepository;
+    WorkloadOutboxRelay workloadOutboxRelay;
+    ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(WorkloadDTO.Request.Workload workload, String transactionId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        WorkloadOutboxEvent event = WorkloadOutboxEvent.builder()
+                .trainerUsername(workload.username())
+                .payload(toJson(workload))
+                .transactionId(transactionId)
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+
+        outboxRepository.save(event);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                workloadOutboxRelay.wakeUp();
+            }
+        });
+
+        log.debug("[{}] Workload event for trainer {} stored in outbox", transactionId, workload.username());
+    }
+
+    private String toJson(WorkloadDTO.Request.Workload workload) {
+        try {
+            return objectMapper.writeValueAsString(workload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize workload event for trainer " + workload.username(), e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.amangusss.gym_application.jwt;
 
+import com.github.amangusss.gym_application.service.TokenRevocationService;
+
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.SignatureException;
@@ -16,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -32,6 +35,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     JwtUtils jwtUtils;
     UserDetailsService userDetailsService;
+    UserCache userCache;
+    TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(
@@ -40,27 +45,40 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain) throws ServletException, IOException {
 
         final String authorizationHeader = request.getHeader("Authorization");
-        String username = null;
         String jwt = null;
+        JwtClaims claims = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             jwt = authorizationHeader.substring(7);
             try {
-                username = jwtUtils.extractUsername(jwt);
-                log.debug("JWT token found for user: {}", username);
+                claims = jwtUtils.parseToken(jwt);
+                log.debug("JWT token found for user: {}", claims.username());
             } catch (Exception e) {
-                log.error("Failed to extract username from JWT: {}", e.getMessage());
+                log.error("Failed to parse JWT: {}", e.getMessage());
             }
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String username = claims.username();
             try {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                if (!claims.active()) {
+                    log.warn("JWT token issued for inactive user: {}", username);
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
+                if (tokenRevocationService.isRevoked(claims.tokenId())) {
+                    log.warn("Revoked JWT token used by user: {}", username);
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
+                UserDetails userDetails = loadUser(username);
 
-                if (jwtUtils.validateToken(jwt, userDetails)) {
+                if (userDetails.isEnabled() && jwtUtils.isTokenValid(claims, userDetails)) {
                     UsernamePasswordAuthenticationToken authenticationToken =
                             new UsernamePasswordAuthenticationToken(
-                                    userDetails, jwt, userDetails.getAuthorities());
+                                    userDetails, jwt, claims.authorities());
                     authenticationToken.setDetails(
                             new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authenticationToken);
@@ -93,4 +111,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails loadUser(String username) {
+        UserDetails cached = userCache.getUserFromCache(username);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        userCache.putUserInCache(userDetails);
+        return userDetails;
+    }
 }
@@ -0,0 +1,22 @@
+package com.github.amangusss.gym_application.jwt;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+public record JwtClaims(String tokenId,
+                        String username,
+                        boolean active,
+                        List<GrantedAuthority> authorities,
+                        Instant issuedAt,
+                        Instant expiration) {
+
+    public JwtClaims {
+        authorities = List.copyOf(authorities);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiration.isAfter(now);
+    }
+}
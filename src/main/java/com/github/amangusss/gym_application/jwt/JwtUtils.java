@@ -1,34 +1,47 @@
 package com.github.amangusss.gym_application.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
 
 @Slf4j
 @Component
 public class JwtUtils {
 
+    public static final String ACTIVE_CLAIM = "active";
+    public static final String AUTHORITIES_CLAIM = "authorities";
+
     private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, JwtClaims> verifiedTokens;
 
     @Value("${jwt.expiration}")
     private long expirationMillis;
 
-    public JwtUtils(@Value("${jwt.secret}") String secret) {
+    public JwtUtils(@Value("${jwt.secret}") String secret,
+                    @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize) {
         byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
 
         if (keyBytes.length < 32) {
@@ -37,36 +50,55 @@ public class JwtUtils {
         }
 
         this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
         log.info("JWT secret key initialized with length: {} bits", keyBytes.length * 8);
     }
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
-
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
+    public JwtClaims parseToken(String token) {
+        JwtClaims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return cached;
+        }
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        JwtClaims claims = toJwtClaims(jwtParser.parseClaimsJws(token).getBody());
+        verifiedTokens.put(token, claims);
+        return claims;
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public boolean isTokenValid(JwtClaims claims, UserDetails userDetails) {
+        boolean isValid = claims.username().equals(userDetails.getUsername()) && !claims.isExpired(Instant.now());
+        log.debug("Token validation for user {}: {}", claims.username(), isValid);
+        return isValid;
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private JwtClaims toJwtClaims(Claims claims) {
+        List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+        List<GrantedAuthority> grantedAuthorities = authorities == null ? List.of() : authorities.stream()
+                .map(authority -> (GrantedAuthority) new SimpleGrantedAuthority(authority.toString()))
+                .toList();
+
+        return new JwtClaims(
+                claims.getId(),
+                claims.getSubject(),
+                !Boolean.FALSE.equals(claims.get(ACTIVE_CLAIM, Boolean.class)),
+                grantedAuthorities,
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration().toInstant()
+        );
     }
 
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(ACTIVE_CLAIM, userDetails.isEnabled());
+        claims.put(AUTHORITIES_CLAIM, userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
         return createToken(claims, userDetails.getUsername());
     }
 
@@ -78,35 +110,29 @@ public class JwtUtils {
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private SecretKey getSigningKey() {
-        return signingKey;
-    }
+    private static final class TokenExpiry implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiration()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
 
-    public Boolean validateToken(String token, UserDetails userDetails) {
-        try {
-            final String username = extractUsername(token);
-            boolean isValid = username.equals(userDetails.getUsername()) && !isTokenExpired(token);
-            log.debug("Token validation for user {}: {}", username, isValid);
-            return isValid;
-        } catch (ExpiredJwtException e) {
-            log.warn("Token expired for token: {}", token.substring(0, Math.min(10, token.length())));
-            return false;
-        } catch (MalformedJwtException e) {
-            log.error("Malformed token: {}", e.getMessage());
-            return false;
-        } catch (SignatureException e) {
-            log.error("Invalid signature: {}", e.getMessage());
-            return false;
-        } catch (Exception e) {
-            log.error("Token validation error: {}", e.getMessage());
-            return false;
+        @Override
+        public long expireAfterRead(String key, JwtClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
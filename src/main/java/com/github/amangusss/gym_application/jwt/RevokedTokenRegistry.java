@@ -0,0 +1,178 @@
+package com.github.amangusss.gym_application.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Slf4j
+@Component("revokedTokenRegistry")
+public class RevokedTokenRegistry {
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final List<Queue<Revocation>> wheel;
+    private final long tickMillis;
+    private final int wordCount;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final Object lock = new Object();
+
+    private volatile AtomicLongArray bloom;
+    private long currentTick;
+    private int expiredSinceRebuild;
+
+    public RevokedTokenRegistry(@Value("${jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+                                @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${jwt.revocation.tick-ms:60000}") long tickMillis,
+                                @Value("${jwt.revocation.wheel-size:1440}") int wheelSize) {
+        if (expectedRevocations <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Revocation filter needs positive revocations and a false positive rate in (0, 1)");
+        }
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Revocation wheel needs a positive tick and size");
+        }
+
+        long optimalBits = (long) Math.ceil(-expectedRevocations * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.wordCount = (int) Math.min(Integer.MAX_VALUE, (optimalBits + 63) / 64);
+        this.bitCount = (long) wordCount * 64;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedRevocations * Math.log(2)));
+        this.bloom = new AtomicLongArray(wordCount);
+
+        this.tickMillis = tickMillis;
+        this.wheel = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            wheel.add(new ConcurrentLinkedQueue<>());
+        }
+        this.currentTick = System.currentTimeMillis() / tickMillis;
+
+        log.debug("Revoked token registry created: {} bloom bits, {} wheel slots of {} ms", bitCount, wheelSize, tickMillis);
+    }
+
+    public void revoke(String tokenId, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+
+        synchronized (lock) {
+            if (revoked.putIfAbsent(tokenId, expiresAtMillis) == null) {
+                setBits(bloom, tokenId);
+                wheel.get(slot(expiresAtMillis / tickMillis + 1)).add(new Revocation(tokenId, expiresAtMillis));
+            }
+        }
+    }
+
+    public boolean isRevoked(String tokenId) {
+        AtomicLongArray bits = bloom;
+        long hash = hash64(tokenId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return revoked.containsKey(tokenId);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.tick-ms:60000}")
+    public void advance() {
+        advance(System.currentTimeMillis());
+    }
+
+    void advance(long now) {
+        long targetTick = now / tickMillis;
+
+        synchronized (lock) {
+            long ticks = Math.min(targetTick - currentTick, wheel.size());
+            int expired = 0;
+            for (long i = 1; i <= ticks; i++) {
+                expired += expireSlot(wheel.get(slot(currentTick + i)), now);
+            }
+            currentTick = targetTick;
+            expiredSinceRebuild += expired;
+
+            if (expiredSinceRebuild > 0 && expiredSinceRebuild >= revoked.size()) {
+                rebuildBloom();
+            }
+
+            if (expired > 0) {
+                log.debug("Dropped {} expired revocations, {} still active", expired, revoked.size());
+            }
+        }
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    private int expireSlot(Queue<Revocation> slot, long now) {
+        int expired = 0;
+        Iterator<Revocation> iterator = slot.iterator();
+        while (iterator.hasNext()) {
+            Revocation revocation = iterator.next();
+            if (revocation.expiresAtMillis() <= now) {
+                iterator.remove();
+                revoked.remove(revocation.tokenId(), revocation.expiresAtMillis());
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    private void rebuildBloom() {
+        AtomicLongArray rebuilt = new AtomicLongArray(wordCount);
+        revoked.keySet().forEach(tokenId -> setBits(rebuilt, tokenId));
+        bloom = rebuilt;
+        expiredSinceRebuild = 0;
+        log.debug("Rebuilt revocation bloom filter with {} entries", revoked.size());
+    }
+
+    private void setBits(AtomicLongArray bits, String tokenId) {
+        long hash = hash64(tokenId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    private int slot(long tick) {
+        return (int) (tick % wheel.size());
+    }
+
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private record Revocation(String tokenId, long expiresAtMillis) {
+    }
+}
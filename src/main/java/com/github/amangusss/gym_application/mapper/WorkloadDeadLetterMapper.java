@@ -0,0 +1,25 @@
+package com.github.amangusss.gym_application.mapper;
+
+import com.github.amangusss.gym_application.dto.workload.WorkloadDlqDTO;
+import com.github.amangusss.gym_application.entity.workload.WorkloadDeadLetter;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class WorkloadDeadLetterMapper {
+
+    public WorkloadDlqDTO.Response.DeadLetter toResponse(WorkloadDeadLetter deadLetter) {
+        return new WorkloadDlqDTO.Response.DeadLetter(
+                deadLetter.getId(),
+                deadLetter.getMessageId(),
+                deadLetter.getTransactionId(),
+                deadLetter.getErrorReason(),
+                deadLetter.getBody(),
+                deadLetter.getReceivedAt(),
+                deadLetter.getStatus().name(),
+                deadLetter.getRedriveAttempts(),
+                deadLetter.getRedrivenAt(),
+                deadLetter.getLastRedriveError()
+        );
+    }
+}
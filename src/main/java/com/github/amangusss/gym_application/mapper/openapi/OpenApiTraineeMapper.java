@@ -1,5 +1,6 @@
 package com.github.amangusss.gym_application.mapper.openapi;
 
+import com.github.amangusss.dto.generated.BatchRegistrationResult;
 import com.github.amangusss.dto.generated.TraineeProfileResponse;
 import com.github.amangusss.dto.generated.TraineeRegistrationRequest;
 import com.github.amangusss.dto.generated.TraineeRegistrationResponse;
@@ -33,6 +34,15 @@ public class OpenApiTraineeMapper {
                 .build();
     }
 
+    public BatchRegistrationResult toGeneratedBatchRegistrationResult(TraineeDTO.Response.BatchRegistered registered) {
+        return BatchRegistrationResult.builder()
+                .index(registered.index())
+                .username(registered.username())
+                .password(registered.password())
+                .error(registered.error())
+                .build();
+    }
+
     public TraineeDTO.Request.Update toInternalTraineeUpdate(TraineeUpdateRequest request) {
         return new TraineeDTO.Request.Update(
                 request.getFirstName(),
@@ -1,5 +1,6 @@
 package com.github.amangusss.gym_application.mapper.openapi;
 
+import com.github.amangusss.dto.generated.BatchRegistrationResult;
 import com.github.amangusss.dto.generated.TraineeBasicInfo;
 import com.github.amangusss.dto.generated.TrainerProfileResponse;
 import com.github.amangusss.dto.generated.TrainerRegistrationRequest;
@@ -31,6 +32,15 @@ public class OpenApiTrainerMapper {
                 .build();
     }
 
+    public BatchRegistrationResult toGeneratedBatchRegistrationResult(TrainerDTO.Response.BatchRegistered registered) {
+        return BatchRegistrationResult.builder()
+                .index(registered.index())
+                .username(registered.username())
+                .password(registered.password())
+                .error(registered.error())
+                .build();
+    }
+
     public TrainerDTO.Request.Update toInternalTrainerUpdate(TrainerUpdateRequest request) {
         return new TrainerDTO.Request.Update(
                 request.getFirstName(),
@@ -0,0 +1,58 @@
+package com.github.amangusss.gym_application.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CredentialPoolMetrics {
+
+    MeterRegistry meterRegistry;
+    Counter pooledCounter;
+    Counter fallbackCounter;
+
+    public CredentialPoolMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        this.pooledCounter = Counter.builder("credentials.pool.taken")
+                .description("Credentials served for registration")
+                .tag("source", "pool")
+                .register(meterRegistry);
+
+        this.fallbackCounter = Counter.builder("credentials.pool.taken")
+                .description("Credentials served for registration")
+                .tag("source", "inline")
+                .register(meterRegistry);
+
+        log.info("Credential pool metrics initialized");
+    }
+
+    public void bindPool(Collection<?> pool, int capacity) {
+        Gauge.builder("credentials.pool.size", pool, Collection::size)
+                .description("Pre-computed credentials ready in the pool")
+                .register(meterRegistry);
+
+        Gauge.builder("credentials.pool.capacity", () -> capacity)
+                .description("Maximum number of pre-computed credentials")
+                .register(meterRegistry);
+    }
+
+    public void incrementPooled() {
+        pooledCounter.increment();
+    }
+
+    public void incrementFallback() {
+        fallbackCounter.increment();
+        log.debug("Credential pool fallback counter incremented");
+    }
+}
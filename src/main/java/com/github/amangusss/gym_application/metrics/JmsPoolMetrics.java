@@ -0,0 +1,53 @@
+package com.github.amangusss.gym_application.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import org.messaginghub.pooled.jms.JmsPoolConnectionFactory;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class JmsPoolMetrics {
+
+    MeterRegistry meterRegistry;
+    Timer sendTimer;
+
+    public JmsPoolMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        this.sendTimer = Timer.builder("jms.send.latency")
+                .description("Time taken to hand a workload message to the broker")
+                .register(meterRegistry);
+
+        log.info("JMS pool metrics initialized");
+    }
+
+    public void bindPool(JmsPoolConnectionFactory pool) {
+        Gauge.builder("jms.pool.connections", pool, JmsPoolConnectionFactory::getNumConnections)
+                .description("Broker connections currently held by the pool")
+                .register(meterRegistry);
+
+        Gauge.builder("jms.pool.connections.max", pool, JmsPoolConnectionFactory::getMaxConnections)
+                .description("Maximum broker connections the pool may open")
+                .register(meterRegistry);
+
+        Gauge.builder("jms.pool.sessions.max", pool, JmsPoolConnectionFactory::getMaxSessionsPerConnection)
+                .description("Maximum pooled sessions per broker connection")
+                .register(meterRegistry);
+    }
+
+    public Timer.Sample startSend() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stopSend(Timer.Sample sample) {
+        sample.stop(sendTimer);
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.amangusss.gym_application.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class LoginAttemptFlushMetrics {
+
+    MeterRegistry meterRegistry;
+    Timer flushLagTimer;
+    DistributionSummary batchSizeSummary;
+    Counter flushFailureCounter;
+
+    public LoginAttemptFlushMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        this.flushLagTimer = Timer.builder("login.attempts.flush.lag")
+                .description("Time between a login attempt change and its write to the database")
+                .register(meterRegistry);
+
+        this.batchSizeSummary = DistributionSummary.builder("login.attempts.flush.batch.size")
+                .description("Login attempt changes written per flush batch")
+                .register(meterRegistry);
+
+        this.flushFailureCounter = Counter.builder("login.attempts.flush.failures")
+                .description("Login attempt flush batches that failed and were requeued")
+                .register(meterRegistry);
+
+        log.info("Login attempt flush metrics initialized");
+    }
+
+    public void bindPending(Map<?, ?> pending) {
+        Gauge.builder("login.attempts.flush.pending", pending, Map::size)
+                .description("Login attempt changes waiting to be written")
+                .register(meterRegistry);
+    }
+
+    public void recordLag(long nanos) {
+        flushLagTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordBatchSize(int size) {
+        batchSizeSummary.record(size);
+    }
+
+    public void incrementFailures() {
+        flushFailureCounter.increment();
+        log.debug("Login attempt flush failure counter incremented");
+    }
+}
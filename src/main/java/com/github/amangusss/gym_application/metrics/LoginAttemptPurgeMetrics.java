@@ -0,0 +1,48 @@
+package com.github.amangusss.gym_application.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class LoginAttemptPurgeMetrics {
+
+    Counter purgedRowsCounter;
+    Counter purgeChunkCounter;
+    Timer purgeDurationTimer;
+
+    public LoginAttemptPurgeMetrics(MeterRegistry meterRegistry) {
+        this.purgedRowsCounter = Counter.builder("login.attempts.purge.rows")
+                .description("Stale login attempt rows deleted by the cleanup job")
+                .register(meterRegistry);
+
+        this.purgeChunkCounter = Counter.builder("login.attempts.purge.chunks")
+                .description("Delete chunks executed by the cleanup job")
+                .register(meterRegistry);
+
+        this.purgeDurationTimer = Timer.builder("login.attempts.purge.duration")
+                .description("Total time taken by a login attempt cleanup run")
+                .register(meterRegistry);
+
+        log.info("Login attempt purge metrics initialized");
+    }
+
+    public void recordChunk(int deletedRows) {
+        purgeChunkCounter.increment();
+        purgedRowsCounter.increment(deletedRows);
+    }
+
+    public void recordRun(long nanos) {
+        purgeDurationTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
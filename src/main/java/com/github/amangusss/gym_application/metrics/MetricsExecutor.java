@@ -88,6 +88,9 @@ public class MetricsExecutor {
             case "ValidationException" -> 400;
             case "AccessDeniedException" -> 403;
             case "AuthenticationException", "BadCredentialsException" -> 401;
+            case "ConflictException" -> 409;
+            case "TooManyRequestsException" -> 429;
+            case "ServiceUnavailableException" -> 503;
             default -> 500;
         };
     }
@@ -0,0 +1,79 @@
+package com.github.amangusss.gym_application.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class PasswordHashingMetrics {
+
+    MeterRegistry meterRegistry;
+    Timer hashTimer;
+    Timer verifyTimer;
+    Timer queueWaitTimer;
+    Counter rejectedCounter;
+
+    public PasswordHashingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        this.hashTimer = Timer.builder("password.hashing.duration")
+                .description("Time spent computing password hashes")
+                .tag("operation", "hash")
+                .register(meterRegistry);
+
+        this.verifyTimer = Timer.builder("password.hashing.duration")
+                .description("Time spent computing password hashes")
+                .tag("operation", "verify")
+                .register(meterRegistry);
+
+        this.queueWaitTimer = Timer.builder("password.hashing.queue.wait")
+                .description("Time password hashing tasks wait for a free hashing thread")
+                .register(meterRegistry);
+
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("Password hashing tasks rejected because the queue was full")
+                .register(meterRegistry);
+
+        log.info("Password hashing metrics initialized");
+    }
+
+    public void bindExecutor(ThreadPoolExecutor executor) {
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("Password hashing tasks waiting in the queue")
+                .register(meterRegistry);
+
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing threads currently busy")
+                .register(meterRegistry);
+    }
+
+    public <T> T recordHash(Supplier<T> hashing) {
+        return hashTimer.record(hashing);
+    }
+
+    public <T> T recordVerify(Supplier<T> verification) {
+        return verifyTimer.record(verification);
+    }
+
+    public void recordQueueWait(long waitNanos) {
+        queueWaitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void incrementRejected() {
+        rejectedCounter.increment();
+        log.debug("Password hashing rejected counter incremented");
+    }
+}
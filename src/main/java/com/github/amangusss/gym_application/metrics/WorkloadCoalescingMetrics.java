@@ -0,0 +1,56 @@
+package com.github.amangusss.gym_application.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class WorkloadCoalescingMetrics {
+
+    Counter eventsCounter;
+    Counter messagesCounter;
+    Counter cancelledCounter;
+
+    public WorkloadCoalescingMetrics(MeterRegistry meterRegistry) {
+        this.eventsCounter = Counter.builder("workload.coalescing.events")
+                .description("Workload deltas taken into a coalescing window")
+                .register(meterRegistry);
+
+        this.messagesCounter = Counter.builder("workload.coalescing.messages")
+                .description("Workload messages emitted after coalescing")
+                .register(meterRegistry);
+
+        this.cancelledCounter = Counter.builder("workload.coalescing.cancelled")
+                .description("Coalescing windows whose deltas cancelled out and produced no message")
+                .register(meterRegistry);
+
+        Gauge.builder("workload.coalescing.compression.ratio", this, WorkloadCoalescingMetrics::compressionRatio)
+                .description("Workload deltas received per workload message emitted")
+                .register(meterRegistry);
+
+        log.info("Workload coalescing metrics initialized");
+    }
+
+    public void recordWindow(int events, boolean emitted) {
+        eventsCounter.increment(events);
+        if (emitted) {
+            messagesCounter.increment();
+        } else {
+            cancelledCounter.increment();
+        }
+        log.debug("Workload coalescing window recorded: {} events, emitted={}", events, emitted);
+    }
+
+    private double compressionRatio() {
+        double events = eventsCounter.count();
+        return events == 0 ? 1.0 : events / Math.max(1.0, messagesCounter.count());
+    }
+}
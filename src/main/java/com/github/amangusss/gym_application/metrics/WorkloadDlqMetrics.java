@@ -0,0 +1,121 @@
+package com.github.amangusss.gym_application.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class WorkloadDlqMetrics {
+
+    MeterRegistry meterRegistry;
+    AtomicInteger redriveActive = new AtomicInteger();
+    AtomicLong redriveRemaining = new AtomicLong();
+    Counter receivedCounter;
+    Counter redrivenCounter;
+    Counter redriveFailedCounter;
+    Counter redriveBatchCounter;
+    Counter queriesCounter;
+    Counter redriveRequestedCounter;
+
+    public WorkloadDlqMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        this.receivedCounter = Counter.builder("workload.dlq.received")
+                .description("Dead-lettered workload messages stored for inspection")
+                .register(meterRegistry);
+
+        this.redrivenCounter = Counter.builder("workload.dlq.redrive.sent")
+                .description("Dead-lettered workload messages sent back to the workload queue")
+                .register(meterRegistry);
+
+        this.redriveFailedCounter = Counter.builder("workload.dlq.redrive.failed")
+                .description("Dead-lettered workload messages that could not be redriven")
+                .register(meterRegistry);
+
+        this.redriveBatchCounter = Counter.builder("workload.dlq.redrive.batches")
+                .description("Redrive batches completed")
+                .register(meterRegistry);
+
+        this.queriesCounter = Counter.builder("workload.dlq.operations")
+                .description("Workload DLQ admin operations counter")
+                .tag("outcome", "success")
+                .tag("operation", "list")
+                .register(meterRegistry);
+
+        this.redriveRequestedCounter = Counter.builder("workload.dlq.operations")
+                .description("Workload DLQ admin operations counter")
+                .tag("outcome", "success")
+                .tag("operation", "redrive")
+                .register(meterRegistry);
+
+        Gauge.builder("workload.dlq.redrive.active", redriveActive, AtomicInteger::get)
+                .description("Whether a redrive is currently running")
+                .register(meterRegistry);
+
+        Gauge.builder("workload.dlq.redrive.remaining", redriveRemaining, AtomicLong::get)
+                .description("Dead-lettered messages left in the running redrive")
+                .register(meterRegistry);
+
+        log.info("Workload DLQ metrics initialized");
+    }
+
+    public void incrementReceived() {
+        receivedCounter.increment();
+        log.debug("Workload DLQ received counter incremented");
+    }
+
+    public void incrementDeadLetterQueries() {
+        queriesCounter.increment();
+        log.debug("Workload DLQ queries counter incremented");
+    }
+
+    public void incrementRedriveRequested() {
+        redriveRequestedCounter.increment();
+        log.debug("Workload DLQ redrive requested counter incremented");
+    }
+
+    public void incrementOperationFailed(String operation) {
+        Counter.builder("workload.dlq.operations")
+                .description("Workload DLQ admin operations counter")
+                .tag("outcome", "failure")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+
+        log.debug("Workload DLQ {} operation failed counter incremented", operation);
+    }
+
+    public void redriveStarted(long total) {
+        redriveActive.set(1);
+        redriveRemaining.set(total);
+    }
+
+    public void recordRedrive(boolean sent) {
+        if (sent) {
+            redrivenCounter.increment();
+        } else {
+            redriveFailedCounter.increment();
+        }
+        redriveRemaining.updateAndGet(remaining -> Math.max(0, remaining - 1));
+    }
+
+    public void incrementRedriveBatches() {
+        redriveBatchCounter.increment();
+    }
+
+    public void redriveFinished() {
+        redriveActive.set(0);
+        redriveRemaining.set(0);
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.amangusss.gym_application.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class WorkloadOutboxMetrics {
+
+    AtomicLong backlog = new AtomicLong();
+    Timer publishLagTimer;
+    Counter publishedCounter;
+    Counter failureCounter;
+
+    public WorkloadOutboxMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("workload.outbox.backlog", backlog, AtomicLong::get)
+                .description("Workload events waiting in the outbox")
+                .register(meterRegistry);
+
+        this.publishLagTimer = Timer.builder("workload.outbox.publish.lag")
+                .description("Time between a workload event commit and its publication to the broker")
+                .register(meterRegistry);
+
+        this.publishedCounter = Counter.builder("workload.outbox.published")
+                .description("Workload events published from the outbox")
+                .register(meterRegistry);
+
+        this.failureCounter = Counter.builder("workload.outbox.failures")
+                .description("Workload event publish attempts that failed and were rescheduled")
+                .register(meterRegistry);
+
+        log.info("Workload outbox metrics initialized");
+    }
+
+    public void updateBacklog(long size) {
+        backlog.set(size);
+    }
+
+    public void recordPublished(long lagMillis) {
+        publishedCounter.increment();
+        publishLagTimer.record(Math.max(0, lagMillis), TimeUnit.MILLISECONDS);
+    }
+
+    public void incrementFailures() {
+        failureCounter.increment();
+        log.debug("Workload outbox failure counter incremented");
+    }
+}
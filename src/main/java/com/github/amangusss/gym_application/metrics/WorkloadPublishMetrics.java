@@ -0,0 +1,64 @@
+package com.github.amangusss.gym_application.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class WorkloadPublishMetrics {
+
+    public static final String REASON_REJECTED = "rejected";
+    public static final String REASON_SPILLED = "spilled";
+    public static final String REASON_TIMEOUT = "timeout";
+    public static final String REASON_SHUTDOWN = "shutdown";
+
+    MeterRegistry meterRegistry;
+    Timer sendLatencyTimer;
+    Map<String, Counter> droppedCounters;
+
+    public WorkloadPublishMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        this.sendLatencyTimer = Timer.builder("workload.publish.send.latency")
+                .description("Time from handing a workload event to the publish queue until the broker accepted it")
+                .register(meterRegistry);
+
+        this.droppedCounters = Stream.of(REASON_REJECTED, REASON_SPILLED, REASON_TIMEOUT, REASON_SHUTDOWN)
+                .collect(Collectors.toUnmodifiableMap(reason -> reason, reason -> Counter.builder("workload.publish.dropped")
+                        .description("Workload events the publish queue did not accept; they stay in the outbox")
+                        .tag("reason", reason)
+                        .register(meterRegistry)));
+
+        log.info("Workload publish metrics initialized");
+    }
+
+    public void bindDepth(Supplier<Number> depth) {
+        Gauge.builder("workload.publish.queue.depth", depth)
+                .description("Workload events waiting in the in-memory publish queue")
+                .register(meterRegistry);
+    }
+
+    public void recordSent(long nanos) {
+        sendLatencyTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void incrementDropped(String reason) {
+        droppedCounters.get(reason).increment();
+        log.debug("Workload publish dropped counter incremented: {}", reason);
+    }
+}
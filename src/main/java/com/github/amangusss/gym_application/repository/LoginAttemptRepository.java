@@ -2,10 +2,15 @@ package com.github.amangusss.gym_application.repository;
 
 import com.github.amangusss.gym_application.entity.auth.LoginAttempt;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,5 +19,78 @@ public interface LoginAttemptRepository extends JpaRepository<LoginAttempt, Long
 
     Optional<LoginAttempt> findByUsername(String username);
     List<LoginAttempt> findAllByLockedUntilAfter(LocalDateTime time);
-    void deleteAllByLastAttemptTimeBefore(LocalDateTime time);
+
+    @Query("""
+            SELECT la.id AS id, la.lastAttemptTime AS lastAttemptTime FROM LoginAttempt la
+            WHERE la.lastAttemptTime < :threshold
+              AND (:afterTime IS NULL
+                   OR la.lastAttemptTime > :afterTime
+                   OR (la.lastAttemptTime = :afterTime AND la.id > :afterId))
+            ORDER BY la.lastAttemptTime, la.id
+            """)
+    List<PurgeCandidate> findPurgeCandidates(@Param("threshold") LocalDateTime threshold,
+                                             @Param("afterTime") LocalDateTime afterTime,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM LoginAttempt la WHERE la.id IN :ids AND la.lastAttemptTime < :threshold")
+    int deleteAllByIdInAndLastAttemptTimeBefore(@Param("ids") Collection<Long> ids,
+                                                @Param("threshold") LocalDateTime threshold);
+
+    List<LoginAttempt> findAllByUsernameIn(Collection<String> usernames);
+
+    @Modifying
+    @Query("DELETE FROM LoginAttempt la WHERE la.username IN :usernames")
+    int deleteAllByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    @Query(value = """
+            INSERT INTO login_attempts AS la (id, username, attempt_count, first_attempt_time, last_attempt_time, locked_until)
+            VALUES (nextval('login_attempts_id_seq'), :username, 1, :now, :now,
+                    CASE WHEN :maxAttempts <= 1 THEN CAST(:freshLockedUntil AS TIMESTAMP) END)
+            ON CONFLICT (username) DO UPDATE SET
+                attempt_count = CASE
+                    WHEN (la.locked_until IS NOT NULL AND la.locked_until <= :now)
+                      OR (la.locked_until IS NULL AND la.last_attempt_time < :staleBefore) THEN 1
+                    ELSE la.attempt_count + 1
+                END,
+                first_attempt_time = CASE
+                    WHEN (la.locked_until IS NOT NULL AND la.locked_until <= :now)
+                      OR (la.locked_until IS NULL AND la.last_attempt_time < :staleBefore) THEN :now
+                    ELSE COALESCE(la.first_attempt_time, la.last_attempt_time)
+                END,
+                last_attempt_time = :now,
+                locked_until = CASE
+                    WHEN (la.locked_until IS NOT NULL AND la.locked_until <= :now)
+                      OR (la.locked_until IS NULL AND la.last_attempt_time < :staleBefore)
+                        THEN CASE WHEN :maxAttempts <= 1 THEN CAST(:freshLockedUntil AS TIMESTAMP) END
+                    WHEN la.locked_until IS NOT NULL THEN la.locked_until
+                    WHEN la.attempt_count + 1 >= :maxAttempts
+                        THEN COALESCE(la.first_attempt_time, la.last_attempt_time) + :lockoutMillis * INTERVAL '1 millisecond'
+                END
+            RETURNING la.username AS "username",
+                      la.attempt_count AS "attemptCount",
+                      la.first_attempt_time AS "firstAttemptTime",
+                      la.last_attempt_time AS "lastAttemptTime",
+                      la.locked_until AS "lockedUntil"
+            """, nativeQuery = true)
+    AttemptSnapshot upsertFailedAttempt(@Param("username") String username,
+                                        @Param("now") LocalDateTime now,
+                                        @Param("staleBefore") LocalDateTime staleBefore,
+                                        @Param("freshLockedUntil") LocalDateTime freshLockedUntil,
+                                        @Param("maxAttempts") int maxAttempts,
+                                        @Param("lockoutMillis") long lockoutMillis);
+
+    interface AttemptSnapshot {
+        String getUsername();
+        Integer getAttemptCount();
+        LocalDateTime getFirstAttemptTime();
+        LocalDateTime getLastAttemptTime();
+        LocalDateTime getLockedUntil();
+    }
+
+    interface PurgeCandidate {
+        Long getId();
+        LocalDateTime getLastAttemptTime();
+    }
 }
@@ -0,0 +1,24 @@
+package com.github.amangusss.gym_application.repository;
+
+import com.github.amangusss.gym_application.entity.auth.RevokedToken;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    boolean existsByTokenId(String tokenId);
+    List<RevokedToken> findAllByExpiresAtAfter(LocalDateTime time);
+    List<RevokedToken> findAllByRevokedAtAfterAndExpiresAtAfter(LocalDateTime revokedAfter, LocalDateTime expiresAfter);
+
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :cutoff")
+    int deleteAllExpiredBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,11 +1,15 @@
 package com.github.amangusss.gym_application.repository;
 
+import com.github.amangusss.gym_application.dto.trainer.TrainerDTO;
 import com.github.amangusss.gym_application.entity.trainer.Trainer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +18,23 @@ public interface TrainerRepository extends JpaRepository<Trainer, Long> {
     @Query("SELECT t FROM Trainer t LEFT JOIN FETCH t.user WHERE t.user.username = :username")
     Optional<Trainer> findByUserUsername(@Param("username") String username);
 
+    @Query("SELECT t FROM Trainer t JOIN FETCH t.user u WHERE u.username IN :usernames")
+    List<Trainer> findAllByUserUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    @Query("""
+            SELECT new com.github.amangusss.gym_application.dto.trainer.TrainerDTO$Response$Unassigned(
+                u.username, u.firstName, u.lastName, s.typeName)
+            FROM Trainer t
+            JOIN t.user u
+            JOIN t.specialization s
+            WHERE u.isActive = true
+              AND NOT EXISTS (
+                SELECT 1 FROM Trainee te JOIN te.trainers assigned
+                WHERE te.id = :traineeId AND assigned.id = t.id
+              )
+            ORDER BY u.username
+            """)
+    List<TrainerDTO.Response.Unassigned> findActiveUnassignedTrainers(@Param("traineeId") Long traineeId,
+                                                                      Pageable pageable);
+
 }
\ No newline at end of file
@@ -2,9 +2,51 @@ package com.github.amangusss.gym_application.repository;
 
 import com.github.amangusss.gym_application.entity.training.Training;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @Repository
 public interface TrainingRepository extends JpaRepository<Training, Long> {
+
+    @Query("""
+            SELECT t FROM Training t
+            JOIN FETCH t.trainer tr
+            JOIN FETCH tr.user tu
+            JOIN FETCH t.trainingType tt
+            WHERE t.trainee.id = :traineeId
+              AND (:periodFrom IS NULL OR t.trainingDate >= :periodFrom)
+              AND (:periodTo IS NULL OR t.trainingDate <= :periodTo)
+              AND (:trainerName IS NULL OR CONCAT(tu.firstName, ' ', tu.lastName) LIKE CONCAT('%', :trainerName, '%'))
+              AND (:trainingTypeId IS NULL OR tt.id = :trainingTypeId)
+            ORDER BY t.trainingDate, t.id
+            """)
+    List<Training> findTraineeTrainings(@Param("traineeId") Long traineeId,
+                                        @Param("periodFrom") LocalDate periodFrom,
+                                        @Param("periodTo") LocalDate periodTo,
+                                        @Param("trainerName") String trainerName,
+                                        @Param("trainingTypeId") Long trainingTypeId,
+                                        Pageable pageable);
+
+    @Query("""
+            SELECT t FROM Training t
+            JOIN FETCH t.trainee te
+            JOIN FETCH te.user teu
+            JOIN FETCH t.trainingType tt
+            WHERE t.trainer.id = :trainerId
+              AND (:periodFrom IS NULL OR t.trainingDate >= :periodFrom)
+              AND (:periodTo IS NULL OR t.trainingDate <= :periodTo)
+              AND (:traineeName IS NULL OR teu.searchName LIKE CONCAT('%', :traineeName, '%'))
+            ORDER BY t.trainingDate, t.id
+            """)
+    List<Training> findTrainerTrainings(@Param("trainerId") Long trainerId,
+                                        @Param("periodFrom") LocalDate periodFrom,
+                                        @Param("periodTo") LocalDate periodTo,
+                                        @Param("traineeName") String traineeName,
+                                        Pageable pageable);
 }
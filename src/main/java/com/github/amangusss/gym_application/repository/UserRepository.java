@@ -1,9 +1,13 @@
 package com.github.amangusss.gym_application.repository;
 
 import com.github.amangusss.gym_application.entity.CustomUser;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +15,17 @@ public interface UserRepository extends JpaRepository<CustomUser, Long> {
 
     boolean existsByUsername(String username);
     Optional<CustomUser> findByUsername(String username);
+
+    @Query(value = """
+            SELECT MAX(CASE WHEN u.username = :baseUsername THEN 0
+                            ELSE CAST(SUBSTRING(u.username FROM CHAR_LENGTH(:baseUsername) + 1) AS INTEGER) END)
+            FROM users u
+            WHERE u.username = :baseUsername
+               OR (u.username LIKE :prefix || '%' ESCAPE '\\'
+                   AND SUBSTRING(u.username FROM CHAR_LENGTH(:baseUsername) + 1) ~ '^[0-9]{1,9}$')
+            """, nativeQuery = true)
+    Integer findMaxUsernameSuffix(@Param("baseUsername") String baseUsername, @Param("prefix") String prefix);
+
+    @Query("SELECT u.username FROM CustomUser u WHERE u.username > :after ORDER BY u.username")
+    List<String> findUsernamesAfter(@Param("after") String after, Pageable pageable);
 }
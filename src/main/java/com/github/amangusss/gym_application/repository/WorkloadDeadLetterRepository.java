@@ -0,0 +1,59 @@
+package com.github.amangusss.gym_application.repository;
+
+import com.github.amangusss.gym_application.entity.workload.WorkloadDeadLetter;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WorkloadDeadLetterRepository extends JpaRepository<WorkloadDeadLetter, Long> {
+
+    boolean existsByMessageId(String messageId);
+
+    long countByStatus(WorkloadDeadLetter.Status status);
+
+    long countByStatusAndIdIn(WorkloadDeadLetter.Status status, Collection<Long> ids);
+
+    @Query("""
+            SELECT d FROM WorkloadDeadLetter d
+            WHERE (:errorReason IS NULL OR d.errorReason = :errorReason)
+              AND (:status IS NULL OR d.status = :status)
+              AND (:receivedFrom IS NULL OR d.receivedAt >= :receivedFrom)
+              AND (:receivedTo IS NULL OR d.receivedAt <= :receivedTo)
+            ORDER BY d.receivedAt DESC, d.id DESC
+            """)
+    List<WorkloadDeadLetter> findDeadLetters(@Param("errorReason") String errorReason,
+                                             @Param("status") WorkloadDeadLetter.Status status,
+                                             @Param("receivedFrom") LocalDateTime receivedFrom,
+                                             @Param("receivedTo") LocalDateTime receivedTo,
+                                             Pageable pageable);
+
+    @Query("""
+            SELECT d FROM WorkloadDeadLetter d
+            WHERE d.status = :status
+              AND d.id > :afterId
+            ORDER BY d.id
+            """)
+    List<WorkloadDeadLetter> findRedriveBatch(@Param("status") WorkloadDeadLetter.Status status,
+                                              @Param("afterId") Long afterId,
+                                              Pageable pageable);
+
+    @Query("""
+            SELECT d FROM WorkloadDeadLetter d
+            WHERE d.status = :status
+              AND d.id > :afterId
+              AND d.id IN :ids
+            ORDER BY d.id
+            """)
+    List<WorkloadDeadLetter> findRedriveBatchByIds(@Param("status") WorkloadDeadLetter.Status status,
+                                                   @Param("afterId") Long afterId,
+                                                   @Param("ids") Collection<Long> ids,
+                                                   Pageable pageable);
+}
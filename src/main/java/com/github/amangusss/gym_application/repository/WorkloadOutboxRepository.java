@@ -0,0 +1,96 @@
+package com.github.amangusss.gym_application.repository;
+
+import com.github.amangusss.gym_application.entity.workload.WorkloadOutboxEvent;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WorkloadOutboxRepository extends JpaRepository<WorkloadOutboxEvent, Long> {
+
+    String SKIP_LOCKED = "-2";
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("""
+            SELECT o FROM WorkloadOutboxEvent o
+            WHERE o.nextAttemptAt <= :now
+              AND (o.claimedUntil IS NULL OR o.claimedUntil < :now)
+              AND NOT EXISTS (
+                  SELECT 1 FROM WorkloadOutboxEvent earlier
+                  WHERE earlier.trainerUsername = o.trainerUsername
+                    AND earlier.id < o.id)
+            ORDER BY o.id
+            """)
+    List<WorkloadOutboxEvent> claimReadyHeads(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("""
+            SELECT o FROM WorkloadOutboxEvent o
+            WHERE o.nextAttemptAt <= :now
+              AND (o.claimedUntil IS NULL OR o.claimedUntil < :now)
+              AND o.trainerUsername NOT IN :excludedTrainers
+              AND NOT EXISTS (
+                  SELECT 1 FROM WorkloadOutboxEvent earlier
+                  WHERE earlier.trainerUsername = o.trainerUsername
+                    AND earlier.id < o.id)
+            ORDER BY o.id
+            """)
+    List<WorkloadOutboxEvent> claimReadyHeadsExcluding(@Param("now") LocalDateTime now,
+                                                       @Param("excludedTrainers") Collection<String> excludedTrainers,
+                                                       Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("""
+            SELECT o FROM WorkloadOutboxEvent o
+            WHERE o.trainerUsername = :trainerUsername
+              AND o.id > :headId
+              AND o.nextAttemptAt <= :now
+              AND (o.claimedUntil IS NULL OR o.claimedUntil < :now)
+            ORDER BY o.id
+            """)
+    List<WorkloadOutboxEvent> claimTrainerEvents(@Param("trainerUsername") String trainerUsername,
+                                                 @Param("headId") Long headId,
+                                                 @Param("now") LocalDateTime now,
+                                                 Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM WorkloadOutboxEvent o WHERE o.id IN :ids AND o.claimedBy = :claimedBy")
+    int deleteClaimed(@Param("ids") Collection<Long> ids, @Param("claimedBy") String claimedBy);
+
+    @Modifying
+    @Query("""
+            UPDATE WorkloadOutboxEvent o
+            SET o.claimedBy = NULL, o.claimedUntil = NULL
+            WHERE o.id IN :ids AND o.claimedBy = :claimedBy
+            """)
+    int releaseClaims(@Param("ids") Collection<Long> ids, @Param("claimedBy") String claimedBy);
+
+    @Modifying
+    @Query("""
+            UPDATE WorkloadOutboxEvent o
+            SET o.attempts = :attempts, o.nextAttemptAt = :nextAttemptAt, o.lastError = :lastError,
+                o.claimedBy = NULL, o.claimedUntil = NULL
+            WHERE o.id = :id AND o.claimedBy = :claimedBy
+            """)
+    int rescheduleClaimed(@Param("id") Long id,
+                          @Param("claimedBy") String claimedBy,
+                          @Param("attempts") int attempts,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("lastError") String lastError);
+}
@@ -6,5 +6,5 @@ public interface AuthService {
 
     AuthDTO.Response.Login login(AuthDTO.Request.Login request);
     void changePassword(String username, AuthDTO.Request.ChangePassword request);
-    void logout(String username);
+    void logout(String username, String token);
 }
@@ -0,0 +1,9 @@
+package com.github.amangusss.gym_application.service;
+
+import java.time.Instant;
+
+public interface TokenRevocationService {
+
+    void revoke(String tokenId, Instant expiresAt);
+    boolean isRevoked(String tokenId);
+}
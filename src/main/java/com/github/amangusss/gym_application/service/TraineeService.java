@@ -13,14 +13,15 @@ public interface TraineeService {
     Trainee changeTraineePassword(String username, String oldPassword, String newPassword);
     
     TraineeDTO.Response.Registered createTrainee(TraineeDTO.Request.Register request);
+    List<TraineeDTO.Response.BatchRegistered> createTrainees(List<TraineeDTO.Request.Register> requests);
     TraineeDTO.Response.Profile getTraineeProfile(String username);
     TraineeDTO.Response.Updated updateTrainee(TraineeDTO.Request.Update request, String username);
     void deleteTraineeByUsername(String username);
     void updateTraineeStatus(String username, boolean isActive);
     List<TrainingDTO.Response.TraineeTraining> getTraineeTrainings(
             String username, LocalDate periodFrom, LocalDate periodTo,
-            String trainerName, String trainingType);
-    List<TrainerDTO.Response.Unassigned> getUnassignedTrainers(String username);
+            String trainerName, String trainingType, Integer page, Integer size);
+    List<TrainerDTO.Response.Unassigned> getUnassignedTrainers(String username, Integer page, Integer size);
     List<TrainerDTO.Response.InList> updateTraineeTrainers(
             String username, TraineeDTO.Request.UpdateTrainers request);
 }
@@ -12,9 +12,11 @@ public interface TrainerService {
     Trainer changeTrainerPassword(String username, String oldPassword, String newPassword);
     
     TrainerDTO.Response.Registered registerTrainer(TrainerDTO.Request.Register request);
+    List<TrainerDTO.Response.BatchRegistered> registerTrainers(List<TrainerDTO.Request.Register> requests);
     TrainerDTO.Response.Profile getTrainerProfile(String username);
     TrainerDTO.Response.Updated updateTrainerProfile(TrainerDTO.Request.Update request, String username);
     void updateTrainerStatus(String username, Boolean isActive);
     List<TrainingDTO.Response.TrainerTraining> getTrainerTrainings(
-            String username, LocalDate periodFrom, LocalDate periodTo, String traineeName);
+            String username, LocalDate periodFrom, LocalDate periodTo, String traineeName,
+            Integer page, Integer size);
 }
@@ -2,10 +2,12 @@ package com.github.amangusss.gym_application.service.impl;
 
 import com.github.amangusss.gym_application.dto.auth.AuthDTO;
 import com.github.amangusss.gym_application.entity.CustomUser;
+import com.github.amangusss.gym_application.jwt.JwtClaims;
 import com.github.amangusss.gym_application.jwt.JwtUtils;
 import com.github.amangusss.gym_application.repository.UserRepository;
 import com.github.amangusss.gym_application.service.AuthService;
 import com.github.amangusss.gym_application.service.BruteForceProtectionService;
+import com.github.amangusss.gym_application.service.TokenRevocationService;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -16,8 +18,9 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,11 +32,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthServiceImpl implements AuthService {
 
     AuthenticationManager authenticationManager;
-    UserDetailsService userDetailsService;
     JwtUtils jwtUtils;
     BruteForceProtectionService bruteForceProtectionService;
     UserRepository userRepository;
     PasswordEncoder passwordEncoder;
+    UserCache userCache;
+    TokenRevocationService tokenRevocationService;
 
     @Override
     @Transactional
@@ -46,11 +50,11 @@ public class AuthServiceImpl implements AuthService {
         }
 
         try {
-            authenticationManager.authenticate(
+            Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(request.username(), request.password())
             );
 
-            UserDetails userDetails = userDetailsService.loadUserByUsername(request.username());
+            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
             String token = jwtUtils.generateToken(userDetails);
 
             bruteForceProtectionService.registerSuccessfulLogin(request.username());
@@ -86,13 +90,22 @@ public class AuthServiceImpl implements AuthService {
         String hashedPassword = passwordEncoder.encode(request.newPassword());
         user.setPassword(hashedPassword);
         userRepository.save(user);
+        userCache.removeUserFromCache(username);
 
         log.info("Password changed successfully for user: {}", username);
     }
 
     @Override
     @Transactional
-    public void logout(String username) {
+    public void logout(String username, String token) {
+        JwtClaims claims = jwtUtils.parseToken(token);
+
+        if (claims.tokenId() == null) {
+            log.warn("Token of user {} has no id and cannot be revoked", username);
+            return;
+        }
+
+        tokenRevocationService.revoke(claims.tokenId(), claims.expiration());
         log.info("CustomUser {} logged out", username);
     }
 }
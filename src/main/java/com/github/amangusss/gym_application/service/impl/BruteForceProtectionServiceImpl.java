@@ -1,7 +1,9 @@
 package com.github.amangusss.gym_application.service.impl;
 
 import com.github.amangusss.gym_application.cache.LoginAttemptCache;
-import com.github.amangusss.gym_application.config.CacheConfig;
+import com.github.amangusss.gym_application.cache.LoginAttemptPurger;
+import com.github.amangusss.gym_application.cache.LoginAttemptStore;
+import com.github.amangusss.gym_application.cache.LoginAttemptWriteBehind;
 import com.github.amangusss.gym_application.entity.auth.LoginAttempt;
 import com.github.amangusss.gym_application.repository.LoginAttemptRepository;
 import com.github.amangusss.gym_application.service.BruteForceProtectionService;
@@ -14,25 +16,26 @@ import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service
+@ConditionalOnProperty(name = "security.login-attempts.mode", havingValue = "local", matchIfMissing = true)
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class BruteForceProtectionServiceImpl implements BruteForceProtectionService {
 
     final LoginAttemptRepository loginAttemptRepository;
-    final CacheManager cacheManager;
-    final ConcurrentHashMap<String, Object> locks = new ConcurrentHashMap<>();
+    final LoginAttemptStore loginAttemptStore;
+    final LoginAttemptWriteBehind loginAttemptWriteBehind;
+    final LoginAttemptPurger loginAttemptPurger;
 
     @Value("${security.max-login-attempts}")
     int maxLoginAttempts;
@@ -49,8 +52,7 @@ public class BruteForceProtectionServiceImpl implements BruteForceProtectionServ
                     .findAllByLockedUntilAfter(LocalDateTime.now());
 
             activeAttempts.forEach(attempt -> {
-                LoginAttemptCache cacheEntry = convertToCache(attempt);
-                putInCache(attempt.getUsername(), cacheEntry);
+                loginAttemptStore.put(convertToCache(attempt));
                 log.debug("Restored locked user from DB to cache: {}, locked until: {}",
                          attempt.getUsername(), attempt.getLockedUntil());
             });
@@ -62,101 +64,63 @@ public class BruteForceProtectionServiceImpl implements BruteForceProtectionServ
     }
 
     @Override
-    @Transactional
     public void registerSuccessfulLogin(String username) {
-        log.debug("Registering successful login for user: {}", username);
-
-        evictFromCache(username);
-
-        loginAttemptRepository.findByUsername(username)
-                .ifPresent(attempt -> {
-                    loginAttemptRepository.delete(attempt);
-                    log.debug("Cleared login attempts from DB for user: {}", username);
-                });
+        loginAttemptStore.compute(username, (key, current) -> {
+            if (current == null) {
+                log.debug("No failed attempts recorded for user: {}, nothing to clear", key);
+                return null;
+            }
+
+            log.debug("Registering successful login for user: {}", key);
+            loginAttemptWriteBehind.enqueueDelete(key);
+            return null;
+        });
     }
 
     @Override
-    @Transactional
     public void registerFailedLogin(String username) {
-        Object lock = locks.computeIfAbsent(username, k -> new Object());
-        synchronized (lock) {
-            log.debug("Registering failed login for user: {}", username);
-
-            LoginAttemptCache cacheEntry = getOrCreateAttempt(username);
-            incrementAttemptCount(cacheEntry);
-            applyLockoutIfNeeded(cacheEntry);
-            saveAttempt(cacheEntry);
-        }
-    }
+        long now = System.currentTimeMillis();
 
-    private LoginAttemptCache getOrCreateAttempt(String username) {
-        LoginAttemptCache cacheEntry = getFromCache(username);
-        LocalDateTime now = LocalDateTime.now();
+        loginAttemptStore.compute(username, (key, current) -> {
+            LoginAttemptCache updated = nextAttempt(key, current, now);
+            loginAttemptWriteBehind.enqueueSave(updated);
+            return updated;
+        });
+    }
 
-        if (cacheEntry == null) {
+    private LoginAttemptCache nextAttempt(String username, LoginAttemptCache current, long now) {
+        if (current == null || current.isLockoutExpired(now)) {
             log.debug("First failed login attempt for user: {}", username);
-            return createNewAttempt(username, now);
-        }
-
-        if (isLockoutExpired(cacheEntry, now)) {
-            log.debug("Lockout expired for user: {}, resetting counter", username);
-            return createNewAttempt(username, now);
+            return applyLockoutIfNeeded(new LoginAttemptCache(username, 1, now, now, 0));
         }
 
-        return cacheEntry;
-    }
-
-    private LoginAttemptCache createNewAttempt(String username, LocalDateTime now) {
-        return LoginAttemptCache.builder()
-                .username(username)
-                .attemptCount(0)
-                .firstAttemptTime(now)
-                .lastAttemptTime(now)
-                .build();
-    }
-
-    private boolean isLockoutExpired(LoginAttemptCache cacheEntry, LocalDateTime now) {
-        return cacheEntry.getLockedUntil() != null && now.isAfter(cacheEntry.getLockedUntil());
-    }
-
-    private void incrementAttemptCount(LoginAttemptCache cacheEntry) {
-        cacheEntry.setAttemptCount(cacheEntry.getAttemptCount() + 1);
-        cacheEntry.setLastAttemptTime(LocalDateTime.now());
-        log.debug("Failed login attempt #{} for user: {}", cacheEntry.getAttemptCount(), cacheEntry.getUsername());
+        log.debug("Failed login attempt #{} for user: {}", current.getAttemptCount() + 1, username);
+        return applyLockoutIfNeeded(current.toBuilder()
+                .attemptCount(current.getAttemptCount() + 1)
+                .lastAttemptMillis(now)
+                .build());
     }
 
-    private void applyLockoutIfNeeded(LoginAttemptCache cacheEntry) {
-        if (cacheEntry.getAttemptCount() >= maxLoginAttempts) {
-            LocalDateTime lockoutTime = cacheEntry.getFirstAttemptTime()
-                    .plusSeconds(lockoutDurationMillis / 1000);
-            cacheEntry.setLockedUntil(lockoutTime);
-
-            log.warn("User {} locked until {} after {} failed attempts",
-                    cacheEntry.getUsername(), lockoutTime, cacheEntry.getAttemptCount());
+    private LoginAttemptCache applyLockoutIfNeeded(LoginAttemptCache attempt) {
+        if (attempt.getAttemptCount() < maxLoginAttempts || attempt.getLockedUntilMillis() != 0) {
+            return attempt;
         }
+
+        long lockedUntil = attempt.getFirstAttemptMillis() + lockoutDurationMillis;
+        log.warn("User {} locked until {} after {} failed attempts",
+                attempt.getUsername(), Instant.ofEpochMilli(lockedUntil), attempt.getAttemptCount());
+        return attempt.toBuilder()
+                .lockedUntilMillis(lockedUntil)
+                .build();
     }
 
     @Override
     public boolean isBlocked(String username) {
-        LoginAttemptCache cacheEntry = getFromCache(username);
-
-        if (cacheEntry == null) {
-            return false;
-        }
-
-        LocalDateTime now = LocalDateTime.now();
-
-        if (cacheEntry.getLockedUntil() != null && now.isAfter(cacheEntry.getLockedUntil())) {
-            log.debug("User {} lockout expired, clearing attempts", username);
-            clearAttempts(username);
-            return false;
-        }
-
-        boolean isBlocked = cacheEntry.getLockedUntil() != null &&
-                           now.isBefore(cacheEntry.getLockedUntil());
+        LoginAttemptCache attempt = loginAttemptStore.get(username);
+        boolean isBlocked = attempt != null && attempt.isLocked(System.currentTimeMillis());
 
         if (isBlocked) {
-            log.debug("User {} is blocked until {}", username, cacheEntry.getLockedUntil());
+            log.debug("User {} is blocked until {}", username, Instant.ofEpochMilli(attempt.getLockedUntilMillis()));
         }
 
         return isBlocked;
@@ -164,111 +128,46 @@ public class BruteForceProtectionServiceImpl implements BruteForceProtectionServ
 
     @Override
     public int getRemainingAttempts(String username) {
-        if (isBlocked(username)) {
-            return 0;
-        }
-
-        LoginAttemptCache cacheEntry = getFromCache(username);
+        LoginAttemptCache attempt = loginAttemptStore.get(username);
+        long now = System.currentTimeMillis();
 
-        if (cacheEntry == null) {
+        if (attempt == null || attempt.isLockoutExpired(now)) {
             return maxLoginAttempts;
         }
 
-        int remaining = Math.max(0, maxLoginAttempts - cacheEntry.getAttemptCount());
-
-        log.debug("User {} has {} remaining login attempts", username, remaining);
-        return remaining;
-    }
-
-    private void saveAttempt(LoginAttemptCache cacheEntry) {
-        putInCache(cacheEntry.getUsername(), cacheEntry);
-
-        LoginAttempt entity = convertToEntity(cacheEntry);
-
-        loginAttemptRepository.findByUsername(cacheEntry.getUsername())
-                .ifPresentOrElse(
-                        existing -> {
-                            existing.setAttemptCount(cacheEntry.getAttemptCount());
-                            existing.setFirstAttemptTime(cacheEntry.getFirstAttemptTime());
-                            existing.setLastAttemptTime(cacheEntry.getLastAttemptTime());
-                            existing.setLockedUntil(cacheEntry.getLockedUntil());
-                            loginAttemptRepository.save(existing);
-                        },
-                        () -> loginAttemptRepository.save(entity)
-                );
-
-        log.debug("Saved login attempt for user {} to cache and DB", cacheEntry.getUsername());
-    }
-
-    private void clearAttempts(String username) {
-        evictFromCache(username);
-
-        loginAttemptRepository.findByUsername(username)
-                .ifPresent(loginAttemptRepository::delete);
-
-        log.debug("Cleared all login attempts for user: {}", username);
-    }
-
-    private LoginAttemptCache getFromCache(String username) {
-        Cache cache = cacheManager.getCache(CacheConfig.LOGIN_ATTEMPTS_CACHE);
-        if (cache == null) {
-            log.warn("Login attempts cache not found!");
-            return null;
-        }
-
-        return cache.get(username, LoginAttemptCache.class);
-    }
-
-    private void putInCache(String username, LoginAttemptCache cacheEntry) {
-        Cache cache = cacheManager.getCache(CacheConfig.LOGIN_ATTEMPTS_CACHE);
-        if (cache == null) {
-            log.warn("Login attempts cache not found!");
-            return;
+        if (attempt.isLocked(now)) {
+            return 0;
         }
 
-        cache.put(username, cacheEntry);
-    }
-
-    private void evictFromCache(String username) {
-        Cache cache = cacheManager.getCache(CacheConfig.LOGIN_ATTEMPTS_CACHE);
-        if (cache == null) {
-            log.warn("Login attempts cache not found!");
-            return;
-        }
+        int remaining = Math.max(0, maxLoginAttempts - attempt.getAttemptCount());
 
-        cache.evict(username);
+        log.debug("User {} has {} remaining login attempts", username, remaining);
+        return remaining;
     }
 
-    private LoginAttempt convertToEntity(LoginAttemptCache cache) {
-        return LoginAttempt.builder()
-                .username(cache.getUsername())
-                .attemptCount(cache.getAttemptCount())
-                .firstAttemptTime(cache.getFirstAttemptTime())
-                .lastAttemptTime(cache.getLastAttemptTime())
-                .lockedUntil(cache.getLockedUntil())
-                .build();
+    private LoginAttemptCache convertToCache(LoginAttempt entity) {
+        return new LoginAttemptCache(
+                entity.getUsername(),
+                entity.getAttemptCount(),
+                toEpochMillis(entity.getFirstAttemptTime() != null ? entity.getFirstAttemptTime() : entity.getLastAttemptTime()),
+                toEpochMillis(entity.getLastAttemptTime()),
+                entity.getLockedUntil() != null ? toEpochMillis(entity.getLockedUntil()) : 0
+        );
     }
 
-    private LoginAttemptCache convertToCache(LoginAttempt entity) {
-        return LoginAttemptCache.builder()
-                .username(entity.getUsername())
-                .attemptCount(entity.getAttemptCount())
-                .firstAttemptTime(entity.getFirstAttemptTime())
-                .lastAttemptTime(entity.getLastAttemptTime())
-                .lockedUntil(entity.getLockedUntil())
-                .build();
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 
     @Scheduled(cron = "0 0 2 * * ?")
-    @Transactional
     public void cleanupOldAttempts() {
         log.info("Running scheduled cleanup of old login attempts");
 
         try {
             LocalDateTime threshold = LocalDateTime.now().minusDays(7);
-            loginAttemptRepository.deleteAllByLastAttemptTimeBefore(threshold);
+            long purged = loginAttemptPurger.purgeOlderThan(threshold);
 
-            log.info("Cleaned up login attempts older than 7 days");
+            log.info("Cleaned up {} login attempts older than 7 days", purged);
         } catch (Exception e) {
             log.error("Error during scheduled cleanup of login attempts", e);
         }
@@ -0,0 +1,158 @@
+package com.github.amangusss.gym_application.service.impl;
+
+import com.github.amangusss.gym_application.cache.LoginAttemptCache;
+import com.github.amangusss.gym_application.cache.LoginAttemptPurger;
+import com.github.amangusss.gym_application.entity.auth.LoginAttempt;
+import com.github.amangusss.gym_application.repository.LoginAttemptRepository;
+import com.github.amangusss.gym_application.repository.LoginAttemptRepository.AttemptSnapshot;
+import com.github.amangusss.gym_application.service.BruteForceProtectionService;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "security.login-attempts.mode", havingValue = "cluster")
+public class ClusteredBruteForceProtectionServiceImpl implements BruteForceProtectionService {
+
+    private final LoginAttemptRepository loginAttemptRepository;
+    private final LoginAttemptPurger loginAttemptPurger;
+    private final LoadingCache<String, Optional<LoginAttemptCache>> readCache;
+    private final int maxLoginAttempts;
+    private final long lockoutDurationMillis;
+    private final long retentionMillis;
+
+    public ClusteredBruteForceProtectionServiceImpl(LoginAttemptRepository loginAttemptRepository,
+                                                    LoginAttemptPurger loginAttemptPurger,
+                                                    @Value("${security.max-login-attempts}") int maxLoginAttempts,
+                                                    @Value("${security.lockout-duration}") long lockoutDurationMillis,
+                                                    @Value("${security.login-attempts.retention-ms:900000}") long retentionMillis,
+                                                    @Value("${security.login-attempts.max-tracked-users:10000}") long maxTrackedUsers,
+                                                    @Value("${security.login-attempts.cluster-read-ttl-ms:1000}") long readTtlMillis) {
+        this.loginAttemptRepository = loginAttemptRepository;
+        this.loginAttemptPurger = loginAttemptPurger;
+        this.maxLoginAttempts = maxLoginAttempts;
+        this.lockoutDurationMillis = lockoutDurationMillis;
+        this.retentionMillis = retentionMillis;
+        this.readCache = Caffeine.newBuilder()
+                .maximumSize(maxTrackedUsers)
+                .expireAfterWrite(Duration.ofMillis(readTtlMillis))
+                .build(this::loadAttempt);
+
+        log.info("Brute force protection running in cluster mode, read TTL {} ms", readTtlMillis);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void registerSuccessfulLogin(String username) {
+        log.debug("Registering successful login for user: {}", username);
+        loginAttemptRepository.deleteAllByUsernameIn(List.of(username));
+        readCache.put(username, Optional.empty());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void registerFailedLogin(String username) {
+        LocalDateTime now = LocalDateTime.now();
+
+        AttemptSnapshot snapshot = loginAttemptRepository.upsertFailedAttempt(
+                username,
+                now,
+                now.minus(Duration.ofMillis(retentionMillis)),
+                now.plus(Duration.ofMillis(lockoutDurationMillis)),
+                maxLoginAttempts,
+                lockoutDurationMillis);
+
+        LoginAttemptCache attempt = convertToCache(snapshot);
+        readCache.put(username, Optional.of(attempt));
+
+        if (attempt.getLockedUntilMillis() != 0) {
+            log.warn("User {} locked until {} after {} failed attempts",
+                    username, Instant.ofEpochMilli(attempt.getLockedUntilMillis()), attempt.getAttemptCount());
+        } else {
+            log.debug("Failed login attempt #{} for user: {}", attempt.getAttemptCount(), username);
+        }
+    }
+
+    @Override
+    public boolean isBlocked(String username) {
+        return readCache.get(username)
+                .filter(attempt -> attempt.isLocked(System.currentTimeMillis()))
+                .isPresent();
+    }
+
+    @Override
+    public int getRemainingAttempts(String username) {
+        Optional<LoginAttemptCache> cached = readCache.get(username);
+        long now = System.currentTimeMillis();
+
+        if (cached.isEmpty() || cached.get().isLockoutExpired(now)
+                || cached.get().getLastAttemptMillis() + retentionMillis < now) {
+            return maxLoginAttempts;
+        }
+
+        LoginAttemptCache attempt = cached.get();
+        if (attempt.isLocked(now)) {
+            return 0;
+        }
+
+        return Math.max(0, maxLoginAttempts - attempt.getAttemptCount());
+    }
+
+    @Scheduled(cron = "0 0 2 * * ?")
+    public void cleanupOldAttempts() {
+        log.info("Running scheduled cleanup of old login attempts");
+
+        try {
+            long purged = loginAttemptPurger.purgeOlderThan(LocalDateTime.now().minusDays(7));
+
+            log.info("Cleaned up {} login attempts older than 7 days", purged);
+        } catch (Exception e) {
+            log.error("Error during scheduled cleanup of login attempts", e);
+        }
+    }
+
+    private Optional<LoginAttemptCache> loadAttempt(String username) {
+        return loginAttemptRepository.findByUsername(username).map(this::convertToCache);
+    }
+
+    private LoginAttemptCache convertToCache(LoginAttempt entity) {
+        return new LoginAttemptCache(
+                entity.getUsername(),
+                entity.getAttemptCount(),
+                toEpochMillis(entity.getFirstAttemptTime() != null ? entity.getFirstAttemptTime() : entity.getLastAttemptTime()),
+                toEpochMillis(entity.getLastAttemptTime()),
+                entity.getLockedUntil() != null ? toEpochMillis(entity.getLockedUntil()) : 0
+        );
+    }
+
+    private LoginAttemptCache convertToCache(AttemptSnapshot snapshot) {
+        return new LoginAttemptCache(
+                snapshot.getUsername(),
+                snapshot.getAttemptCount(),
+                toEpochMillis(snapshot.getFirstAttemptTime()),
+                toEpochMillis(snapshot.getLastAttemptTime()),
+                snapshot.getLockedUntil() != null ? toEpochMillis(snapshot.getLockedUntil()) : 0
+        );
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -3,27 +3,43 @@ package com.github.amangusss.gym_application.service.impl;
 import com.github.amangusss.gym_application.entity.CustomUser;
 import com.github.amangusss.gym_application.repository.UserRepository;
 
-import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
-import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
-@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
-    UserRepository userRepository;
+    private static final GrantedAuthority USER_AUTHORITY = new SimpleGrantedAuthority("ROLE_USER");
+
+    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final List<GrantedAuthority> adminAuthorities;
+    private final Set<String> adminUsernames;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    UserCache userCache,
+                                    @Value("${security.admin-authority:ROLE_ADMIN}") String adminAuthority,
+                                    @Value("${security.admin-usernames:}") Set<String> adminUsernames) {
+        this.userRepository = userRepository;
+        this.userCache = userCache;
+        this.adminAuthorities = List.of(USER_AUTHORITY, new SimpleGrantedAuthority(adminAuthority));
+        this.adminUsernames = Set.copyOf(adminUsernames);
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -37,10 +53,28 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         log.debug("CustomUser found: {}, active: {}", username, user.isActive());
 
+        return toUserDetails(user);
+    }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        CustomUser user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("CustomUser not found: " + userDetails.getUsername()));
+
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        userCache.removeUserFromCache(user.getUsername());
+
+        log.info("Upgraded password hash for user: {}", user.getUsername());
+        return toUserDetails(user);
+    }
+
+    private UserDetails toUserDetails(CustomUser user) {
         return User.builder()
                 .username(user.getUsername())
                 .password(user.getPassword())
-                .authorities(Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")))
+                .authorities(adminUsernames.contains(user.getUsername()) ? adminAuthorities : List.of(USER_AUTHORITY))
                 .accountExpired(false)
                 .accountLocked(!user.isActive())
                 .credentialsExpired(false)
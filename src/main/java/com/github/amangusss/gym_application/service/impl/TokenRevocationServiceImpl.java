@@ -0,0 +1,129 @@
+package com.github.amangusss.gym_application.service.impl;
+
+import com.github.amangusss.gym_application.entity.auth.RevokedToken;
+import com.github.amangusss.gym_application.jwt.RevokedTokenRegistry;
+import com.github.amangusss.gym_application.repository.RevokedTokenRepository;
+import com.github.amangusss.gym_application.service.TokenRevocationService;
+
+import jakarta.annotation.PostConstruct;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+@Slf4j
+@Service
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final Duration syncOverlap;
+    private volatile LocalDateTime lastSyncedAt;
+
+    public TokenRevocationServiceImpl(RevokedTokenRepository revokedTokenRepository,
+                                      RevokedTokenRegistry revokedTokenRegistry,
+                                      @Value("${jwt.revocation.sync-overlap-ms:10000}") long syncOverlapMillis) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.revokedTokenRegistry = revokedTokenRegistry;
+        this.syncOverlap = Duration.ofMillis(syncOverlapMillis);
+    }
+
+    @PostConstruct
+    public void loadRevocations() {
+        log.info("Loading active token revocations from database");
+
+        try {
+            LocalDateTime loadStartedAt = LocalDateTime.now();
+            List<RevokedToken> activeRevocations = revokedTokenRepository
+                    .findAllByExpiresAtAfter(loadStartedAt);
+
+            activeRevocations.forEach(this::register);
+            lastSyncedAt = loadStartedAt;
+
+            log.info("Loaded {} active token revocations", activeRevocations.size());
+        } catch (Exception e) {
+            log.error("Error loading token revocations from database", e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${jwt.revocation.tick-ms:60000}",
+            fixedDelayString = "${jwt.revocation.tick-ms:60000}")
+    public void syncRevocations() {
+        LocalDateTime since = lastSyncedAt;
+        if (since == null) {
+            loadRevocations();
+            return;
+        }
+
+        try {
+            LocalDateTime syncStartedAt = LocalDateTime.now();
+            List<RevokedToken> newRevocations = revokedTokenRepository
+                    .findAllByRevokedAtAfterAndExpiresAtAfter(since.minus(syncOverlap), syncStartedAt);
+
+            newRevocations.forEach(this::register);
+            lastSyncedAt = syncStartedAt;
+
+            if (!newRevocations.isEmpty()) {
+                log.debug("Synced {} token revocations recorded since {}", newRevocations.size(), since);
+            }
+        } catch (Exception e) {
+            log.error("Error syncing token revocations from database", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (revokedTokenRegistry.isRevoked(tokenId) || !expiresAt.isAfter(Instant.now())) {
+            log.debug("Token {} is already revoked or expired", tokenId);
+            return;
+        }
+
+        revokedTokenRegistry.revoke(tokenId, expiresAt.toEpochMilli());
+
+        if (!revokedTokenRepository.existsByTokenId(tokenId)) {
+            revokedTokenRepository.save(RevokedToken.builder()
+                    .tokenId(tokenId)
+                    .expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+                    .revokedAt(LocalDateTime.now())
+                    .build());
+        }
+
+        log.info("Revoked token {} until {}", tokenId, expiresAt);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revokedTokenRegistry.isRevoked(tokenId);
+    }
+
+    @Scheduled(cron = "0 30 2 * * ?")
+    @Transactional
+    public void cleanupExpiredRevocations() {
+        log.info("Running scheduled cleanup of expired token revocations");
+
+        try {
+            int deleted = revokedTokenRepository.deleteAllExpiredBefore(LocalDateTime.now());
+            log.info("Cleaned up {} expired token revocations", deleted);
+        } catch (Exception e) {
+            log.error("Error during scheduled cleanup of token revocations", e);
+        }
+    }
+
+    private void register(RevokedToken revokedToken) {
+        revokedTokenRegistry.revoke(revokedToken.getTokenId(), toEpochMillis(revokedToken.getExpiresAt()));
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
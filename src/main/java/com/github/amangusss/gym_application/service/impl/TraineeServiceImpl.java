@@ -7,18 +7,23 @@ import com.github.amangusss.gym_application.entity.TrainingType;
 import com.github.amangusss.gym_application.entity.trainee.Trainee;
 import com.github.amangusss.gym_application.entity.trainer.Trainer;
 import com.github.amangusss.gym_application.entity.training.Training;
+import com.github.amangusss.gym_application.exception.GymApplicationException;
 import com.github.amangusss.gym_application.exception.TraineeNotFoundException;
 import com.github.amangusss.gym_application.exception.TrainerNotFoundException;
+import com.github.amangusss.gym_application.exception.ValidationException;
 import com.github.amangusss.gym_application.mapper.TraineeMapper;
 import com.github.amangusss.gym_application.mapper.TrainerMapper;
 import com.github.amangusss.gym_application.mapper.TrainingMapper;
 import com.github.amangusss.gym_application.repository.TraineeRepository;
 import com.github.amangusss.gym_application.repository.TrainerRepository;
+import com.github.amangusss.gym_application.repository.TrainingRepository;
 import com.github.amangusss.gym_application.repository.TrainingTypeRepository;
-import com.github.amangusss.gym_application.repository.UserRepository;
 import com.github.amangusss.gym_application.service.TraineeService;
-import com.github.amangusss.gym_application.util.credentials.PasswordGenerator;
+import com.github.amangusss.gym_application.util.batch.BatchRowPersister;
+import com.github.amangusss.gym_application.util.credentials.BatchCredentialsGenerator;
+import com.github.amangusss.gym_application.util.credentials.CredentialPool;
 import com.github.amangusss.gym_application.util.credentials.UsernameGenerator;
+import com.github.amangusss.gym_application.util.paging.PageableFactory;
 import com.github.amangusss.gym_application.validation.entity.EntityValidator;
 
 import lombok.AccessLevel;
@@ -26,11 +31,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -44,15 +56,19 @@ public class TraineeServiceImpl implements TraineeService {
 
     TraineeRepository traineeRepository;
     TrainerRepository trainerRepository;
+    TrainingRepository trainingRepository;
     TrainingTypeRepository trainingTypeRepository;
-    UserRepository userRepository;
     UsernameGenerator usernameGenerator;
-    PasswordGenerator passwordGenerator;
     EntityValidator entityValidator;
     TraineeMapper traineeMapper;
     TrainerMapper trainerMapper;
     TrainingMapper trainingMapper;
     PasswordEncoder passwordEncoder;
+    PageableFactory pageableFactory;
+    BatchCredentialsGenerator batchCredentialsGenerator;
+    BatchRowPersister batchRowPersister;
+    CredentialPool credentialPool;
+    UserCache userCache;
 
     @Override
     public Trainee changeTraineePassword(String username, String oldPassword, String newPassword) {
@@ -66,6 +82,7 @@ public class TraineeServiceImpl implements TraineeService {
         String hashedPassword = passwordEncoder.encode(newPassword);
         trainee.getUser().setPassword(hashedPassword);
         Trainee updatedTrainee = traineeRepository.save(trainee);
+        userCache.removeUserFromCache(username);
         log.info("Successfully changed password for trainee: {}", username);
         return updatedTrainee;
     }
@@ -84,6 +101,56 @@ public class TraineeServiceImpl implements TraineeService {
         return traineeMapper.toRegisteredResponse(savedTrainee, plainPassword);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TraineeDTO.Response.BatchRegistered> createTrainees(List<TraineeDTO.Request.Register> requests) {
+        batchCredentialsGenerator.validateBatchSize(requests.size());
+        log.debug("Creating {} trainee profiles in batch", requests.size());
+
+        TraineeDTO.Response.BatchRegistered[] results = new TraineeDTO.Response.BatchRegistered[requests.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<Trainee> trainees = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                if (requests.get(i) == null) {
+                    throw new ValidationException("Trainee registration request cannot be null");
+                }
+                Trainee trainee = traineeMapper.toEntity(requests.get(i));
+                entityValidator.validateTraineeForCreation(trainee);
+                trainee.getUser().setActive(true);
+                trainees.add(trainee);
+                validIndexes.add(i);
+            } catch (GymApplicationException e) {
+                log.debug("Skipping trainee batch row {}: {}", i, e.getMessage());
+                results[i] = new TraineeDTO.Response.BatchRegistered(i, null, null, e.getMessage());
+            }
+        }
+
+        int registered = 0;
+        if (!trainees.isEmpty()) {
+            List<String> plainPasswords = batchCredentialsGenerator.assignCredentials(
+                    trainees.stream().map(Trainee::getUser).toList());
+            List<BatchRowPersister.RowResult<Trainee>> savedTrainees = batchRowPersister.saveAll(trainees,
+                    traineeRepository::saveAll, traineeRepository::save, TraineeServiceImpl::resetIdentifiers);
+
+            for (int i = 0; i < savedTrainees.size(); i++) {
+                int index = validIndexes.get(i);
+                BatchRowPersister.RowResult<Trainee> saved = savedTrainees.get(i);
+                if (saved.isSaved()) {
+                    registered++;
+                    results[index] = new TraineeDTO.Response.BatchRegistered(
+                            index, saved.saved().getUser().getUsername(), plainPasswords.get(i), null);
+                } else {
+                    results[index] = new TraineeDTO.Response.BatchRegistered(index, null, null, saved.error());
+                }
+            }
+        }
+
+        log.info("Batch registered {} of {} trainees", registered, requests.size());
+        return Arrays.asList(results);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public TraineeDTO.Response.Profile getTraineeProfile(String username) {
@@ -112,6 +179,7 @@ public class TraineeServiceImpl implements TraineeService {
         existingTrainee.setAddress(trainee.getAddress());
 
         Trainee updatedTrainee = traineeRepository.save(existingTrainee);
+        userCache.removeUserFromCache(username);
         log.info("Successfully updated trainee profile: {}", username);
         return traineeMapper.toUpdatedResponse(updatedTrainee);
     }
@@ -123,6 +191,7 @@ public class TraineeServiceImpl implements TraineeService {
         Trainee trainee = traineeRepository.findByUserUsername(username)
                 .orElseThrow(() -> new TraineeNotFoundException("Trainee not found with username: " + username));
         traineeRepository.delete(trainee);
+        userCache.removeUserFromCache(username);
         log.info("Successfully deleted trainee profile: {} with cascade deletion of trainings", username);
     }
 
@@ -134,6 +203,7 @@ public class TraineeServiceImpl implements TraineeService {
                 .orElseThrow(() -> new TraineeNotFoundException("Trainee not found with username: " + username));
         trainee.getUser().setActive(isActive);
         traineeRepository.save(trainee);
+        userCache.removeUserFromCache(username);
         
         log.info("Successfully updated trainee isActive for: {}", username);
     }
@@ -142,29 +212,22 @@ public class TraineeServiceImpl implements TraineeService {
     @Transactional(readOnly = true)
     public List<TrainingDTO.Response.TraineeTraining> getTraineeTrainings(
             String username, LocalDate periodFrom, LocalDate periodTo,
-            String trainerName, String trainingType) {
-        log.debug("Fetching trainee trainings for username: {} with filters - periodFrom: {}, periodTo: {}, trainerName: {}, trainingType: {}",
-                username, periodFrom, periodTo, trainerName, trainingType);
+            String trainerName, String trainingType, Integer page, Integer size) {
+        log.debug("Fetching trainee trainings for username: {} with filters - periodFrom: {}, periodTo: {}, trainerName: {}, trainingType: {}, page: {}, size: {}",
+                username, periodFrom, periodTo, trainerName, trainingType, page, size);
         entityValidator.validateDateRange(periodFrom, periodTo);
+        Pageable pageable = pageableFactory.create(page, size);
 
-        TrainingType type = trainingType != null ?
-                trainingTypeRepository.findByTypeName(trainingType).orElse(null) : null;
+        Long trainingTypeId = trainingType != null ?
+                trainingTypeRepository.findByTypeName(trainingType).map(TrainingType::getId).orElse(null) : null;
 
         Trainee trainee = traineeRepository.findByUserUsername(username)
                 .orElseThrow(() -> new TraineeNotFoundException("Trainee not found with username: " + username));
 
-        List<Training> trainings = trainee.getTrainings().stream()
-                .filter(training -> {
-                    if (periodFrom != null && training.getTrainingDate().isBefore(periodFrom)) return false;
-                    if (periodTo != null && training.getTrainingDate().isAfter(periodTo)) return false;
-                    if (trainerName != null && !trainerName.isEmpty()) {
-                        String fullName = training.getTrainer().getUser().getFirstName() + " " +
-                                training.getTrainer().getUser().getLastName();
-                        if (!fullName.contains(trainerName)) return false;
-                    }
-                    return type == null || training.getTrainingType().equals(type);
-                })
-                .toList();
+        List<Training> trainings = trainingRepository.findTraineeTrainings(
+                trainee.getId(), periodFrom, periodTo,
+                StringUtils.isEmpty(trainerName) ? null : trainerName,
+                trainingTypeId, pageable);
 
         List<TrainingDTO.Response.TraineeTraining> response = trainings.stream()
                 .map(trainingMapper::toTraineeTrainingResponse)
@@ -176,22 +239,16 @@ public class TraineeServiceImpl implements TraineeService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<TrainerDTO.Response.Unassigned> getUnassignedTrainers(String username) {
+    public List<TrainerDTO.Response.Unassigned> getUnassignedTrainers(String username, Integer page, Integer size) {
         log.debug("Fetching unassigned trainers for trainee: {}", username);
 
+        Pageable pageable = pageableFactory.create(page, size);
+
         Trainee trainee = traineeRepository.findByUserUsername(username)
                 .orElseThrow(() -> new TraineeNotFoundException("Trainee not found with username: " + username));
 
-        List<Trainer> allTrainers = trainerRepository.findAll();
-        Set<Trainer> assignedTrainers = trainee.getTrainers();
-
-        List<Trainer> unassignedTrainers = allTrainers.stream()
-                .filter(trainer -> !assignedTrainers.contains(trainer))
-                .toList();
-
-        List<TrainerDTO.Response.Unassigned> response = unassignedTrainers.stream()
-                .map(trainerMapper::toUnassignedResponse)
-                .toList();
+        List<TrainerDTO.Response.Unassigned> response =
+                trainerRepository.findActiveUnassignedTrainers(trainee.getId(), pageable);
 
         log.info("Found {} trainers not assigned to trainee: {}", response.size(), username);
         return response;
@@ -203,14 +260,32 @@ public class TraineeServiceImpl implements TraineeService {
         log.debug("Updating trainee's trainers list for username: {} with {} trainers",
                 username, request.trainerUsernames().size());
 
-        Set<Trainer> trainers = request.trainerUsernames().stream()
-                .map(trainerUsername -> trainerRepository.findByUserUsername(trainerUsername)
-                        .orElseThrow(() -> new TrainerNotFoundException("Trainer not found: " + trainerUsername)))
-                .collect(Collectors.toSet());
+        Set<String> requestedUsernames = new HashSet<>(request.trainerUsernames());
+        List<Trainer> trainers = trainerRepository.findAllByUserUsernameIn(requestedUsernames);
+
+        if (trainers.size() != requestedUsernames.size()) {
+            Set<String> foundUsernames = trainers.stream()
+                    .map(trainer -> trainer.getUser().getUsername())
+                    .collect(Collectors.toSet());
+            List<String> missingUsernames = requestedUsernames.stream()
+                    .filter(trainerUsername -> !foundUsernames.contains(trainerUsername))
+                    .sorted()
+                    .toList();
+            throw new TrainerNotFoundException("Trainers not found: " + String.join(", ", missingUsernames));
+        }
 
         Trainee trainee = traineeRepository.findByUserUsername(username)
                 .orElseThrow(() -> new TraineeNotFoundException("Trainee not found with username: " + username));
-        trainee.setTrainers(trainers);
+
+        Set<Trainer> requestedTrainers = new HashSet<>(trainers);
+        Set<Trainer> currentTrainers = trainee.getTrainers();
+        int removed = currentTrainers.size();
+        currentTrainers.retainAll(requestedTrainers);
+        removed -= currentTrainers.size();
+        requestedTrainers.removeAll(currentTrainers);
+        currentTrainers.addAll(requestedTrainers);
+
+        log.debug("Trainee {} trainers diff: {} added, {} removed", username, requestedTrainers.size(), removed);
         Trainee updatedTrainee = traineeRepository.save(trainee);
 
         List<TrainerDTO.Response.InList> response = updatedTrainee.getTrainers().stream()
@@ -218,23 +293,23 @@ public class TraineeServiceImpl implements TraineeService {
                 .toList();
 
         log.info("Successfully updated trainers list for trainee: {} with {} trainers",
-                username, trainers.size());
+                username, response.size());
         return response;
     }
 
     private String generateCredentials(Trainee trainee) {
-        String username = usernameGenerator.generateUsername(trainee.getUser().getFirstName(), trainee.getUser().getLastName(), this::usernameExists);
+        String username = usernameGenerator.generateUsername(trainee.getUser().getFirstName(), trainee.getUser().getLastName());
         trainee.getUser().setUsername(username);
 
-        String password = passwordGenerator.generatePassword();
-        String hashedPassword = passwordEncoder.encode(password);
-        trainee.getUser().setPassword(hashedPassword);
+        CredentialPool.PooledCredential credential = credentialPool.take();
+        trainee.getUser().setPassword(credential.hashedPassword());
 
         log.debug("Generated credentials for trainee - username: {}, password hashed", username);
-        return password;
+        return credential.plainPassword();
     }
 
-    private boolean usernameExists(String username) {
-        return userRepository.existsByUsername(username);
+    private static void resetIdentifiers(Trainee trainee) {
+        trainee.setId(null);
+        trainee.getUser().setId(null);
     }
 }
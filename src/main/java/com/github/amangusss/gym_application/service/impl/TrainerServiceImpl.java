@@ -2,18 +2,24 @@ package com.github.amangusss.gym_application.service.impl;
 
 import com.github.amangusss.gym_application.dto.trainer.TrainerDTO;
 import com.github.amangusss.gym_application.dto.training.TrainingDTO;
+import com.github.amangusss.gym_application.entity.CustomUser;
 import com.github.amangusss.gym_application.entity.TrainingType;
 import com.github.amangusss.gym_application.entity.trainer.Trainer;
 import com.github.amangusss.gym_application.entity.training.Training;
+import com.github.amangusss.gym_application.exception.GymApplicationException;
 import com.github.amangusss.gym_application.exception.TrainerNotFoundException;
+import com.github.amangusss.gym_application.exception.ValidationException;
 import com.github.amangusss.gym_application.mapper.TrainerMapper;
 import com.github.amangusss.gym_application.mapper.TrainingMapper;
 import com.github.amangusss.gym_application.repository.TrainerRepository;
-import com.github.amangusss.gym_application.repository.UserRepository;
+import com.github.amangusss.gym_application.repository.TrainingRepository;
 import com.github.amangusss.gym_application.service.TrainerService;
 import com.github.amangusss.gym_application.service.TrainingTypeService;
-import com.github.amangusss.gym_application.util.credentials.PasswordGenerator;
+import com.github.amangusss.gym_application.util.batch.BatchRowPersister;
+import com.github.amangusss.gym_application.util.credentials.BatchCredentialsGenerator;
+import com.github.amangusss.gym_application.util.credentials.CredentialPool;
 import com.github.amangusss.gym_application.util.credentials.UsernameGenerator;
+import com.github.amangusss.gym_application.util.paging.PageableFactory;
 import com.github.amangusss.gym_application.validation.entity.EntityValidator;
 
 import lombok.AccessLevel;
@@ -21,11 +27,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -35,14 +49,18 @@ import java.util.List;
 public class TrainerServiceImpl implements TrainerService {
 
     TrainerRepository trainerRepository;
-    UserRepository userRepository;
+    TrainingRepository trainingRepository;
     UsernameGenerator usernameGenerator;
-    PasswordGenerator passwordGenerator;
     EntityValidator entityValidator;
     TrainerMapper trainerMapper;
     TrainingMapper trainingMapper;
     TrainingTypeService trainingTypeService;
     org.springframework.security.crypto.password.PasswordEncoder passwordEncoder;
+    PageableFactory pageableFactory;
+    BatchCredentialsGenerator batchCredentialsGenerator;
+    BatchRowPersister batchRowPersister;
+    CredentialPool credentialPool;
+    UserCache userCache;
 
     @Override
     public Trainer changeTrainerPassword(String username, String oldPassword, String newPassword) {
@@ -56,6 +74,7 @@ public class TrainerServiceImpl implements TrainerService {
         String hashedPassword = passwordEncoder.encode(newPassword);
         trainer.getUser().setPassword(hashedPassword);
         Trainer updatedTrainer = trainerRepository.save(trainer);
+        userCache.removeUserFromCache(username);
         log.info("Successfully changed password for trainer: {}", username);
         return updatedTrainer;
     }
@@ -75,6 +94,60 @@ public class TrainerServiceImpl implements TrainerService {
         return trainerMapper.toRegisteredResponse(savedTrainer, plainPassword);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TrainerDTO.Response.BatchRegistered> registerTrainers(List<TrainerDTO.Request.Register> requests) {
+        batchCredentialsGenerator.validateBatchSize(requests.size());
+        log.debug("Registering {} trainers in batch", requests.size());
+
+        TrainerDTO.Response.BatchRegistered[] results = new TrainerDTO.Response.BatchRegistered[requests.size()];
+        Map<Long, TrainingType> specializations = new HashMap<>();
+        List<Integer> validIndexes = new ArrayList<>();
+        List<Trainer> trainers = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                TrainerDTO.Request.Register request = requests.get(i);
+                if (request == null || request.specialization() == null) {
+                    throw new ValidationException("Specialization is required");
+                }
+                TrainingType specialization = specializations.computeIfAbsent(
+                        request.specialization(), trainingTypeService::findById);
+                Trainer trainer = trainerMapper.toEntity(request, specialization);
+                entityValidator.validateTrainerForCreation(trainer);
+                trainer.getUser().setActive(true);
+                trainers.add(trainer);
+                validIndexes.add(i);
+            } catch (GymApplicationException e) {
+                log.debug("Skipping trainer batch row {}: {}", i, e.getMessage());
+                results[i] = new TrainerDTO.Response.BatchRegistered(i, null, null, e.getMessage());
+            }
+        }
+
+        int registered = 0;
+        if (!trainers.isEmpty()) {
+            List<String> plainPasswords = batchCredentialsGenerator.assignCredentials(
+                    trainers.stream().map(Trainer::getUser).toList());
+            List<BatchRowPersister.RowResult<Trainer>> savedTrainers = batchRowPersister.saveAll(trainers,
+                    trainerRepository::saveAll, trainerRepository::save, TrainerServiceImpl::resetIdentifiers);
+
+            for (int i = 0; i < savedTrainers.size(); i++) {
+                int index = validIndexes.get(i);
+                BatchRowPersister.RowResult<Trainer> saved = savedTrainers.get(i);
+                if (saved.isSaved()) {
+                    registered++;
+                    results[index] = new TrainerDTO.Response.BatchRegistered(
+                            index, saved.saved().getUser().getUsername(), plainPasswords.get(i), null);
+                } else {
+                    results[index] = new TrainerDTO.Response.BatchRegistered(index, null, null, saved.error());
+                }
+            }
+        }
+
+        log.info("Batch registered {} of {} trainers", registered, requests.size());
+        return Arrays.asList(results);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public TrainerDTO.Response.Profile getTrainerProfile(String username) {
@@ -103,6 +176,7 @@ public class TrainerServiceImpl implements TrainerService {
         existingTrainer.setSpecialization(updateData.getSpecialization());
 
         Trainer updatedTrainer = trainerRepository.save(existingTrainer);
+        userCache.removeUserFromCache(username);
 
         log.info("Successfully updated trainer profile with username: {}", updatedTrainer.getUser().getUsername());
         
@@ -117,6 +191,7 @@ public class TrainerServiceImpl implements TrainerService {
                 .orElseThrow(() -> new TrainerNotFoundException("Trainer not found with username: " + username));
         trainer.getUser().setActive(isActive);
         trainerRepository.save(trainer);
+        userCache.removeUserFromCache(username);
 
         log.info("Successfully updated trainer isActive for username: {}", username);
     }
@@ -124,26 +199,20 @@ public class TrainerServiceImpl implements TrainerService {
     @Override
     @Transactional(readOnly = true)
     public List<TrainingDTO.Response.TrainerTraining> getTrainerTrainings(
-            String username, LocalDate periodFrom, LocalDate periodTo, String traineeName) {
-        log.debug("Fetching trainer trainings for username: {} with filters - periodFrom: {}, periodTo: {}, traineeName: {}",
-                username, periodFrom, periodTo, traineeName);
+            String username, LocalDate periodFrom, LocalDate periodTo, String traineeName,
+            Integer page, Integer size) {
+        log.debug("Fetching trainer trainings for username: {} with filters - periodFrom: {}, periodTo: {}, traineeName: {}, page: {}, size: {}",
+                username, periodFrom, periodTo, traineeName, page, size);
         entityValidator.validateDateRange(periodFrom, periodTo);
+        Pageable pageable = pageableFactory.create(page, size);
 
         Trainer trainer = trainerRepository.findByUserUsername(username)
                 .orElseThrow(() -> new TrainerNotFoundException("Trainer not found with username: " + username));
 
-        List<Training> trainings = trainer.getTrainings().stream()
-                .filter(training -> {
-                    if (periodFrom != null && training.getTrainingDate().isBefore(periodFrom)) return false;
-                    if (periodTo != null && training.getTrainingDate().isAfter(periodTo)) return false;
-                    if (traineeName != null && !traineeName.isEmpty()) {
-                        String fullName = training.getTrainee().getUser().getFirstName() + " " + 
-                                        training.getTrainee().getUser().getLastName();
-                        return fullName.contains(traineeName);
-                    }
-                    return true;
-                })
-                .toList();
+        List<Training> trainings = trainingRepository.findTrainerTrainings(
+                trainer.getId(), periodFrom, periodTo,
+                StringUtils.isEmpty(traineeName) ? null : CustomUser.normalizeSearchName(traineeName),
+                pageable);
 
         List<TrainingDTO.Response.TrainerTraining> response = trainings.stream()
                 .map(trainingMapper::toTrainerTrainingResponse)
@@ -154,18 +223,18 @@ public class TrainerServiceImpl implements TrainerService {
     }
 
     private String generateCredentials(Trainer trainer) {
-        String username = usernameGenerator.generateUsername(trainer.getUser().getFirstName(), trainer.getUser().getLastName(), this::usernameExists);
+        String username = usernameGenerator.generateUsername(trainer.getUser().getFirstName(), trainer.getUser().getLastName());
         trainer.getUser().setUsername(username);
 
-        String password = passwordGenerator.generatePassword();
-        String hashedPassword = passwordEncoder.encode(password);
-        trainer.getUser().setPassword(hashedPassword);
+        CredentialPool.PooledCredential credential = credentialPool.take();
+        trainer.getUser().setPassword(credential.hashedPassword());
 
         log.debug("Generated credentials for trainer - username: {}, password hashed", username);
-        return password;
+        return credential.plainPassword();
     }
 
-    private boolean usernameExists(String username) {
-        return userRepository.existsByUsername(username);
+    private static void resetIdentifiers(Trainer trainer) {
+        trainer.setId(null);
+        trainer.getUser().setId(null);
     }
 }
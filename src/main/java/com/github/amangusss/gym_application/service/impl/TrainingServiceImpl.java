@@ -8,7 +8,7 @@ import com.github.amangusss.gym_application.entity.training.Training;
 import com.github.amangusss.gym_application.exception.TraineeNotFoundException;
 import com.github.amangusss.gym_application.exception.TrainerNotFoundException;
 import com.github.amangusss.gym_application.exception.TrainingNotFoundException;
-import com.github.amangusss.gym_application.jms.service.WorkloadMessageProducer;
+import com.github.amangusss.gym_application.jms.service.WorkloadOutboxService;
 import com.github.amangusss.gym_application.repository.TraineeRepository;
 import com.github.amangusss.gym_application.repository.TrainerRepository;
 import com.github.amangusss.gym_application.repository.TrainingRepository;
@@ -35,7 +35,7 @@ public class TrainingServiceImpl implements TrainingService {
     TraineeRepository traineeRepository;
     TrainerRepository trainerRepository;
     EntityValidator entityValidator;
-    WorkloadMessageProducer workloadMessageProducer;
+    WorkloadOutboxService workloadOutboxService;
 
     @Override
     public void addTraining(TrainingDTO.Request.Create request) {
@@ -67,7 +67,7 @@ public class TrainingServiceImpl implements TrainingService {
 
         trainingRepository.save(training);
 
-        sendWorkload(trainer, training, WorkloadDTO.ActionType.ADD, transactionId);
+        enqueueWorkload(trainer, training, WorkloadDTO.ActionType.ADD, transactionId);
 
         log.info("Successfully added training: {} for trainee: {} and trainer: {}",
                 training.getTrainingName(), trainee.getUser().getUsername(), trainer.getUser().getUsername());
@@ -84,7 +84,7 @@ public class TrainingServiceImpl implements TrainingService {
 
         Trainer trainer = training.getTrainer();
 
-        sendWorkload(trainer, training, WorkloadDTO.ActionType.DELETE, transactionId);
+        enqueueWorkload(trainer, training, WorkloadDTO.ActionType.DELETE, transactionId);
 
         trainingRepository.delete(training);
 
@@ -92,7 +92,7 @@ public class TrainingServiceImpl implements TrainingService {
                 transactionId, training.getTrainingName(), trainingId);
     }
 
-    private void sendWorkload(Trainer trainer, Training training, WorkloadDTO.ActionType actionType, String transactionId) {
+    private void enqueueWorkload(Trainer trainer, Training training, WorkloadDTO.ActionType actionType, String transactionId) {
         WorkloadDTO.Request.Workload workload = WorkloadDTO.Request.Workload.builder()
                 .username(trainer.getUser().getUsername())
                 .firstName(trainer.getUser().getFirstName())
@@ -103,13 +103,8 @@ public class TrainingServiceImpl implements TrainingService {
                 .actionType(actionType)
                 .build();
 
-        try {
-            workloadMessageProducer.sendWorkloadMessage(workload, transactionId);
-            log.info("[{}] Successfully sent workload event for trainer: {}", transactionId, trainer.getUser().getUsername());
-        } catch (Exception e) {
-            log.error("[{}] Failed to send workload event for trainer: {}. Error: {}",
-                    transactionId, trainer.getUser().getUsername(), e.getMessage(), e);
-        }
+        workloadOutboxService.enqueue(workload, transactionId);
+        log.info("[{}] Queued workload event for trainer: {}", transactionId, trainer.getUser().getUsername());
     }
 
     private String getTransactionId() {
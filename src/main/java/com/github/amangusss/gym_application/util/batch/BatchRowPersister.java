@@ -0,0 +1,71 @@
+package com.github.amangusss.gym_application.util.batch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+@Slf4j
+@Component("batchRowPersister")
+public class BatchRowPersister {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public BatchRowPersister(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T> List<RowResult<T>> saveAll(List<T> rows,
+                                          UnaryOperator<List<T>> batchSave,
+                                          UnaryOperator<T> rowSave,
+                                          Consumer<T> resetIdentifiers) {
+        try {
+            List<T> saved = transactionTemplate.execute(status -> batchSave.apply(rows));
+            return saved.stream().map(RowResult::saved).toList();
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Batch save of {} rows failed, saving rows one by one: {}", rows.size(), e.getMessage());
+        }
+
+        List<RowResult<T>> results = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            T row = rows.get(i);
+            resetIdentifiers.accept(row);
+            try {
+                results.add(RowResult.saved(transactionTemplate.execute(status -> rowSave.apply(row))));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Batch row {} conflicts with existing data: {}", i, e.getMessage());
+                results.add(RowResult.failed("Row conflicts with existing data, please retry"));
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("Batch row {} could not be saved: {}", i, e.getMessage());
+                results.add(RowResult.failed("Row could not be saved"));
+            }
+        }
+        return results;
+    }
+
+    public record RowResult<T>(T saved, String error) {
+
+        static <T> RowResult<T> saved(T saved) {
+            return new RowResult<>(saved, null);
+        }
+
+        static <T> RowResult<T> failed(String error) {
+            return new RowResult<>(null, error);
+        }
+
+        public boolean isSaved() {
+            return error == null;
+        }
+    }
+}
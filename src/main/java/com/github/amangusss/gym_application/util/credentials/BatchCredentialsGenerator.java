@@ -0,0 +1,88 @@
+package com.github.amangusss.gym_application.util.credentials;
+
+import com.github.amangusss.gym_application.entity.CustomUser;
+import com.github.amangusss.gym_application.exception.ValidationException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component("batchCredentialsGenerator")
+public class BatchCredentialsGenerator {
+
+    private final UsernameGenerator usernameGenerator;
+    private final PasswordGenerator passwordGenerator;
+    private final PasswordEncoder passwordEncoder;
+    private final CredentialPool credentialPool;
+    private final int maxBatchSize;
+    private final int hashChunkSize;
+
+    public BatchCredentialsGenerator(UsernameGenerator usernameGenerator,
+                                     PasswordGenerator passwordGenerator,
+                                     PasswordEncoder passwordEncoder,
+                                     CredentialPool credentialPool,
+                                     @Value("${registration.batch.max-size:500}") int maxBatchSize,
+                                     @Value("${registration.batch.hash-chunk-size:8}") int hashChunkSize) {
+        this.usernameGenerator = usernameGenerator;
+        this.passwordGenerator = passwordGenerator;
+        this.passwordEncoder = passwordEncoder;
+        this.credentialPool = credentialPool;
+        this.maxBatchSize = maxBatchSize;
+        this.hashChunkSize = Math.max(1, hashChunkSize);
+    }
+
+    public void validateBatchSize(int size) {
+        if (size < 1 || size > maxBatchSize) {
+            throw new ValidationException("Batch size must be between 1 and " + maxBatchSize);
+        }
+    }
+
+    public List<String> assignCredentials(List<CustomUser> users) {
+        List<String> usernames = usernameGenerator.generateUsernames(users);
+
+        List<CredentialPool.PooledCredential> credentials = new ArrayList<>(users.size());
+        while (credentials.size() < users.size()) {
+            Optional<CredentialPool.PooledCredential> pooled = credentialPool.poll();
+            if (pooled.isEmpty()) {
+                break;
+            }
+            credentials.add(pooled.get());
+        }
+
+        int missing = users.size() - credentials.size();
+        List<String> generatedPasswords = Stream.generate(passwordGenerator::generatePassword)
+                .limit(missing)
+                .toList();
+        List<String> hashedPasswords = hashAll(generatedPasswords);
+        for (int i = 0; i < missing; i++) {
+            credentials.add(new CredentialPool.PooledCredential(generatedPasswords.get(i), hashedPasswords.get(i)));
+        }
+
+        for (int i = 0; i < users.size(); i++) {
+            users.get(i).setUsername(usernames.get(i));
+            users.get(i).setPassword(credentials.get(i).hashedPassword());
+        }
+
+        log.debug("Generated credentials for {} users, {} taken from pool", users.size(), users.size() - missing);
+        return credentials.stream()
+                .map(CredentialPool.PooledCredential::plainPassword)
+                .toList();
+    }
+
+    private List<String> hashAll(List<String> plainPasswords) {
+        if (passwordEncoder instanceof BoundedPasswordEncoder boundedPasswordEncoder) {
+            return boundedPasswordEncoder.encodeAll(plainPasswords, hashChunkSize);
+        }
+        return plainPasswords.stream()
+                .map(passwordEncoder::encode)
+                .toList();
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.amangusss.gym_application.util.credentials;
+
+import com.github.amangusss.gym_application.exception.ServiceUnavailableException;
+import com.github.amangusss.gym_application.metrics.PasswordHashingMetrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingMetrics metrics;
+    private final ThreadPoolExecutor executor;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingMetrics metrics,
+                                  int threads, int queueCapacity) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        metrics.bindExecutor(executor);
+
+        log.info("Password hashing executor started with {} threads and queue capacity {}", threads, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> metrics.recordHash(() -> delegate.encode(rawPassword)));
+    }
+
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords, int chunkSize) {
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        for (int from = 0; from < rawPasswords.size(); from += chunkSize) {
+            List<Future<String>> chunk = new ArrayList<>(chunkSize);
+            try {
+                for (CharSequence rawPassword : rawPasswords.subList(from, Math.min(from + chunkSize, rawPasswords.size()))) {
+                    chunk.add(submit(() -> metrics.recordHash(() -> delegate.encode(rawPassword))));
+                }
+                for (Future<String> future : chunk) {
+                    encoded.add(await(future));
+                }
+            } catch (RuntimeException e) {
+                chunk.forEach(future -> future.cancel(true));
+                throw e;
+            }
+        }
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> metrics.recordVerify(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Supplier<T> task) {
+        return await(submit(task));
+    }
+
+    private <T> Future<T> submit(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return executor.submit(() -> {
+                metrics.recordQueueWait(System.nanoTime() - submittedAt);
+                return task.get();
+            });
+        } catch (RejectedExecutionException e) {
+            metrics.incrementRejected();
+            log.warn("Password hashing queue is full, rejecting request");
+            throw new ServiceUnavailableException("Server is busy, please retry later");
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password hashing was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.amangusss.gym_application.util.credentials;
+
+import com.github.amangusss.gym_application.exception.ServiceUnavailableException;
+import com.github.amangusss.gym_application.metrics.CredentialPoolMetrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+@Slf4j
+@Component("credentialPool")
+public class CredentialPool {
+
+    private final PasswordGenerator passwordGenerator;
+    private final PasswordEncoder passwordEncoder;
+    private final CredentialPoolMetrics metrics;
+    private final BlockingQueue<PooledCredential> pool;
+    private final int refillBatchSize;
+
+    public CredentialPool(PasswordGenerator passwordGenerator,
+                          PasswordEncoder passwordEncoder,
+                          CredentialPoolMetrics metrics,
+                          @Value("${credentials.pool.size:200}") int poolSize,
+                          @Value("${credentials.pool.refill-batch-size:20}") int refillBatchSize) {
+        this.passwordGenerator = passwordGenerator;
+        this.passwordEncoder = passwordEncoder;
+        this.metrics = metrics;
+        this.pool = new ArrayBlockingQueue<>(poolSize);
+        this.refillBatchSize = refillBatchSize;
+        metrics.bindPool(pool, poolSize);
+    }
+
+    public PooledCredential take() {
+        return poll().orElseGet(() -> {
+            metrics.incrementFallback();
+            log.debug("Credential pool is empty, hashing password inline");
+            return generate();
+        });
+    }
+
+    public Optional<PooledCredential> poll() {
+        PooledCredential credential = pool.poll();
+        if (credential != null) {
+            metrics.incrementPooled();
+        }
+        return Optional.ofNullable(credential);
+    }
+
+    @Scheduled(initialDelayString = "${credentials.pool.refill-interval-ms:1000}",
+            fixedDelayString = "${credentials.pool.refill-interval-ms:1000}")
+    public void refill() {
+        int added = 0;
+        try {
+            while (added < refillBatchSize && pool.remainingCapacity() > 0) {
+                if (!pool.offer(generate())) {
+                    break;
+                }
+                added++;
+            }
+        } catch (ServiceUnavailableException e) {
+            log.debug("Password hashing is saturated, postponing credential pool refill");
+        }
+
+        if (added > 0) {
+            log.debug("Added {} credentials to pool, pool size: {}", added, pool.size());
+        }
+    }
+
+    public int size() {
+        return pool.size();
+    }
+
+    private PooledCredential generate() {
+        String plainPassword = passwordGenerator.generatePassword();
+        return new PooledCredential(plainPassword, passwordEncoder.encode(plainPassword));
+    }
+
+    public record PooledCredential(String plainPassword, String hashedPassword) {
+
+        @Override
+        public String toString() {
+            return "PooledCredential[plainPassword=***, hashedPassword=***]";
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.amangusss.gym_application.util.credentials;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Slf4j
+@Component("usernameBloomFilter")
+public class UsernameBloomFilter {
+
+    private final long minExpectedInsertions;
+    private final double falsePositiveRate;
+    private volatile Bits bits;
+
+    public UsernameBloomFilter(@Value("${username.bloom-filter.expected-insertions:100000}") long expectedInsertions,
+                               @Value("${username.bloom-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Bloom filter needs positive insertions and a false positive rate in (0, 1)");
+        }
+
+        this.minExpectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bits = new Bits(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * Replaces the filter with an empty one sized for {@code existingUsernames} plus the configured
+     * expected insertions, which leave headroom for registrations made after the reset.
+     */
+    public void reset(long existingUsernames) {
+        bits = new Bits(existingUsernames + minExpectedInsertions, falsePositiveRate);
+    }
+
+    public void put(String username) {
+        Bits current = bits;
+        long hash = hash64(username);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= current.hashFunctions; i++) {
+            current.set(current.index(h1 + i * h2));
+        }
+    }
+
+    public boolean mightContain(String username) {
+        Bits current = bits;
+        long hash = hash64(username);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= current.hashFunctions; i++) {
+            if (!current.get(current.index(h1 + i * h2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final class Bits {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashFunctions;
+
+        private Bits(long expectedInsertions, double falsePositiveRate) {
+            long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.words = new AtomicLongArray((int) Math.min(Integer.MAX_VALUE, (optimalBits + 63) / 64));
+            this.bitCount = (long) words.length() * 64;
+            this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+
+            log.debug("Username bloom filter created: {} bits, {} hash functions", bitCount, hashFunctions);
+        }
+
+        private long index(int combinedHash) {
+            return (combinedHash & Integer.MAX_VALUE) % bitCount;
+        }
+
+        private void set(long index) {
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    return;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+
+        private boolean get(long index) {
+            return (words.get((int) (index >>> 6)) & (1L << index)) != 0;
+        }
+    }
+}
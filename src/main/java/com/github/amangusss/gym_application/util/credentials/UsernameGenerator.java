@@ -1,32 +1,134 @@
 package com.github.amangusss.gym_application.util.credentials;
 
+import com.github.amangusss.gym_application.entity.CustomUser;
 import com.github.amangusss.gym_application.exception.ValidationException;
+import com.github.amangusss.gym_application.repository.UserRepository;
 
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
-import java.util.function.Predicate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component("usernameGenerator")
 public class UsernameGenerator {
-    public String generateUsername(String firstName, String lastName, Predicate<String> usernameExistsChecker) {
+
+    private final UserRepository userRepository;
+    private final UsernameBloomFilter bloomFilter;
+    private final int loadPageSize;
+    private volatile boolean bloomFilterReady;
+
+    public UsernameGenerator(UserRepository userRepository,
+                             UsernameBloomFilter bloomFilter,
+                             @Value("${username.bloom-filter.load-page-size:1000}") int loadPageSize) {
+        if (loadPageSize < 1) {
+            throw new IllegalArgumentException("Bloom filter load page size must be positive");
+        }
+
+        this.userRepository = userRepository;
+        this.bloomFilter = bloomFilter;
+        this.loadPageSize = loadPageSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadExistingUsernames() {
+        bloomFilter.reset(userRepository.count());
+
+        long loaded = 0;
+        String after = "";
+        List<String> page;
+        do {
+            page = userRepository.findUsernamesAfter(after, PageRequest.of(0, loadPageSize));
+            page.forEach(bloomFilter::put);
+            loaded += page.size();
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1);
+            }
+        } while (page.size() == loadPageSize);
+
+        bloomFilterReady = true;
+        log.info("Username bloom filter loaded with {} usernames", loaded);
+    }
+
+    public String generateUsername(String firstName, String lastName) {
+        String username = nextFreeUsername(baseUsername(firstName, lastName));
+        bloomFilter.put(username);
+        log.debug("Generated username: {}", username);
+        return username;
+    }
+
+    public List<String> generateUsernames(List<CustomUser> users) {
+        List<String> baseUsernames = users.stream()
+                .map(user -> baseUsername(user.getFirstName(), user.getLastName()))
+                .toList();
+        Map<String, Long> occurrences = baseUsernames.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        Map<String, Integer> nextSuffixByBase = new HashMap<>();
+        List<String> usernames = new ArrayList<>(users.size());
+        for (String baseUsername : baseUsernames) {
+            String username;
+            if (occurrences.get(baseUsername) == 1) {
+                username = nextFreeUsername(baseUsername);
+            } else {
+                int nextSuffix = nextSuffixByBase.computeIfAbsent(baseUsername, this::firstBatchSuffix);
+                username = nextSuffix == 0 ? baseUsername : baseUsername + nextSuffix;
+                nextSuffixByBase.put(baseUsername, nextSuffix + 1);
+            }
+
+            bloomFilter.put(username);
+            usernames.add(username);
+        }
+
+        log.debug("Generated {} usernames for {} distinct names", usernames.size(), occurrences.size());
+        return usernames;
+    }
+
+    private String baseUsername(String firstName, String lastName) {
         if (firstName == null || lastName == null) {
             throw new ValidationException("First name must not be null and last name must not be null");
         }
+        return firstName.trim() + "." + lastName.trim();
+    }
 
-        String baseUsername = firstName.trim() + "." + lastName.trim();
-        String username = baseUsername;
-        int counter = 1;
+    private String nextFreeUsername(String baseUsername) {
+        if (bloomFilterReady && !bloomFilter.mightContain(baseUsername)) {
+            if (!userRepository.existsByUsername(baseUsername)) {
+                log.debug("Username {} is not in the bloom filter and not taken, skipping suffix lookup", baseUsername);
+                return baseUsername;
+            }
+            log.debug("Username {} was registered on another node, refreshing bloom filter", baseUsername);
+            bloomFilter.put(baseUsername);
+        }
 
-        while (usernameExistsChecker.test(username)) {
-            username = baseUsername + counter;
-            counter++;
-            log.debug("Username {} already exists. Trying username {}", baseUsername, username);
+        Integer maxSuffix = userRepository.findMaxUsernameSuffix(baseUsername, escapeLikePattern(baseUsername));
+        if (maxSuffix == null) {
+            return baseUsername;
         }
 
-        log.debug("Generated username: {}", username);
+        String username = baseUsername + (maxSuffix + 1);
+        log.debug("Username {} already exists. Using next free suffix: {}", baseUsername, username);
         return username;
     }
+
+    private int firstBatchSuffix(String baseUsername) {
+        Integer maxSuffix = userRepository.findMaxUsernameSuffix(baseUsername, escapeLikePattern(baseUsername));
+        return maxSuffix == null ? 0 : maxSuffix + 1;
+    }
+
+    private static String escapeLikePattern(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
 }
@@ -0,0 +1,44 @@
+package com.github.amangusss.gym_application.util.paging;
+
+import com.github.amangusss.gym_application.exception.ValidationException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component("pageableFactory")
+public class PageableFactory {
+
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public PageableFactory(@Value("${pagination.default-size:20}") int defaultPageSize,
+                           @Value("${pagination.max-size:100}") int maxPageSize) {
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public Pageable create(Integer page, Integer size) {
+        if (page == null && size == null) {
+            return Pageable.unpaged();
+        }
+
+        int pageNumber = page != null ? page : 0;
+        int pageSize = size != null ? size : defaultPageSize;
+
+        if (pageNumber < 0) {
+            throw new ValidationException("Page index must not be negative");
+        }
+
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new ValidationException("Page size must be between 1 and " + maxPageSize);
+        }
+
+        log.debug("Created page request: page={}, size={}", pageNumber, pageSize);
+        return PageRequest.of(pageNumber, pageSize);
+    }
+}
@@ -1,8 +1,8 @@
-INSERT INTO users (first_name, last_name, username, password, is_active) VALUES
-    ('John', 'Doe', 'John.Doe', '$2a$12$LQv3c1yqBWVHxkd0LHAkCOYz6TtxMQJqhN8/LewY5Tk.dRAC4Gfzi', true),
-    ('Jane', 'Smith', 'Jane.Smith', '$2a$12$LQv3c1yqBWVHxkd0LHAkCOYz6TtxMQJqhN8/LewY5Tk.dRAC4Gfzi', true),
-    ('Mike', 'Johnson', 'Mike.Johnson', '$2a$12$LQv3c1yqBWVHxkd0LHAkCOYz6TtxMQJqhN8/LewY5Tk.dRAC4Gfzi', true),
-    ('Sarah', 'Williams', 'Sarah.Williams', '$2a$12$LQv3c1yqBWVHxkd0LHAkCOYz6TtxMQJqhN8/LewY5Tk.dRAC4Gfzi', true)
+INSERT INTO users (first_name, last_name, username, password, is_active, search_name) VALUES
+    ('John', 'Doe', 'John.Doe', '$2a$12$LQv3c1yqBWVHxkd0LHAkCOYz6TtxMQJqhN8/LewY5Tk.dRAC4Gfzi', true, 'john doe'),
+    ('Jane', 'Smith', 'Jane.Smith', '$2a$12$LQv3c1yqBWVHxkd0LHAkCOYz6TtxMQJqhN8/LewY5Tk.dRAC4Gfzi', true, 'jane smith'),
+    ('Mike', 'Johnson', 'Mike.Johnson', '$2a$12$LQv3c1yqBWVHxkd0LHAkCOYz6TtxMQJqhN8/LewY5Tk.dRAC4Gfzi', true, 'mike johnson'),
+    ('Sarah', 'Williams', 'Sarah.Williams', '$2a$12$LQv3c1yqBWVHxkd0LHAkCOYz6TtxMQJqhN8/LewY5Tk.dRAC4Gfzi', true, 'sarah williams')
 ON CONFLICT (username) DO NOTHING;
 
 INSERT INTO trainers (user_id, specialization_id)
@@ -0,0 +1,4 @@
+-- Run once per database, before the application starts, as a role allowed to create extensions.
+-- pg_trgm is a trusted extension on PostgreSQL 13+, so the database owner is enough there;
+-- older servers need a superuser. The application role itself does not need this privilege.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
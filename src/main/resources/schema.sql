@@ -4,9 +4,13 @@ CREATE TABLE IF NOT EXISTS users (
     last_name VARCHAR(100) NOT NULL,
     username VARCHAR(100) NOT NULL UNIQUE,
     password VARCHAR(255) NOT NULL,
-    is_active BOOLEAN NOT NULL DEFAULT false
+    is_active BOOLEAN NOT NULL DEFAULT false,
+    search_name VARCHAR(201)
 );
 
+ALTER TABLE users ADD COLUMN IF NOT EXISTS search_name VARCHAR(201);
+UPDATE users SET search_name = lower(trim(first_name) || ' ' || trim(last_name)) WHERE search_name IS NULL;
+
 CREATE TABLE IF NOT EXISTS training_types (
     id BIGSERIAL PRIMARY KEY,
     type_name VARCHAR(50) NOT NULL UNIQUE
@@ -58,11 +62,71 @@ CREATE TABLE IF NOT EXISTS login_attempts (
     locked_until TIMESTAMP
 );
 
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    id BIGSERIAL PRIMARY KEY,
+    token_id VARCHAR(36) NOT NULL UNIQUE,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS workload_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    trainer_username VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    transaction_id VARCHAR(64),
+    created_at TIMESTAMP NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(500),
+    claimed_by VARCHAR(100),
+    claimed_until TIMESTAMP
+);
+
+ALTER TABLE workload_outbox ADD COLUMN IF NOT EXISTS claimed_by VARCHAR(100);
+ALTER TABLE workload_outbox ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP;
+
+CREATE TABLE IF NOT EXISTS workload_dead_letters (
+    id BIGSERIAL PRIMARY KEY,
+    message_id VARCHAR(100) NOT NULL UNIQUE,
+    transaction_id VARCHAR(64),
+    error_reason VARCHAR(500),
+    body TEXT,
+    received_at TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    redrive_attempts INTEGER NOT NULL DEFAULT 0,
+    redriven_at TIMESTAMP,
+    last_redrive_error VARCHAR(500)
+);
+
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE trainers_id_seq INCREMENT BY 50;
+ALTER SEQUENCE trainees_id_seq INCREMENT BY 50;
+ALTER SEQUENCE trainings_id_seq INCREMENT BY 50;
+ALTER SEQUENCE login_attempts_id_seq INCREMENT BY 50;
+ALTER SEQUENCE revoked_tokens_id_seq INCREMENT BY 50;
+ALTER SEQUENCE workload_outbox_id_seq INCREMENT BY 50;
+ALTER SEQUENCE workload_dead_letters_id_seq INCREMENT BY 50;
+
 CREATE INDEX IF NOT EXISTS idx_users_username ON users(username);
+CREATE INDEX IF NOT EXISTS idx_users_username_prefix ON users(username varchar_pattern_ops);
 CREATE INDEX IF NOT EXISTS idx_users_active ON users(is_active);
+CREATE INDEX IF NOT EXISTS idx_users_active_username ON users(username) INCLUDE (id, first_name, last_name) WHERE is_active;
 CREATE INDEX IF NOT EXISTS idx_trainers_user ON trainers(user_id);
 CREATE INDEX IF NOT EXISTS idx_trainees_user ON trainees(user_id);
 CREATE INDEX IF NOT EXISTS idx_trainings_date ON trainings(training_date);
 CREATE INDEX IF NOT EXISTS idx_trainings_trainer ON trainings(trainer_id);
 CREATE INDEX IF NOT EXISTS idx_trainings_trainee ON trainings(trainee_id);
-CREATE INDEX IF NOT EXISTS idx_login_attempts_username ON login_attempts(username);
+CREATE INDEX IF NOT EXISTS idx_trainings_trainee_date ON trainings(trainee_id, training_date);
+CREATE INDEX IF NOT EXISTS idx_trainings_trainer_date ON trainings(trainer_id, training_date);
+DROP INDEX IF EXISTS idx_login_attempts_username;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_login_attempts_username ON login_attempts(username);
+CREATE INDEX IF NOT EXISTS idx_login_attempts_last_attempt_time ON login_attempts(last_attempt_time);
+
+-- Requires pg_trgm, installed out of band by db/extensions.sql.
+CREATE INDEX IF NOT EXISTS idx_users_search_name_trgm ON users USING gin (search_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens(expires_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_revoked_at ON revoked_tokens(revoked_at);
+CREATE INDEX IF NOT EXISTS idx_workload_outbox_trainer_id ON workload_outbox(trainer_username, id);
+CREATE INDEX IF NOT EXISTS idx_workload_outbox_next_attempt ON workload_outbox(next_attempt_at, id);
+CREATE INDEX IF NOT EXISTS idx_workload_dead_letters_received ON workload_dead_letters(received_at, id);
+CREATE INDEX IF NOT EXISTS idx_workload_dead_letters_status_id ON workload_dead_letters(status, id);
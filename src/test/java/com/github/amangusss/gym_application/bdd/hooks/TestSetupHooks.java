@@ -1,6 +1,8 @@
 package com.github.amangusss.gym_application.bdd.hooks;
 
 import com.github.amangusss.gym_application.bdd.context.SharedTestContext;
+import com.github.amangusss.gym_application.cache.LoginAttemptStore;
+import com.github.amangusss.gym_application.cache.LoginRateLimiter;
 import com.github.amangusss.gym_application.repository.*;
 
 import io.cucumber.java.After;
@@ -37,6 +39,12 @@ public class TestSetupHooks {
     @Autowired
     LoginAttemptRepository loginAttemptRepository;
 
+    @Autowired
+    LoginAttemptStore loginAttemptStore;
+
+    @Autowired
+    LoginRateLimiter loginRateLimiter;
+
     @Autowired(required = false)
     CacheManager cacheManager;
 
@@ -88,6 +96,8 @@ public class TestSetupHooks {
 
     private void clearCaches() {
         try {
+            loginAttemptStore.clear();
+            loginRateLimiter.clear();
             if (cacheManager != null) {
                 cacheManager.getCacheNames().forEach(cacheName -> {
                     var cache = cacheManager.getCache(cacheName);
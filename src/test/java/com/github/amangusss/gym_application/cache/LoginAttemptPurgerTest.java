@@ -0,0 +1,94 @@
+package com.github.amangusss.gym_application.cache;
+
+import com.github.amangusss.gym_application.metrics.LoginAttemptPurgeMetrics;
+import com.github.amangusss.gym_application.repository.LoginAttemptRepository;
+import com.github.amangusss.gym_application.repository.LoginAttemptRepository.PurgeCandidate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("LoginAttemptPurger Tests")
+class LoginAttemptPurgerTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final LocalDateTime THRESHOLD = LocalDateTime.of(2024, 1, 8, 0, 0);
+    private static final LocalDateTime OLD_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private LoginAttemptRepository loginAttemptRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private LoginAttemptPurger purger;
+
+    @BeforeEach
+    void setUp() {
+        loginAttemptRepository = mock(LoginAttemptRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        purger = new LoginAttemptPurger(loginAttemptRepository, mock(PlatformTransactionManager.class),
+                new LoginAttemptPurgeMetrics(meterRegistry), CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should delete stale rows chunk by chunk using the last row of each chunk as the cursor")
+    void shouldDeleteInKeysetChunks() {
+        when(loginAttemptRepository.findPurgeCandidates(eq(THRESHOLD), isNull(), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(candidate(1L), candidate(2L)));
+        when(loginAttemptRepository.findPurgeCandidates(eq(THRESHOLD), eq(OLD_TIME), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(candidate(3L)));
+        when(loginAttemptRepository.deleteAllByIdInAndLastAttemptTimeBefore(List.of(1L, 2L), THRESHOLD)).thenReturn(2);
+        when(loginAttemptRepository.deleteAllByIdInAndLastAttemptTimeBefore(List.of(3L), THRESHOLD)).thenReturn(1);
+
+        long purged = purger.purgeOlderThan(THRESHOLD);
+
+        assertThat(purged).isEqualTo(3);
+        verify(loginAttemptRepository, times(2)).deleteAllByIdInAndLastAttemptTimeBefore(anyCollection(), eq(THRESHOLD));
+        assertThat(meterRegistry.get("login.attempts.purge.rows").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("login.attempts.purge.chunks").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("login.attempts.purge.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not issue deletes when nothing is stale")
+    void shouldSkipDeleteWhenNothingIsStale() {
+        when(loginAttemptRepository.findPurgeCandidates(eq(THRESHOLD), isNull(), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        long purged = purger.purgeOlderThan(THRESHOLD);
+
+        assertThat(purged).isZero();
+        verify(loginAttemptRepository, never()).deleteAllByIdInAndLastAttemptTimeBefore(anyCollection(), any());
+        assertThat(meterRegistry.get("login.attempts.purge.duration").timer().count()).isEqualTo(1);
+    }
+
+    private PurgeCandidate candidate(Long id) {
+        return new PurgeCandidate() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getLastAttemptTime() {
+                return OLD_TIME;
+            }
+        };
+    }
+}
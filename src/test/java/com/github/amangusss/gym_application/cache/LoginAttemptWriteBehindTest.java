@@ -0,0 +1,113 @@
+package com.github.amangusss.gym_application.cache;
+
+import com.github.amangusss.gym_application.entity.auth.LoginAttempt;
+import com.github.amangusss.gym_application.metrics.LoginAttemptFlushMetrics;
+import com.github.amangusss.gym_application.repository.LoginAttemptRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("LoginAttemptWriteBehind Tests")
+class LoginAttemptWriteBehindTest {
+
+    private static final String USERNAME = "John.Doe";
+
+    private LoginAttemptRepository loginAttemptRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private LoginAttemptWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        loginAttemptRepository = mock(LoginAttemptRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        writeBehind = new LoginAttemptWriteBehind(loginAttemptRepository, mock(PlatformTransactionManager.class),
+                new LoginAttemptFlushMetrics(meterRegistry), 100);
+    }
+
+    @Test
+    @DisplayName("Should coalesce repeated changes for one user into a single write")
+    @SuppressWarnings("unchecked")
+    void shouldCoalesceChangesPerUser() {
+        when(loginAttemptRepository.findAllByUsernameIn(anyCollection())).thenReturn(List.of());
+
+        writeBehind.enqueueSave(attempt(1));
+        writeBehind.enqueueSave(attempt(2));
+        writeBehind.enqueueSave(attempt(3));
+        assertThat(writeBehind.pendingCount()).isEqualTo(1);
+
+        writeBehind.flush();
+
+        ArgumentCaptor<List<LoginAttempt>> captor = ArgumentCaptor.forClass(List.class);
+        verify(loginAttemptRepository, times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement()
+                .extracting(LoginAttempt::getAttemptCount)
+                .isEqualTo(3);
+        assertThat(writeBehind.pendingCount()).isZero();
+        assertThat(meterRegistry.get("login.attempts.flush.batch.size").summary().totalAmount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should update existing row instead of inserting a duplicate")
+    void shouldUpdateExistingRow() {
+        LoginAttempt existing = LoginAttempt.builder().id(7L).username(USERNAME).attemptCount(1).build();
+        when(loginAttemptRepository.findAllByUsernameIn(anyCollection())).thenReturn(List.of(existing));
+
+        writeBehind.enqueueSave(attempt(2));
+        writeBehind.flush();
+
+        assertThat(existing.getAttemptCount()).isEqualTo(2);
+        verify(loginAttemptRepository).saveAll(List.of(existing));
+    }
+
+    @Test
+    @DisplayName("Should let a later delete supersede a pending save")
+    void shouldLetDeleteSupersedePendingSave() {
+        writeBehind.enqueueSave(attempt(2));
+        writeBehind.enqueueDelete(USERNAME);
+
+        writeBehind.flush();
+
+        verify(loginAttemptRepository).deleteAllByUsernameIn(List.of(USERNAME));
+        verify(loginAttemptRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should requeue changes when the flush fails")
+    void shouldRequeueChangesWhenFlushFails() {
+        when(loginAttemptRepository.findAllByUsernameIn(anyCollection())).thenThrow(new IllegalStateException("db down"));
+
+        writeBehind.enqueueSave(attempt(1));
+        writeBehind.flush();
+
+        assertThat(writeBehind.pendingCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("login.attempts.flush.failures").counter().count()).isEqualTo(1);
+    }
+
+    private LoginAttemptCache attempt(int count) {
+        long now = System.currentTimeMillis();
+        return LoginAttemptCache.builder()
+                .username(USERNAME)
+                .attemptCount(count)
+                .firstAttemptMillis(now)
+                .lastAttemptMillis(now)
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.amangusss.gym_application.cache;
+
+import com.github.amangusss.gym_application.exception.TooManyRequestsException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LoginRateLimiter Tests")
+class LoginRateLimiterTest {
+
+    private static final int IP_CAPACITY = 5;
+    private static final int USERNAME_CAPACITY = 2;
+    private static final String CLIENT_IP = "10.0.0.1";
+    private static final String USERNAME = "Aman.Nazarkulov";
+
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        loginRateLimiter = new LoginRateLimiter(IP_CAPACITY, 1, USERNAME_CAPACITY, 1, 100);
+    }
+
+    @Test
+    @DisplayName("Should allow logins up to the username bucket capacity")
+    void shouldAllowLoginsUpToUsernameCapacity() {
+        for (int i = 0; i < USERNAME_CAPACITY; i++) {
+            assertThatCode(() -> loginRateLimiter.checkLogin(CLIENT_IP, USERNAME)).doesNotThrowAnyException();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject login with retry-after once the username bucket is empty")
+    void shouldRejectLoginWhenUsernameBucketIsEmpty() {
+        for (int i = 0; i < USERNAME_CAPACITY; i++) {
+            loginRateLimiter.checkLogin(CLIENT_IP, USERNAME);
+        }
+
+        assertThatThrownBy(() -> loginRateLimiter.checkLogin(CLIENT_IP, USERNAME))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessageContaining("user")
+                .satisfies(ex -> assertThat(((TooManyRequestsException) ex).getRetryAfterSeconds())
+                        .isBetween(1L, 60L));
+    }
+
+    @Test
+    @DisplayName("Should reject login from a client that spreads attempts across usernames")
+    void shouldRejectClientSprayingUsernames() {
+        for (int i = 0; i < IP_CAPACITY; i++) {
+            loginRateLimiter.checkLogin(CLIENT_IP, "user" + i);
+        }
+
+        assertThatThrownBy(() -> loginRateLimiter.checkLogin(CLIENT_IP, "another.user"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessageContaining("client");
+    }
+
+    @Test
+    @DisplayName("Should track buckets for different clients independently")
+    void shouldTrackClientsIndependently() {
+        for (int i = 0; i < IP_CAPACITY; i++) {
+            loginRateLimiter.checkLogin(CLIENT_IP, "user" + i);
+        }
+
+        assertThatCode(() -> loginRateLimiter.checkLogin("10.0.0.2", USERNAME)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should allow login again after clear")
+    void shouldAllowLoginAfterClear() {
+        for (int i = 0; i < USERNAME_CAPACITY; i++) {
+            loginRateLimiter.checkLogin(CLIENT_IP, USERNAME);
+        }
+
+        loginRateLimiter.clear();
+
+        assertThatCode(() -> loginRateLimiter.checkLogin(CLIENT_IP, USERNAME)).doesNotThrowAnyException();
+    }
+}
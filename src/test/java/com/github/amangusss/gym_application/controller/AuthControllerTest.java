@@ -2,8 +2,10 @@ package com.github.amangusss.gym_application.controller;
 
 import com.github.amangusss.dto.generated.ChangePasswordRequest;
 import com.github.amangusss.dto.generated.LoginRequest;
+import com.github.amangusss.gym_application.cache.LoginRateLimiter;
 import com.github.amangusss.gym_application.dto.auth.AuthDTO;
 import com.github.amangusss.gym_application.exception.GlobalExceptionHandler;
+import com.github.amangusss.gym_application.exception.TooManyRequestsException;
 import com.github.amangusss.gym_application.jwt.JwtAuthenticationFilter;
 import com.github.amangusss.gym_application.jwt.JwtUtils;
 import com.github.amangusss.gym_application.service.AuthService;
@@ -35,6 +37,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -42,6 +45,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(
@@ -82,9 +86,12 @@ class AuthControllerTest {
     @MockitoBean(name = "bruteForceProtectionService")
     private BruteForceProtectionService bruteForceProtectionService;
 
+    @MockitoBean(name = "loginRateLimiter")
+    private LoginRateLimiter loginRateLimiter;
+
     @BeforeEach
     void setUp() throws Exception {
-        reset(authService);
+        reset(authService, loginRateLimiter);
         doAnswer(invocationOnMock -> {
             ServletRequest request = invocationOnMock.getArgument(0);
             ServletResponse response = invocationOnMock.getArgument(1);
@@ -126,6 +133,23 @@ class AuthControllerTest {
         verify(authService, times(1)).login(any(AuthDTO.Request.Login.class));
     }
 
+    @Test
+    @WithMockUser(username = "john", roles = "USER")
+    @DisplayName("Should return 429 with Retry-After and skip authentication when login is rate limited")
+    void shouldReturnTooManyRequestsWhenLoginIsRateLimited() throws Exception {
+        doThrow(new TooManyRequestsException("Too many login attempts for this user", 12))
+                .when(loginRateLimiter).checkLogin(anyString(), anyString());
+
+        mockMvc.perform(post(LOGIN_ENDPOINT)
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createLoginRequest())))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "12"));
+
+        verify(authService, never()).login(any(AuthDTO.Request.Login.class));
+    }
+
     @Test
     @WithMockUser(username = "john", roles = "USER")
     @DisplayName("Should return 200 OK when password changed successfully")
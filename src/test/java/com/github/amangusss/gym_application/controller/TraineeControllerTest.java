@@ -34,9 +34,11 @@ import java.util.List;
 import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -69,8 +71,11 @@ class TraineeControllerTest {
     private static final String TRAINING_TYPE = "YOGA";
     private static final LocalDate PERIOD_FROM = LocalDate.parse("2025-01-01");
     private static final LocalDate PERIOD_TO = LocalDate.parse("2025-12-31");
+    private static final Integer PAGE = 0;
+    private static final Integer PAGE_SIZE = 20;
 
     private static final String REGISTER_ENDPOINT = "/api/trainees/register";
+    private static final String BATCH_REGISTER_ENDPOINT = "/api/trainees/register/batch";
     private static final String TRAINEE_BY_USERNAME_ENDPOINT = "/api/trainees/{username}";
     private static final String ACTIVATE_ENDPOINT = "/api/trainees/{username}/activate";
     private static final String TRAININGS_ENDPOINT = "/api/trainees/{username}/trainings";
@@ -149,6 +154,51 @@ class TraineeControllerTest {
         verify(traineeService, times(1)).createTrainee(any(TraineeDTO.Request.Register.class));
     }
 
+    @Test
+    @DisplayName("Should return 200 OK and per-row results when trainees register in batch")
+    void shouldReturnOkAndPerRowResultsWhenTraineesRegisterInBatch() throws Exception {
+        List<TraineeDTO.Response.BatchRegistered> expectedResponse = List.of(
+                new TraineeDTO.Response.BatchRegistered(0, TRAINEE_USERNAME, VALID_PASSWORD, null),
+                new TraineeDTO.Response.BatchRegistered(1, null, null, "Address is required"));
+        when(traineeService.createTrainees(anyList())).thenReturn(expectedResponse);
+
+        mockMvc.perform(post(BATCH_REGISTER_ENDPOINT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(createRegisterRequest(), createRegisterRequest()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].username").value(TRAINEE_USERNAME))
+                .andExpect(jsonPath("$[0].password").value(VALID_PASSWORD))
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].error").value("Address is required"));
+
+        verify(traineeService, times(1)).createTrainees(anyList());
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when the trainee batch is empty")
+    void shouldReturnBadRequestWhenTraineeBatchIsEmpty() throws Exception {
+        mockMvc.perform(post(BATCH_REGISTER_ENDPOINT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Error"));
+
+        verify(traineeService, never()).createTrainees(anyList());
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when a trainee batch row is null or misses required fields")
+    void shouldReturnBadRequestWhenTraineeBatchRowIsInvalid() throws Exception {
+        mockMvc.perform(post(BATCH_REGISTER_ENDPOINT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[null, {\"firstName\": \"Dastan\"}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Error"));
+
+        verify(traineeService, never()).createTrainees(anyList());
+    }
+
     @Test
     @DisplayName("Should return 200 OK and profile when getting trainee profile")
     void shouldReturnOkAndProfileWhenGettingTraineeProfile() throws Exception {
@@ -217,7 +267,7 @@ class TraineeControllerTest {
     void shouldReturnOkAndTrainingsListWhenGettingTraineeTrainings() throws Exception {
         List<TrainingDTO.Response.TraineeTraining> expectedTrainings = Collections.emptyList();
         when(traineeService.getTraineeTrainings(
-                TRAINEE_USERNAME, PERIOD_FROM, PERIOD_TO, TRAINER_NAME, TRAINING_TYPE))
+                TRAINEE_USERNAME, PERIOD_FROM, PERIOD_TO, TRAINER_NAME, TRAINING_TYPE, PAGE, PAGE_SIZE))
                 .thenReturn(expectedTrainings);
 
         mockMvc.perform(get(TRAININGS_ENDPOINT, TRAINEE_USERNAME)
@@ -225,28 +275,32 @@ class TraineeControllerTest {
                         .param("periodFrom", PERIOD_FROM.toString())
                         .param("periodTo", PERIOD_TO.toString())
                         .param("trainerName", TRAINER_NAME)
-                        .param("trainingType", TRAINING_TYPE))
+                        .param("trainingType", TRAINING_TYPE)
+                        .param("page", PAGE.toString())
+                        .param("size", PAGE_SIZE.toString()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(0));
 
         verify(traineeService, times(1)).getTraineeTrainings(
-                TRAINEE_USERNAME, PERIOD_FROM, PERIOD_TO, TRAINER_NAME, TRAINING_TYPE);
+                TRAINEE_USERNAME, PERIOD_FROM, PERIOD_TO, TRAINER_NAME, TRAINING_TYPE, PAGE, PAGE_SIZE);
     }
 
     @Test
     @DisplayName("Should return 200 OK and unassigned trainers list when getting unassigned trainers")
     void shouldReturnOkAndUnassignedTrainersListWhenGettingUnassignedTrainers() throws Exception {
         List<TrainerDTO.Response.Unassigned> expectedTrainers = Collections.emptyList();
-        when(traineeService.getUnassignedTrainers(TRAINEE_USERNAME)).thenReturn(expectedTrainers);
+        when(traineeService.getUnassignedTrainers(TRAINEE_USERNAME, PAGE, PAGE_SIZE)).thenReturn(expectedTrainers);
 
         mockMvc.perform(get(UNASSIGNED_TRAINERS_ENDPOINT, TRAINEE_USERNAME)
+                        .param("page", PAGE.toString())
+                        .param("size", PAGE_SIZE.toString())
                         .with(authentication(createAuthentication())))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(0));
 
-        verify(traineeService, times(1)).getUnassignedTrainers(TRAINEE_USERNAME);
+        verify(traineeService, times(1)).getUnassignedTrainers(TRAINEE_USERNAME, PAGE, PAGE_SIZE);
     }
 
     @Test
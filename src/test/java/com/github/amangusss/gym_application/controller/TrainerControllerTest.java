@@ -67,6 +67,8 @@ class TrainerControllerTest {
     private static final String TRAINEE_NAME = "Dastan";
     private static final LocalDate PERIOD_FROM = LocalDate.parse("2025-01-01");
     private static final LocalDate PERIOD_TO = LocalDate.parse("2025-12-31");
+    private static final Integer PAGE = 1;
+    private static final Integer PAGE_SIZE = 10;
 
     private static final String REGISTER_ENDPOINT = "/api/trainers/register";
     private static final String TRAINER_BY_USERNAME_ENDPOINT = "/api/trainers/{username}";
@@ -200,20 +202,22 @@ class TrainerControllerTest {
     void shouldReturnOkAndTrainingsListWhenGettingTrainerTrainings() throws Exception {
         List<TrainingDTO.Response.TrainerTraining> expectedTrainings = Collections.emptyList();
         when(trainerService.getTrainerTrainings(
-                TRAINER_USERNAME, PERIOD_FROM, PERIOD_TO, TRAINEE_NAME))
+                TRAINER_USERNAME, PERIOD_FROM, PERIOD_TO, TRAINEE_NAME, PAGE, PAGE_SIZE))
                 .thenReturn(expectedTrainings);
 
         mockMvc.perform(get(TRAININGS_ENDPOINT, TRAINER_USERNAME)
                         .with(authentication(createAuthentication(TRAINER_USERNAME)))
                         .param("periodFrom", PERIOD_FROM.toString())
                         .param("periodTo", PERIOD_TO.toString())
-                        .param("traineeName", TRAINEE_NAME))
+                        .param("traineeName", TRAINEE_NAME)
+                        .param("page", PAGE.toString())
+                        .param("size", PAGE_SIZE.toString()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(0));
 
         verify(trainerService, times(1)).getTrainerTrainings(
-                TRAINER_USERNAME, PERIOD_FROM, PERIOD_TO, TRAINEE_NAME);
+                TRAINER_USERNAME, PERIOD_FROM, PERIOD_TO, TRAINEE_NAME, PAGE, PAGE_SIZE);
     }
 
     private TrainerRegistrationRequest createRegisterRequest() {
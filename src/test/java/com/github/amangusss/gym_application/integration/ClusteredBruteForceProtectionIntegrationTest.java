@@ -0,0 +1,161 @@
+package com.github.amangusss.gym_application.integration;
+
+import com.github.amangusss.gym_application.GymApplication;
+import com.github.amangusss.gym_application.entity.auth.LoginAttempt;
+import com.github.amangusss.gym_application.repository.LoginAttemptRepository;
+import com.github.amangusss.gym_application.service.BruteForceProtectionService;
+import com.github.amangusss.gym_application.service.impl.ClusteredBruteForceProtectionServiceImpl;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@DisplayName("Clustered BruteForceProtection Integration Tests - Two Instances on One Database")
+class ClusteredBruteForceProtectionIntegrationTest {
+
+    private static final String USERNAME = "Cluster.User";
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Container
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine")
+            .withInitScript("db/extensions.sql");
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    private static BruteForceProtectionService serviceA;
+    private static BruteForceProtectionService serviceB;
+    private static LoginAttemptRepository loginAttemptRepository;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+
+        serviceA = nodeA.getBean(BruteForceProtectionService.class);
+        serviceB = nodeB.getBean(BruteForceProtectionService.class);
+        loginAttemptRepository = nodeA.getBean(LoginAttemptRepository.class);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        loginAttemptRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should run the clustered implementation on both nodes")
+    void shouldUseClusteredImplementation() {
+        assertThat(serviceA).isInstanceOf(ClusteredBruteForceProtectionServiceImpl.class);
+        assertThat(serviceB).isInstanceOf(ClusteredBruteForceProtectionServiceImpl.class);
+    }
+
+    @Test
+    @DisplayName("Should lock user on every node when failures are spread across nodes")
+    void shouldShareLockoutAcrossNodes() {
+        serviceA.registerFailedLogin(USERNAME);
+        serviceB.registerFailedLogin(USERNAME);
+
+        assertThat(serviceA.getRemainingAttempts(USERNAME)).isEqualTo(MAX_ATTEMPTS - 2);
+        assertThat(serviceB.isBlocked(USERNAME)).isFalse();
+
+        serviceA.registerFailedLogin(USERNAME);
+
+        assertThat(serviceA.isBlocked(USERNAME)).isTrue();
+        assertThat(serviceB.isBlocked(USERNAME)).isTrue();
+        assertThat(serviceB.getRemainingAttempts(USERNAME)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should clear shared state when a login succeeds on another node")
+    void shouldClearStateAcrossNodesOnSuccess() {
+        serviceA.registerFailedLogin(USERNAME);
+        serviceA.registerFailedLogin(USERNAME);
+
+        serviceB.registerSuccessfulLogin(USERNAME);
+
+        assertThat(serviceA.getRemainingAttempts(USERNAME)).isEqualTo(MAX_ATTEMPTS);
+        assertThat(loginAttemptRepository.findByUsername(USERNAME)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should count every concurrent failure exactly once across nodes")
+    void shouldCountConcurrentFailuresAtomically() throws Exception {
+        int failuresPerNode = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < failuresPerNode; i++) {
+                tasks.add(() -> {
+                    serviceA.registerFailedLogin(USERNAME);
+                    return null;
+                });
+                tasks.add(() -> {
+                    serviceB.registerFailedLogin(USERNAME);
+                    return null;
+                });
+            }
+
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        LoginAttempt stored = loginAttemptRepository.findByUsername(USERNAME).orElseThrow();
+        assertThat(stored.getAttemptCount()).isEqualTo(failuresPerNode * 2);
+        assertThat(stored.getLockedUntil()).isNotNull();
+        assertThat(loginAttemptRepository.count()).isEqualTo(1);
+    }
+
+    private static ConfigurableApplicationContext startNode(String name) {
+        return new SpringApplicationBuilder(GymApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.jmx.enabled=false",
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.datasource.driver-class-name=org.postgresql.Driver",
+                        "spring.datasource.hikari.pool-name=" + name,
+                        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+                        "spring.jpa.hibernate.ddl-auto=none",
+                        "spring.sql.init.mode=always",
+                        "spring.sql.init.schema-locations=classpath:schema.sql",
+                        "spring.sql.init.data-locations=classpath:data.sql",
+                        "spring.activemq.broker-url=vm://" + name + "?broker.persistent=false",
+                        "security.max-login-attempts=" + MAX_ATTEMPTS,
+                        "security.login-attempts.mode=cluster",
+                        "security.login-attempts.cluster-read-ttl-ms=0")
+                .run();
+    }
+}
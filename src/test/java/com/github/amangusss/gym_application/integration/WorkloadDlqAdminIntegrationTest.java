@@ -0,0 +1,104 @@
+package com.github.amangusss.gym_application.integration;
+
+import com.github.amangusss.dto.generated.TrainerRegistrationRequest;
+import com.github.amangusss.dto.generated.TrainerRegistrationResponse;
+import com.github.amangusss.gym_application.dto.auth.AuthDTO;
+import com.github.amangusss.gym_application.jms.listener.WorkloadDlqListener;
+import com.github.amangusss.gym_application.jms.service.WorkloadMessageProducer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "security.admin-usernames=Dlq.Admin")
+@ActiveProfiles("test")
+@DisplayName("Workload DLQ Admin Integration Tests - admin authority on /api/admin routes")
+class WorkloadDlqAdminIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @MockitoBean
+    private WorkloadMessageProducer workloadMessageProducer;
+
+    @MockitoBean
+    private WorkloadDlqListener workloadDlqListener;
+
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port;
+    }
+
+    @Test
+    @DisplayName("Should list dead letters for a configured admin")
+    void shouldAllowConfiguredAdmin() {
+        TrainerRegistrationResponse admin = register("Dlq", "Admin");
+        assertThat(admin.getUsername()).isEqualTo("Dlq.Admin");
+
+        ResponseEntity<Object[]> response = listDeadLetters(getJwtToken(admin.getUsername(), admin.getPassword()));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("Should forbid dead letter access for a regular user")
+    void shouldForbidRegularUser() {
+        TrainerRegistrationResponse user = register("Dlq", "Viewer");
+
+        ResponseEntity<Object[]> response = listDeadLetters(getJwtToken(user.getUsername(), user.getPassword()));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    private TrainerRegistrationResponse register(String firstName, String lastName) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<TrainerRegistrationResponse> response = restTemplate.postForEntity(
+                baseUrl + "/api/trainers/register",
+                new HttpEntity<>(new TrainerRegistrationRequest(firstName, lastName, 1L), headers),
+                TrainerRegistrationResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        return response.getBody();
+    }
+
+    private String getJwtToken(String username, String password) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<AuthDTO.Response.Login> response = restTemplate.postForEntity(
+                baseUrl + "/api/auth/login",
+                new HttpEntity<>(new AuthDTO.Request.Login(username, password), headers),
+                AuthDTO.Response.Login.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        return response.getBody().token();
+    }
+
+    private ResponseEntity<Object[]> listDeadLetters(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return restTemplate.exchange(baseUrl + "/api/admin/workload-dlq", HttpMethod.GET,
+                new HttpEntity<>(headers), Object[].class);
+    }
+}
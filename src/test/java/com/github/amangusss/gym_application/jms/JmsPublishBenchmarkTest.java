@@ -0,0 +1,89 @@
+package com.github.amangusss.gym_application.jms;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.messaginghub.pooled.jms.JmsPoolConnectionFactory;
+import org.springframework.jms.core.BrowserCallback;
+import org.springframework.jms.core.JmsTemplate;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("JMS publish benchmark - pooled vs unpooled connections on the embedded broker")
+class JmsPublishBenchmarkTest {
+
+    private static final String BROKER_URL = "vm://benchmark?broker.persistent=false&broker.useJmx=false";
+    private static final int WARMUP_MESSAGES = 200;
+    private static final int MEASURED_MESSAGES = 2000;
+    private static final int MAX_POOLED_CONNECTIONS = 2;
+
+    private ActiveMQConnectionFactory brokerFactory;
+    private Connection brokerKeepAlive;
+    private JmsPoolConnectionFactory pooledFactory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        brokerFactory = new ActiveMQConnectionFactory(BROKER_URL);
+        brokerKeepAlive = brokerFactory.createConnection();
+        brokerKeepAlive.start();
+
+        pooledFactory = new JmsPoolConnectionFactory();
+        pooledFactory.setConnectionFactory(brokerFactory);
+        pooledFactory.setMaxConnections(MAX_POOLED_CONNECTIONS);
+        pooledFactory.setUseAnonymousProducers(true);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        pooledFactory.stop();
+        brokerKeepAlive.close();
+    }
+
+    @Test
+    @DisplayName("Should publish every message and reuse pooled connections")
+    void shouldComparePooledAndUnpooledPublishing() {
+        long unpooledNanos = publish(brokerFactory, "benchmark.unpooled");
+        long pooledNanos = publish(pooledFactory, "benchmark.pooled");
+
+        log.info("Published {} messages: unpooled {} ms ({} msg/s), pooled {} ms ({} msg/s)",
+                MEASURED_MESSAGES,
+                unpooledNanos / 1_000_000, throughput(unpooledNanos),
+                pooledNanos / 1_000_000, throughput(pooledNanos));
+
+        assertThat(queueDepth("benchmark.unpooled")).isEqualTo(WARMUP_MESSAGES + MEASURED_MESSAGES);
+        assertThat(queueDepth("benchmark.pooled")).isEqualTo(WARMUP_MESSAGES + MEASURED_MESSAGES);
+        assertThat(pooledFactory.getNumConnections()).isLessThanOrEqualTo(MAX_POOLED_CONNECTIONS);
+    }
+
+    private long publish(ConnectionFactory connectionFactory, String queue) {
+        JmsTemplate jmsTemplate = new JmsTemplate(connectionFactory);
+
+        for (int i = 0; i < WARMUP_MESSAGES; i++) {
+            jmsTemplate.convertAndSend(queue, "warmup-" + i);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_MESSAGES; i++) {
+            jmsTemplate.convertAndSend(queue, "message-" + i);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private int queueDepth(String queue) {
+        JmsTemplate jmsTemplate = new JmsTemplate(pooledFactory);
+        BrowserCallback<Integer> countMessages = (session, browser) -> Collections.list(browser.getEnumeration()).size();
+        return jmsTemplate.browse(queue, countMessages);
+    }
+
+    private static long throughput(long nanos) {
+        return nanos == 0 ? 0 : MEASURED_MESSAGES * 1_000_000_000L / nanos;
+    }
+}
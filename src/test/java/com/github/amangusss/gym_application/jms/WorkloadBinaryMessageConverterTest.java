@@ -0,0 +1,126 @@
+package com.github.amangusss.gym_application.jms;
+
+import com.github.amangusss.gym_application.dto.workload.WorkloadDTO;
+import com.github.amangusss.gym_application.jms.converter.WorkloadBinaryMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.jms.BytesMessage;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+import org.apache.activemq.command.ActiveMQBytesMessage;
+import org.apache.activemq.command.ActiveMQTextMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jms.support.converter.MappingJackson2MessageConverter;
+import org.springframework.jms.support.converter.MessageConversionException;
+import org.springframework.jms.support.converter.MessageType;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("WorkloadBinaryMessageConverter Tests")
+class WorkloadBinaryMessageConverterTest {
+
+    private WorkloadBinaryMessageConverter converter;
+    private Session session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MappingJackson2MessageConverter jsonConverter = new MappingJackson2MessageConverter();
+        jsonConverter.setTargetType(MessageType.TEXT);
+        jsonConverter.setTypeIdPropertyName("_type");
+        jsonConverter.setObjectMapper(new ObjectMapper().registerModule(new JavaTimeModule()));
+        converter = new WorkloadBinaryMessageConverter(jsonConverter);
+
+        session = mock(Session.class);
+        when(session.createBytesMessage()).thenAnswer(invocation -> new ActiveMQBytesMessage());
+        when(session.createTextMessage(anyString())).thenAnswer(invocation -> {
+            ActiveMQTextMessage message = new ActiveMQTextMessage();
+            message.setText(invocation.getArgument(0));
+            return message;
+        });
+    }
+
+    @Test
+    @DisplayName("Should round-trip a workload through a versioned bytes message")
+    void shouldRoundTripWorkload() throws Exception {
+        WorkloadDTO.Request.Workload workload = workload();
+
+        Message message = converter.toMessage(workload, session);
+        ((ActiveMQBytesMessage) message).reset();
+
+        assertThat(message).isInstanceOf(BytesMessage.class);
+        assertThat(message.getStringProperty(WorkloadBinaryMessageConverter.FORMAT_PROPERTY))
+                .isEqualTo(WorkloadBinaryMessageConverter.FORMAT);
+        assertThat(converter.fromMessage(message)).isEqualTo(workload);
+    }
+
+    @Test
+    @DisplayName("Should preserve missing optional fields")
+    void shouldPreserveNullFields() {
+        WorkloadDTO.Request.Workload workload = WorkloadDTO.Request.Workload.builder()
+                .username("Jane.Trainer")
+                .isActive(false)
+                .build();
+
+        assertThat(converter.decode(converter.encode(workload))).isEqualTo(workload);
+    }
+
+    @Test
+    @DisplayName("Should reject payloads written with an unknown schema version")
+    void shouldRejectUnknownSchemaVersion() {
+        byte[] payload = converter.encode(workload());
+        payload[0] = (byte) (WorkloadBinaryMessageConverter.SCHEMA_VERSION + 1);
+
+        assertThatThrownBy(() -> converter.decode(payload))
+                .isInstanceOf(MessageConversionException.class)
+                .hasMessageContaining("schema version");
+    }
+
+    @Test
+    @DisplayName("Should write action types as fixed codes and reject unknown codes")
+    void shouldUseStableActionTypeCodes() {
+        byte[] add = converter.encode(WorkloadDTO.Request.Workload.builder()
+                .username("Jane.Trainer")
+                .actionType(WorkloadDTO.ActionType.ADD)
+                .build());
+        byte[] delete = converter.encode(workload());
+        assertThat(add[add.length - 1]).isEqualTo((byte) 0);
+        assertThat(delete[delete.length - 1]).isEqualTo((byte) 1);
+
+        delete[delete.length - 1] = 7;
+
+        assertThatThrownBy(() -> converter.decode(delete))
+                .isInstanceOf(MessageConversionException.class)
+                .hasMessageContaining("action type code: 7");
+    }
+
+    @Test
+    @DisplayName("Should delegate non-workload payloads to the JSON converter")
+    void shouldFallBackToJson() throws Exception {
+        Message message = converter.toMessage("plain", session);
+
+        assertThat(message).isInstanceOf(TextMessage.class);
+        assertThat(converter.fromMessage(message)).isEqualTo("plain");
+    }
+
+    private static WorkloadDTO.Request.Workload workload() {
+        return WorkloadDTO.Request.Workload.builder()
+                .username("Jane.Trainer")
+                .firstName("Jane")
+                .lastName("Trainer")
+                .isActive(true)
+                .trainingDate(LocalDate.of(2025, 3, 14))
+                .trainingDuration(90.5)
+                .actionType(WorkloadDTO.ActionType.DELETE)
+                .build();
+    }
+}
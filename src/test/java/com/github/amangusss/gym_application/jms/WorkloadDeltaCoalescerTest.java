@@ -0,0 +1,105 @@
+package com.github.amangusss.gym_application.jms;
+
+import com.github.amangusss.gym_application.dto.workload.WorkloadDTO;
+import com.github.amangusss.gym_application.jms.outbox.WorkloadDeltaCoalescer;
+import com.github.amangusss.gym_application.metrics.WorkloadCoalescingMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WorkloadDeltaCoalescer Tests")
+class WorkloadDeltaCoalescerTest {
+
+    private static final long WINDOW_MILLIS = 2000;
+    private static final int MAX_EVENTS = 3;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WorkloadDeltaCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new WorkloadDeltaCoalescer(new WorkloadCoalescingMetrics(meterRegistry), true, WINDOW_MILLIS, MAX_EVENTS);
+    }
+
+    @Test
+    @DisplayName("Should emit a DELETE when removals outweigh additions")
+    void shouldEmitNetDelete() {
+        Optional<WorkloadDTO.Request.Workload> delta = coalescer.coalesce(List.of(
+                workload(WorkloadDTO.ActionType.ADD, 30.0),
+                workload(WorkloadDTO.ActionType.DELETE, 90.0)));
+
+        assertThat(delta).isPresent();
+        assertThat(delta.get().actionType()).isEqualTo(WorkloadDTO.ActionType.DELETE);
+        assertThat(delta.get().trainingDuration()).isEqualTo(60.0);
+    }
+
+    @Test
+    @DisplayName("Should emit nothing when deltas cancel out")
+    void shouldEmitNothingWhenCancelled() {
+        Optional<WorkloadDTO.Request.Workload> delta = coalescer.coalesce(List.of(
+                workload(WorkloadDTO.ActionType.ADD, 45.5),
+                workload(WorkloadDTO.ActionType.DELETE, 45.5)));
+
+        assertThat(delta).isEmpty();
+        assertThat(meterRegistry.get("workload.coalescing.cancelled").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should report events per emitted message as the compression ratio")
+    void shouldReportCompressionRatio() {
+        coalescer.coalesce(List.of(
+                workload(WorkloadDTO.ActionType.ADD, 60.0),
+                workload(WorkloadDTO.ActionType.ADD, 60.0),
+                workload(WorkloadDTO.ActionType.DELETE, 60.0),
+                workload(WorkloadDTO.ActionType.ADD, 60.0)));
+        coalescer.coalesce(List.of(workload(WorkloadDTO.ActionType.ADD, 30.0)));
+
+        assertThat(meterRegistry.get("workload.coalescing.compression.ratio").gauge().value()).isEqualTo(2.5);
+    }
+
+    @Test
+    @DisplayName("Should be due once the window elapses or the flush size is reached")
+    void shouldBeDueAfterWindowOrFlushSize() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(coalescer.isDue(now.minusSeconds(1), 1, now)).isFalse();
+        assertThat(coalescer.isDue(now.minusSeconds(1), MAX_EVENTS, now)).isTrue();
+        assertThat(coalescer.isDue(now.minusSeconds(3), 1, now)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should only coalesce workloads that carry a training date")
+    void shouldOnlyCoalesceDatedWorkloads() {
+        WorkloadDTO.Request.Workload undated = WorkloadDTO.Request.Workload.builder()
+                .username("Dastan.Ibraimov")
+                .trainingDuration(30.0)
+                .actionType(WorkloadDTO.ActionType.ADD)
+                .build();
+
+        assertThat(WorkloadDeltaCoalescer.isCoalescable(workload(WorkloadDTO.ActionType.ADD, 30.0))).isTrue();
+        assertThat(WorkloadDeltaCoalescer.isCoalescable(undated)).isFalse();
+    }
+
+    private static WorkloadDTO.Request.Workload workload(WorkloadDTO.ActionType actionType, double duration) {
+        return WorkloadDTO.Request.Workload.builder()
+                .username("Dastan.Ibraimov")
+                .firstName("Dastan")
+                .lastName("Ibraimov")
+                .isActive(true)
+                .trainingDate(LocalDate.of(2025, 3, 1))
+                .trainingDuration(duration)
+                .actionType(actionType)
+                .build();
+    }
+}
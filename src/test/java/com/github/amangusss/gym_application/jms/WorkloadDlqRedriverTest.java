@@ -0,0 +1,173 @@
+package com.github.amangusss.gym_application.jms;
+
+import com.github.amangusss.gym_application.dto.workload.WorkloadDTO;
+import com.github.amangusss.gym_application.entity.workload.WorkloadDeadLetter;
+import com.github.amangusss.gym_application.exception.ConflictException;
+import com.github.amangusss.gym_application.jms.dlq.WorkloadDlqRedriver;
+import com.github.amangusss.gym_application.jms.service.WorkloadMessageProducer;
+import com.github.amangusss.gym_application.metrics.WorkloadDlqMetrics;
+import com.github.amangusss.gym_application.repository.WorkloadDeadLetterRepository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("WorkloadDlqRedriver Tests")
+class WorkloadDlqRedriverTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final double RATE_PER_SECOND = 50;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private WorkloadDeadLetterRepository deadLetterRepository;
+    private WorkloadMessageProducer workloadMessageProducer;
+    private SimpleMeterRegistry meterRegistry;
+    private WorkloadDlqRedriver redriver;
+
+    @BeforeEach
+    void setUp() {
+        deadLetterRepository = mock(WorkloadDeadLetterRepository.class);
+        workloadMessageProducer = mock(WorkloadMessageProducer.class);
+        meterRegistry = new SimpleMeterRegistry();
+        redriver = new WorkloadDlqRedriver(deadLetterRepository, workloadMessageProducer, objectMapper,
+                mock(PlatformTransactionManager.class), new WorkloadDlqMetrics(meterRegistry),
+                BATCH_SIZE, RATE_PER_SECOND);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redriver.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should redrive pending dead letters in keyset batches at the configured rate")
+    void shouldRedriveInThrottledBatches() throws Exception {
+        List<WorkloadDeadLetter> firstBatch = List.of(deadLetter(1L), deadLetter(2L));
+        List<WorkloadDeadLetter> secondBatch = List.of(deadLetter(3L));
+        when(deadLetterRepository.countByStatus(WorkloadDeadLetter.Status.PENDING)).thenReturn(3L);
+        when(deadLetterRepository.findRedriveBatch(eq(WorkloadDeadLetter.Status.PENDING), eq(0L), any(Pageable.class)))
+                .thenReturn(firstBatch);
+        when(deadLetterRepository.findRedriveBatch(eq(WorkloadDeadLetter.Status.PENDING), eq(2L), any(Pageable.class)))
+                .thenReturn(secondBatch);
+        when(deadLetterRepository.findRedriveBatch(eq(WorkloadDeadLetter.Status.PENDING), eq(3L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        long started = System.nanoTime();
+        assertThat(redriver.start(null)).isEqualTo(3);
+        awaitCompletion();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        verify(workloadMessageProducer, times(3)).sendWorkloadMessage(any(), eq("tx-dlq"));
+        verify(deadLetterRepository).saveAll(firstBatch);
+        verify(deadLetterRepository).saveAll(secondBatch);
+        assertThat(firstBatch).allSatisfy(letter -> {
+            assertThat(letter.getStatus()).isEqualTo(WorkloadDeadLetter.Status.REDRIVEN);
+            assertThat(letter.getRedriveAttempts()).isEqualTo(1);
+        });
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo((long) (2 * 1000 / RATE_PER_SECOND));
+        assertThat(meterRegistry.get("workload.dlq.redrive.sent").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("workload.dlq.redrive.batches").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("workload.dlq.redrive.remaining").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep a dead letter pending when it cannot be sent")
+    void shouldKeepFailedDeadLetterPending() throws Exception {
+        WorkloadDeadLetter letter = deadLetter(7L);
+        when(deadLetterRepository.countByStatusAndIdIn(WorkloadDeadLetter.Status.PENDING, List.of(7L))).thenReturn(1L);
+        when(deadLetterRepository.findRedriveBatchByIds(eq(WorkloadDeadLetter.Status.PENDING), anyLong(), anyList(), any(Pageable.class)))
+                .thenReturn(List.of(letter))
+                .thenReturn(List.of());
+        doThrow(new IllegalStateException("broker down"))
+                .when(workloadMessageProducer).sendWorkloadMessage(any(), any());
+
+        redriver.start(List.of(7L));
+        awaitCompletion();
+
+        assertThat(letter.getStatus()).isEqualTo(WorkloadDeadLetter.Status.PENDING);
+        assertThat(letter.getLastRedriveError()).isEqualTo("broker down");
+        assertThat(meterRegistry.get("workload.dlq.redrive.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a second redrive while one is running")
+    void shouldRejectConcurrentRedrive() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(deadLetterRepository.countByStatus(WorkloadDeadLetter.Status.PENDING)).thenReturn(1L);
+        when(deadLetterRepository.findRedriveBatch(eq(WorkloadDeadLetter.Status.PENDING), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(deadLetter(1L)))
+                .thenReturn(List.of());
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(workloadMessageProducer).sendWorkloadMessage(any(), any());
+
+        redriver.start(null);
+
+        assertThatThrownBy(() -> redriver.start(null))
+                .isInstanceOf(ConflictException.class);
+
+        release.countDown();
+        awaitCompletion();
+        assertThat(redriver.isRunning()).isFalse();
+    }
+
+    private void awaitCompletion() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (redriver.isRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(redriver.isRunning()).isFalse();
+    }
+
+    private WorkloadDeadLetter deadLetter(Long id) throws Exception {
+        WorkloadDTO.Request.Workload workload = WorkloadDTO.Request.Workload.builder()
+                .username("Dastan.Ibraimov")
+                .firstName("Dastan")
+                .lastName("Ibraimov")
+                .isActive(true)
+                .trainingDate(LocalDate.of(2025, 2, 10))
+                .trainingDuration(60.0)
+                .actionType(WorkloadDTO.ActionType.ADD)
+                .build();
+
+        return WorkloadDeadLetter.builder()
+                .id(id)
+                .messageId("ID:dlq-" + id)
+                .transactionId("tx-dlq")
+                .errorReason("Validation failed")
+                .body(objectMapper.writeValueAsString(workload))
+                .receivedAt(LocalDateTime.now())
+                .status(WorkloadDeadLetter.Status.PENDING)
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.amangusss.gym_application.jms;
+
+import com.github.amangusss.gym_application.dto.workload.WorkloadDTO;
+import com.github.amangusss.gym_application.jms.converter.WorkloadBinaryMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.activemq.command.ActiveMQBytesMessage;
+import org.apache.activemq.command.ActiveMQTextMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jms.support.converter.MappingJackson2MessageConverter;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.jms.support.converter.MessageType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+@DisplayName("Workload message format benchmark - binary vs JSON converter")
+class WorkloadMessageFormatBenchmarkTest {
+
+    private static final int WARMUP_MESSAGES = 5_000;
+    private static final int MEASURED_MESSAGES = 50_000;
+
+    private MappingJackson2MessageConverter jsonConverter;
+    private WorkloadBinaryMessageConverter binaryConverter;
+    private Session session;
+    private WorkloadDTO.Request.Workload workload;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jsonConverter = new MappingJackson2MessageConverter();
+        jsonConverter.setTargetType(MessageType.TEXT);
+        jsonConverter.setTypeIdPropertyName("_type");
+        jsonConverter.setObjectMapper(new ObjectMapper().registerModule(new JavaTimeModule()));
+        binaryConverter = new WorkloadBinaryMessageConverter(jsonConverter);
+
+        session = mock(Session.class);
+        when(session.createBytesMessage()).thenAnswer(invocation -> new ActiveMQBytesMessage());
+        when(session.createTextMessage(anyString())).thenAnswer(invocation -> {
+            ActiveMQTextMessage message = new ActiveMQTextMessage();
+            message.setText(invocation.getArgument(0));
+            return message;
+        });
+
+        workload = WorkloadDTO.Request.Workload.builder()
+                .username("Alexander.Petrov")
+                .firstName("Alexander")
+                .lastName("Petrov")
+                .isActive(true)
+                .trainingDate(LocalDate.of(2025, 6, 1))
+                .trainingDuration(60.0)
+                .actionType(WorkloadDTO.ActionType.ADD)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Binary payload should be smaller than JSON and decode to the same workload")
+    void shouldCompareBinaryAndJsonFormats() throws Exception {
+        Message jsonMessage = jsonConverter.toMessage(workload, session);
+        Message binaryMessage = binaryConverter.toMessage(workload, session);
+        ((ActiveMQBytesMessage) binaryMessage).reset();
+
+        int jsonBytes = ((ActiveMQTextMessage) jsonMessage).getText().getBytes(StandardCharsets.UTF_8).length
+                + jsonMessage.getStringProperty("_type").length();
+        int binaryBytes = (int) ((ActiveMQBytesMessage) binaryMessage).getBodyLength()
+                + binaryMessage.getStringProperty(WorkloadBinaryMessageConverter.FORMAT_PROPERTY).length();
+
+        assertThat(binaryConverter.fromMessage(binaryMessage)).isEqualTo(workload);
+        assertThat(jsonConverter.fromMessage(jsonMessage)).isEqualTo(workload);
+        assertThat(binaryBytes).isLessThan(jsonBytes);
+
+        long jsonEncodeNanos = encode(jsonConverter);
+        long binaryEncodeNanos = encode(binaryConverter);
+        long jsonDecodeNanos = decode(jsonConverter, jsonMessage);
+        long binaryDecodeNanos = decode(binaryConverter, binaryMessage);
+
+        log.info("Workload payload: json {} bytes, binary {} bytes", jsonBytes, binaryBytes);
+        log.info("Encode {} messages: json {} msg/s, binary {} msg/s",
+                MEASURED_MESSAGES, throughput(jsonEncodeNanos), throughput(binaryEncodeNanos));
+        log.info("Decode {} messages: json {} msg/s, binary {} msg/s",
+                MEASURED_MESSAGES, throughput(jsonDecodeNanos), throughput(binaryDecodeNanos));
+    }
+
+    private long encode(MessageConverter converter) throws JMSException {
+        for (int i = 0; i < WARMUP_MESSAGES; i++) {
+            converter.toMessage(workload, session);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_MESSAGES; i++) {
+            converter.toMessage(workload, session);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long decode(MessageConverter converter, Message message) throws JMSException {
+        for (int i = 0; i < WARMUP_MESSAGES; i++) {
+            rewind(message);
+            converter.fromMessage(message);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_MESSAGES; i++) {
+            rewind(message);
+            converter.fromMessage(message);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void rewind(Message message) throws JMSException {
+        if (message instanceof ActiveMQBytesMessage bytesMessage) {
+            bytesMessage.reset();
+        }
+    }
+
+    private static long throughput(long nanos) {
+        return nanos == 0 ? 0 : MEASURED_MESSAGES * 1_000_000_000L / nanos;
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.amangusss.gym_application.jms;
+
+import com.github.amangusss.gym_application.dto.workload.WorkloadDTO;
+import com.github.amangusss.gym_application.jms.service.WorkloadMessageProducer;
+import com.github.amangusss.gym_application.jms.service.impl.WorkloadMessageProducerImpl;
+import com.github.amangusss.gym_application.metrics.JmsPoolMetrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.jms.Connection;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Session;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.support.converter.MappingJackson2MessageConverter;
+import org.springframework.jms.support.converter.MessageType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("Workload message grouping - concurrent consumers on the embedded broker")
+class WorkloadMessageGroupingTest {
+
+    private static final String BROKER_URL =
+            "vm://grouping?broker.persistent=false&broker.useJmx=false&jms.prefetchPolicy.queuePrefetch=1";
+    private static final String QUEUE = "workload.grouping";
+    private static final int CONSUMERS = 4;
+    private static final int TRAINERS = 12;
+    private static final int MESSAGES_PER_TRAINER = 25;
+
+    private ActiveMQConnectionFactory connectionFactory;
+    private Connection consumerConnection;
+    private WorkloadMessageProducer producer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connectionFactory = new ActiveMQConnectionFactory(BROKER_URL);
+        consumerConnection = connectionFactory.createConnection();
+
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setTargetType(MessageType.TEXT);
+        converter.setTypeIdPropertyName("_type");
+        converter.setObjectMapper(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+        JmsTemplate jmsTemplate = new JmsTemplate(connectionFactory);
+        jmsTemplate.setMessageConverter(converter);
+
+        producer = new WorkloadMessageProducerImpl(jmsTemplate, new JmsPoolMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(producer, "workloadQueue", QUEUE);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        consumerConnection.close();
+    }
+
+    @Test
+    @DisplayName("Should pin each trainer to one consumer and deliver its updates in sequence order")
+    void shouldKeepPerTrainerOrderingAcrossConsumers() throws Exception {
+        CountDownLatch received = new CountDownLatch(TRAINERS * MESSAGES_PER_TRAINER);
+        Map<String, Set<Integer>> consumersByTrainer = new ConcurrentHashMap<>();
+        Map<String, List<Long>> sequencesByTrainer = new ConcurrentHashMap<>();
+
+        for (int i = 0; i < CONSUMERS; i++) {
+            int consumerIndex = i;
+            Session session = consumerConnection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            MessageConsumer consumer = session.createConsumer(session.createQueue(QUEUE));
+            consumer.setMessageListener(message -> {
+                try {
+                    String trainer = message.getStringProperty(WorkloadMessageProducer.GROUP_ID_PROPERTY);
+                    consumersByTrainer.computeIfAbsent(trainer, key -> ConcurrentHashMap.newKeySet()).add(consumerIndex);
+                    sequencesByTrainer.computeIfAbsent(trainer, key -> new CopyOnWriteArrayList<>())
+                            .add(message.getLongProperty(WorkloadMessageProducer.SEQUENCE_PROPERTY));
+                    Thread.sleep(ThreadLocalRandom.current().nextInt(2));
+                } catch (Exception e) {
+                    log.error("Consumer {} failed to read message: {}", consumerIndex, e.getMessage());
+                } finally {
+                    received.countDown();
+                }
+            });
+        }
+        consumerConnection.start();
+
+        for (int round = 0; round < MESSAGES_PER_TRAINER; round++) {
+            for (int trainer = 0; trainer < TRAINERS; trainer++) {
+                producer.sendWorkloadMessage(workload("Trainer." + trainer, round), "tx-" + trainer + "-" + round,
+                        (long) round * TRAINERS + trainer + 1);
+            }
+        }
+
+        assertThat(received.await(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(sequencesByTrainer).hasSize(TRAINERS);
+        sequencesByTrainer.forEach((trainer, sequences) -> {
+            assertThat(sequences).hasSize(MESSAGES_PER_TRAINER);
+            assertThat(sequences).isSortedAccordingTo(Long::compare).doesNotHaveDuplicates();
+        });
+        consumersByTrainer.forEach((trainer, consumers) -> assertThat(consumers).as(trainer).hasSize(1));
+
+        Set<Integer> usedConsumers = consumersByTrainer.values().stream()
+                .flatMap(Set::stream)
+                .collect(Collectors.toSet());
+        log.info("{} trainers spread over consumers {}", TRAINERS, new ArrayList<>(usedConsumers));
+        assertThat(usedConsumers).hasSizeGreaterThan(1);
+    }
+
+    private static WorkloadDTO.Request.Workload workload(String trainer, int round) {
+        return WorkloadDTO.Request.Workload.builder()
+                .username(trainer)
+                .firstName("First")
+                .lastName("Last")
+                .isActive(true)
+                .trainingDate(LocalDate.of(2025, 1, 1).plusDays(round))
+                .trainingDuration(30.0 + round)
+                .actionType(round % 2 == 0 ? WorkloadDTO.ActionType.ADD : WorkloadDTO.ActionType.DELETE)
+                .build();
+    }
+}
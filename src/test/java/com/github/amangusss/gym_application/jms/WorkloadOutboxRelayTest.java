@@ -0,0 +1,332 @@
+package com.github.amangusss.gym_application.jms;
+
+import com.github.amangusss.gym_application.dto.workload.WorkloadDTO;
+import com.github.amangusss.gym_application.entity.workload.WorkloadOutboxEvent;
+import com.github.amangusss.gym_application.jms.outbox.WorkloadDeltaCoalescer;
+import com.github.amangusss.gym_application.jms.outbox.WorkloadOutboxRelay;
+import com.github.amangusss.gym_application.jms.outbox.WorkloadPublishQueue;
+import com.github.amangusss.gym_application.metrics.WorkloadCoalescingMetrics;
+import com.github.amangusss.gym_application.metrics.WorkloadOutboxMetrics;
+import com.github.amangusss.gym_application.repository.WorkloadOutboxRepository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("WorkloadOutboxRelay Tests")
+class WorkloadOutboxRelayTest {
+
+    private static final String TRAINER = "Dastan.Ibraimov";
+    private static final String OTHER_TRAINER = "Aman.Nazarkulov";
+    private static final String NODE_ID = "node-a";
+    private static final int BATCH_SIZE = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private WorkloadOutboxRepository outboxRepository;
+    private WorkloadPublishQueue publishQueue;
+    private SimpleMeterRegistry meterRegistry;
+    private WorkloadOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(WorkloadOutboxRepository.class);
+        publishQueue = mock(WorkloadPublishQueue.class);
+        meterRegistry = new SimpleMeterRegistry();
+        relay = relay(false);
+
+        when(publishQueue.submit(any())).thenReturn(true);
+        when(publishQueue.getOverflowPolicy()).thenReturn(WorkloadPublishQueue.OverflowPolicy.REJECT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should claim ready heads, hand them to the publish queue and delete them once published")
+    @SuppressWarnings("unchecked")
+    void shouldPublishAndDeleteReadyEvents() throws Exception {
+        WorkloadOutboxEvent first = event(1L, TRAINER);
+        claimHeads(List.of(first, event(2L, OTHER_TRAINER)), List.of());
+
+        relay.drain();
+
+        assertThat(first.getClaimedBy()).isEqualTo(NODE_ID);
+        assertThat(first.getClaimedUntil()).isAfter(LocalDateTime.now());
+
+        List<WorkloadPublishQueue.PublishTask> tasks = submittedTasks(2);
+        assertThat(tasks).extracting(WorkloadPublishQueue.PublishTask::sequence).containsExactly(1L, 2L);
+        tasks.forEach(task -> task.onComplete().accept(null));
+        relay.shutdown();
+
+        ArgumentCaptor<List<Long>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository, atLeastOnce()).deleteClaimed(deleted.capture(), eq(NODE_ID));
+        assertThat(deleted.getAllValues().stream().flatMap(List::stream)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(meterRegistry.get("workload.outbox.published").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should exclude trainers with a send in flight from the next claim")
+    @SuppressWarnings("unchecked")
+    void shouldExcludeInFlightTrainersFromClaim() throws Exception {
+        claimHeads(List.of(event(1L, TRAINER)), List.of(event(2L, OTHER_TRAINER)));
+
+        relay.drain();
+        relay.drain();
+
+        ArgumentCaptor<Collection<String>> excluded = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxRepository).claimReadyHeads(any(LocalDateTime.class), any(Pageable.class));
+        verify(outboxRepository).claimReadyHeadsExcluding(any(LocalDateTime.class), excluded.capture(), any(Pageable.class));
+        assertThat(excluded.getValue()).containsExactly(TRAINER);
+        assertThat(submittedTasks(2)).extracting(WorkloadPublishQueue.PublishTask::trainerUsername)
+                .containsExactly(TRAINER, OTHER_TRAINER);
+    }
+
+    @Test
+    @DisplayName("Should sample the backlog gauge only on the scheduled poll")
+    void shouldSampleBacklogOnlyOnPoll() {
+        claimHeads(List.of());
+        when(outboxRepository.count()).thenReturn(7L);
+
+        relay.drain();
+        verify(outboxRepository, never()).count();
+
+        relay.poll();
+        verify(outboxRepository).count();
+        assertThat(meterRegistry.get("workload.outbox.backlog").gauge().value()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should reschedule a failed event with backoff and release its claim")
+    void shouldRescheduleFailedEvent() throws Exception {
+        WorkloadOutboxEvent first = event(1L, TRAINER);
+        claimHeads(List.of(first), List.of());
+
+        relay.drain();
+        submittedTasks(1).get(0).onComplete().accept(new IllegalStateException("broker down"));
+        relay.shutdown();
+
+        verify(outboxRepository).rescheduleClaimed(eq(1L), eq(NODE_ID), eq(1), any(LocalDateTime.class), eq("broker down"));
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(meterRegistry.get("workload.outbox.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reschedule the event when the publish queue rejects it and release the rest of the batch")
+    void shouldRescheduleWhenQueueRejects() throws Exception {
+        WorkloadOutboxEvent first = event(1L, TRAINER);
+        claimHeads(List.of(first, event(2L, OTHER_TRAINER)));
+        when(publishQueue.submit(any())).thenReturn(false);
+
+        relay.drain();
+
+        verify(publishQueue, times(1)).submit(any());
+        verify(outboxRepository).rescheduleClaimed(eq(1L), eq(NODE_ID), eq(1), any(LocalDateTime.class), eq("Publish queue full"));
+        verify(outboxRepository).releaseClaims(List.of(2L), NODE_ID);
+    }
+
+    @Test
+    @DisplayName("Should release the claim of a spilled event and leave it untouched in the outbox")
+    void shouldLeaveSpilledEventInOutbox() throws Exception {
+        WorkloadOutboxEvent first = event(1L, TRAINER);
+        claimHeads(List.of(first));
+        when(publishQueue.submit(any())).thenReturn(false);
+        when(publishQueue.getOverflowPolicy()).thenReturn(WorkloadPublishQueue.OverflowPolicy.SPILL);
+
+        relay.drain();
+
+        verify(outboxRepository).releaseClaims(List.of(1L), NODE_ID);
+        verify(outboxRepository, never()).rescheduleClaimed(any(), any(), anyInt(), any(), any());
+        assertThat(first.getAttempts()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should release claims of events still in flight when shutting down")
+    void shouldReleaseInFlightClaimsOnShutdown() throws Exception {
+        claimHeads(List.of(event(1L, TRAINER)), List.of());
+
+        relay.drain();
+        relay.shutdown();
+
+        verify(outboxRepository).releaseClaims(List.of(1L), NODE_ID);
+    }
+
+    @Test
+    @DisplayName("Should coalesce a trainer's deltas for one month into a single net message")
+    @SuppressWarnings("unchecked")
+    void shouldCoalesceDeltasIntoOneMessage() throws Exception {
+        relay.shutdown();
+        relay = relay(true);
+        claimHeads(List.of(event(1L, TRAINER, WorkloadDTO.ActionType.ADD, 60.0, LocalDate.of(2025, 1, 10))), List.of());
+        when(outboxRepository.claimTrainerEvents(eq(TRAINER), eq(1L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(
+                        event(2L, TRAINER, WorkloadDTO.ActionType.ADD, 45.0, LocalDate.of(2025, 1, 20)),
+                        event(3L, TRAINER, WorkloadDTO.ActionType.DELETE, 30.0, LocalDate.of(2025, 1, 10)),
+                        event(4L, TRAINER, WorkloadDTO.ActionType.ADD, 90.0, LocalDate.of(2025, 2, 1))));
+
+        relay.drain();
+
+        WorkloadPublishQueue.PublishTask task = submittedTasks(1).get(0);
+        assertThat(task.workload().actionType()).isEqualTo(WorkloadDTO.ActionType.ADD);
+        assertThat(task.workload().trainingDuration()).isEqualTo(75.0);
+        assertThat(task.sequence()).isEqualTo(3L);
+
+        task.onComplete().accept(null);
+        relay.shutdown();
+
+        ArgumentCaptor<List<Long>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository, atLeastOnce()).deleteClaimed(deleted.capture(), eq(NODE_ID));
+        assertThat(deleted.getAllValues().stream().flatMap(List::stream)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(meterRegistry.get("workload.coalescing.compression.ratio").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should publish events without a training date on their own instead of coalescing them")
+    @SuppressWarnings("unchecked")
+    void shouldPublishUndatedEventsWithoutCoalescing() throws Exception {
+        relay.shutdown();
+        relay = relay(true);
+        claimHeads(List.of(
+                event(1L, TRAINER, WorkloadDTO.ActionType.ADD, 60.0, null),
+                event(5L, OTHER_TRAINER, WorkloadDTO.ActionType.ADD, 30.0, LocalDate.of(2025, 1, 10))), List.of());
+        when(outboxRepository.claimTrainerEvents(eq(OTHER_TRAINER), eq(5L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(
+                        event(6L, OTHER_TRAINER, WorkloadDTO.ActionType.ADD, 15.0, null),
+                        event(7L, OTHER_TRAINER, WorkloadDTO.ActionType.ADD, 15.0, LocalDate.of(2025, 1, 20))));
+
+        relay.drain();
+
+        List<WorkloadPublishQueue.PublishTask> tasks = submittedTasks(2);
+        assertThat(tasks.get(0).workload().trainingDate()).isNull();
+        assertThat(tasks.get(0).workload().trainingDuration()).isEqualTo(60.0);
+        assertThat(tasks.get(1).workload().trainingDuration()).isEqualTo(45.0);
+        verify(outboxRepository, never()).claimTrainerEvents(eq(TRAINER), any(), any(), any());
+
+        tasks.forEach(task -> task.onComplete().accept(null));
+        relay.shutdown();
+
+        ArgumentCaptor<List<Long>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository, atLeastOnce()).deleteClaimed(deleted.capture(), eq(NODE_ID));
+        assertThat(deleted.getAllValues().stream().flatMap(List::stream)).containsExactlyInAnyOrder(1L, 5L, 7L);
+    }
+
+    @Test
+    @DisplayName("Should delete deltas that cancel out without publishing anything")
+    @SuppressWarnings("unchecked")
+    void shouldDropCancelledDeltas() throws Exception {
+        relay.shutdown();
+        relay = relay(true);
+        claimHeads(List.of(event(1L, TRAINER, WorkloadDTO.ActionType.ADD, 60.0, LocalDate.of(2025, 1, 10))), List.of());
+        when(outboxRepository.claimTrainerEvents(eq(TRAINER), eq(1L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(event(2L, TRAINER, WorkloadDTO.ActionType.DELETE, 60.0, LocalDate.of(2025, 1, 10))));
+
+        relay.drain();
+        relay.drain();
+
+        verify(publishQueue, never()).submit(any());
+        ArgumentCaptor<List<Long>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).deleteClaimed(deleted.capture(), eq(NODE_ID));
+        assertThat(deleted.getValue()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(meterRegistry.get("workload.coalescing.cancelled").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should hold deltas inside the coalescing window unclaimed until shutdown flushes them")
+    void shouldFlushOpenWindowsOnShutdown() throws Exception {
+        relay.shutdown();
+        relay = relay(true);
+        WorkloadOutboxEvent fresh = event(1L, TRAINER, WorkloadDTO.ActionType.ADD, 60.0, LocalDate.of(2025, 1, 10));
+        fresh.setCreatedAt(LocalDateTime.now());
+        claimHeads(List.of(fresh));
+
+        relay.drain();
+        verify(publishQueue, never()).submit(any());
+        assertThat(fresh.getClaimedBy()).isNull();
+
+        relay.shutdown();
+        assertThat(submittedTasks(1).get(0).workload().trainingDuration()).isEqualTo(60.0);
+    }
+
+    @SafeVarargs
+    private void claimHeads(List<WorkloadOutboxEvent>... batches) {
+        Deque<List<WorkloadOutboxEvent>> remaining = new ArrayDeque<>(List.of(batches));
+        Answer<List<WorkloadOutboxEvent>> nextBatch = invocation -> remaining.size() > 1 ? remaining.poll() : remaining.peek();
+        when(outboxRepository.claimReadyHeads(any(LocalDateTime.class), any(Pageable.class))).thenAnswer(nextBatch);
+        when(outboxRepository.claimReadyHeadsExcluding(any(LocalDateTime.class), anyCollection(), any(Pageable.class)))
+                .thenAnswer(nextBatch);
+    }
+
+    private WorkloadOutboxRelay relay(boolean coalescing) {
+        return new WorkloadOutboxRelay(outboxRepository, publishQueue,
+                new WorkloadDeltaCoalescer(new WorkloadCoalescingMetrics(meterRegistry), coalescing, 60000, 100),
+                objectMapper, mock(PlatformTransactionManager.class), new WorkloadOutboxMetrics(meterRegistry),
+                NODE_ID, BATCH_SIZE, 60000, 1000, 60000);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<WorkloadPublishQueue.PublishTask> submittedTasks(int expected) {
+        ArgumentCaptor<WorkloadPublishQueue.PublishTask> captor = ArgumentCaptor.forClass(WorkloadPublishQueue.PublishTask.class);
+        verify(publishQueue, times(expected)).submit(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private WorkloadOutboxEvent event(Long id, String trainer) throws Exception {
+        return event(id, trainer, WorkloadDTO.ActionType.ADD, 60.0, LocalDate.of(2025, 1, 15));
+    }
+
+    private WorkloadOutboxEvent event(Long id, String trainer, WorkloadDTO.ActionType actionType,
+                                      double duration, LocalDate trainingDate) throws Exception {
+        WorkloadDTO.Request.Workload workload = WorkloadDTO.Request.Workload.builder()
+                .username(trainer)
+                .firstName("First")
+                .lastName("Last")
+                .isActive(true)
+                .trainingDate(trainingDate)
+                .trainingDuration(duration)
+                .actionType(actionType)
+                .build();
+
+        return WorkloadOutboxEvent.builder()
+                .id(id)
+                .trainerUsername(trainer)
+                .payload(objectMapper.writeValueAsString(workload))
+                .transactionId("tx-1")
+                .createdAt(LocalDateTime.now().minusMinutes(5))
+                .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.github.amangusss.gym_application.jms;
+
+import com.github.amangusss.gym_application.dto.workload.WorkloadDTO;
+import com.github.amangusss.gym_application.jms.outbox.WorkloadPublishQueue;
+import com.github.amangusss.gym_application.jms.outbox.WorkloadPublishQueue.OverflowPolicy;
+import com.github.amangusss.gym_application.jms.outbox.WorkloadPublishQueue.PublishTask;
+import com.github.amangusss.gym_application.jms.service.WorkloadMessageProducer;
+import com.github.amangusss.gym_application.metrics.WorkloadPublishMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("WorkloadPublishQueue Tests")
+class WorkloadPublishQueueTest {
+
+    private static final String TRAINER = "Dastan.Ibraimov";
+
+    private WorkloadMessageProducer workloadMessageProducer;
+    private SimpleMeterRegistry meterRegistry;
+    private CountDownLatch brokerReleased;
+    private WorkloadPublishQueue publishQueue;
+
+    @BeforeEach
+    void setUp() {
+        workloadMessageProducer = mock(WorkloadMessageProducer.class);
+        meterRegistry = new SimpleMeterRegistry();
+        brokerReleased = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        brokerReleased.countDown();
+        publishQueue.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should send queued events in submission order for one trainer and report completion")
+    void shouldSendInOrderAndReportCompletion() throws Exception {
+        publishQueue = newQueue(10, OverflowPolicy.BLOCK);
+        List<String> sent = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            sent.add(invocation.getArgument(1));
+            return null;
+        })
+                .when(workloadMessageProducer).sendWorkloadMessage(any(), any(), anyLong());
+        CountDownLatch completed = new CountDownLatch(3);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(publishQueue.submit(task("tx-" + i, error -> completed.countDown()))).isTrue();
+        }
+
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sent).containsExactly("tx-0", "tx-1", "tx-2");
+        assertThat(meterRegistry.get("workload.publish.send.latency").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reject events when the queue is full under the REJECT policy")
+    void shouldRejectWhenFull() {
+        publishQueue = newQueue(1, OverflowPolicy.REJECT);
+        blockBroker();
+
+        publishQueue.submit(task("tx-0", error -> { }));
+        verify(workloadMessageProducer, timeout(1000)).sendWorkloadMessage(any(), any(), anyLong());
+        assertThat(publishQueue.submit(task("tx-1", error -> { }))).isTrue();
+
+        assertThat(publishQueue.submit(task("tx-2", error -> { }))).isFalse();
+        assertThat(meterRegistry.get("workload.publish.dropped").tag("reason", "rejected").counter().count())
+                .isEqualTo(1);
+        assertThat(publishQueue.depth()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should give up after the block timeout under the BLOCK policy")
+    void shouldTimeOutWhenBlocked() {
+        publishQueue = newQueue(1, OverflowPolicy.BLOCK);
+        blockBroker();
+
+        publishQueue.submit(task("tx-0", error -> { }));
+        verify(workloadMessageProducer, timeout(1000)).sendWorkloadMessage(any(), any(), anyLong());
+        publishQueue.submit(task("tx-1", error -> { }));
+
+        assertThat(publishQueue.submit(task("tx-2", error -> { }))).isFalse();
+        assertThat(meterRegistry.get("workload.publish.dropped").tag("reason", "timeout").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drain queued events on shutdown and refuse new ones")
+    void shouldDrainOnShutdown() {
+        publishQueue = newQueue(10, OverflowPolicy.BLOCK);
+        blockBroker();
+        for (int i = 0; i < 3; i++) {
+            publishQueue.submit(task("tx-" + i, error -> { }));
+        }
+
+        brokerReleased.countDown();
+        publishQueue.shutdown();
+
+        verify(workloadMessageProducer, times(3)).sendWorkloadMessage(any(), any(), anyLong());
+        assertThat(publishQueue.submit(task("tx-late", error -> { }))).isFalse();
+        assertThat(meterRegistry.get("workload.publish.dropped").tag("reason", "shutdown").counter().count())
+                .isEqualTo(1);
+    }
+
+    private WorkloadPublishQueue newQueue(int capacity, OverflowPolicy policy) {
+        return new WorkloadPublishQueue(workloadMessageProducer, new WorkloadPublishMetrics(meterRegistry),
+                capacity, 1, policy, 50, 5000);
+    }
+
+    private void blockBroker() {
+        doAnswer(invocation -> {
+            brokerReleased.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(workloadMessageProducer).sendWorkloadMessage(any(), any(), anyLong());
+    }
+
+    private PublishTask task(String transactionId, Consumer<Exception> onComplete) {
+        WorkloadDTO.Request.Workload workload = WorkloadDTO.Request.Workload.builder()
+                .username(TRAINER)
+                .firstName("Dastan")
+                .lastName("Ibraimov")
+                .isActive(true)
+                .trainingDate(LocalDate.of(2025, 1, 15))
+                .trainingDuration(60.0)
+                .actionType(WorkloadDTO.ActionType.ADD)
+                .build();
+        return new PublishTask(TRAINER, workload, transactionId, 1L, onComplete);
+    }
+}
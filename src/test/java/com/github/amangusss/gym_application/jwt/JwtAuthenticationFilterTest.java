@@ -1,5 +1,7 @@
 package com.github.amangusss.gym_application.jwt;
 
+import com.github.amangusss.gym_application.service.TokenRevocationService;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,15 +19,20 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,6 +41,7 @@ import static org.mockito.Mockito.when;
 class JwtAuthenticationFilterTest {
 
     private static final String USERNAME = "John.Doe";
+    private static final String TOKEN_ID = "3f1c2a9e-7d41-4c55-9a0b-6e2f1d8c4b7a";
     private static final String VALID_TOKEN = "valid.jwt.token";
     private static final String BEARER_TOKEN = "Bearer " + VALID_TOKEN;
 
@@ -43,6 +51,12 @@ class JwtAuthenticationFilterTest {
     @Mock
     private UserDetailsService userDetailsService;
 
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     @Mock
     private HttpServletRequest request;
 
@@ -56,6 +70,7 @@ class JwtAuthenticationFilterTest {
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
     private UserDetails userDetails;
+    private JwtClaims activeClaims;
 
     @BeforeEach
     void setUp() {
@@ -66,6 +81,8 @@ class JwtAuthenticationFilterTest {
                 .password("password")
                 .authorities(Collections.emptyList())
                 .build();
+
+        activeClaims = new JwtClaims(TOKEN_ID, USERNAME, true, List.of(), Instant.now(), Instant.now().plusSeconds(3600));
     }
 
     @Nested
@@ -76,14 +93,74 @@ class JwtAuthenticationFilterTest {
         @DisplayName("Should authenticate user with valid token")
         void shouldAuthenticateUserWithValidToken() throws ServletException, IOException {
             when(request.getHeader("Authorization")).thenReturn(BEARER_TOKEN);
-            when(jwtUtils.extractUsername(VALID_TOKEN)).thenReturn(USERNAME);
+            when(jwtUtils.parseToken(VALID_TOKEN)).thenReturn(activeClaims);
             when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(userDetails);
-            when(jwtUtils.validateToken(VALID_TOKEN, userDetails)).thenReturn(true);
+            when(jwtUtils.isTokenValid(activeClaims, userDetails)).thenReturn(true);
 
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
             assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
             assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo(USERNAME);
+            verify(userCache).putUserInCache(userDetails);
+            verify(jwtUtils, times(1)).parseToken(VALID_TOKEN);
+            verify(filterChain).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("Should authenticate from cached user without loading it")
+        void shouldAuthenticateFromCachedUser() throws ServletException, IOException {
+            when(request.getHeader("Authorization")).thenReturn(BEARER_TOKEN);
+            when(jwtUtils.parseToken(VALID_TOKEN)).thenReturn(activeClaims);
+            when(userCache.getUserFromCache(USERNAME)).thenReturn(userDetails);
+            when(jwtUtils.isTokenValid(activeClaims, userDetails)).thenReturn(true);
+
+            jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+            assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo(USERNAME);
+            verify(userDetailsService, never()).loadUserByUsername(anyString());
+            verify(filterChain).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("Should not authenticate when token is issued for inactive user")
+        void shouldNotAuthenticateWhenTokenIsInactive() throws ServletException, IOException {
+            when(request.getHeader("Authorization")).thenReturn(BEARER_TOKEN);
+            when(jwtUtils.parseToken(VALID_TOKEN)).thenReturn(new JwtClaims(
+                    TOKEN_ID, USERNAME, false, List.of(), Instant.now(), Instant.now().plusSeconds(3600)));
+
+            jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+            verify(userCache, never()).getUserFromCache(anyString());
+            verify(filterChain).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("Should not authenticate when token was revoked")
+        void shouldNotAuthenticateWhenTokenIsRevoked() throws ServletException, IOException {
+            when(request.getHeader("Authorization")).thenReturn(BEARER_TOKEN);
+            when(jwtUtils.parseToken(VALID_TOKEN)).thenReturn(activeClaims);
+            when(tokenRevocationService.isRevoked(TOKEN_ID)).thenReturn(true);
+
+            jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+            verify(userCache, never()).getUserFromCache(anyString());
+            verify(filterChain).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("Should not authenticate when user was deactivated after token was issued")
+        void shouldNotAuthenticateWhenUserIsDeactivated() throws ServletException, IOException {
+            UserDetails deactivated = User.withUserDetails(userDetails).disabled(true).build();
+            when(request.getHeader("Authorization")).thenReturn(BEARER_TOKEN);
+            when(jwtUtils.parseToken(VALID_TOKEN)).thenReturn(activeClaims);
+            when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(deactivated);
+
+            jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+            verify(jwtUtils, never()).isTokenValid(any(), any());
             verify(filterChain).doFilter(request, response);
         }
 
@@ -96,7 +173,7 @@ class JwtAuthenticationFilterTest {
 
             assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
             verify(filterChain).doFilter(request, response);
-            verify(jwtUtils, never()).extractUsername(anyString());
+            verify(jwtUtils, never()).parseToken(anyString());
         }
 
         @Test
@@ -108,16 +185,16 @@ class JwtAuthenticationFilterTest {
 
             assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
             verify(filterChain).doFilter(request, response);
-            verify(jwtUtils, never()).extractUsername(anyString());
+            verify(jwtUtils, never()).parseToken(anyString());
         }
 
         @Test
         @DisplayName("Should not authenticate when token is invalid")
         void shouldNotAuthenticateWhenTokenIsInvalid() throws ServletException, IOException {
             when(request.getHeader("Authorization")).thenReturn(BEARER_TOKEN);
-            when(jwtUtils.extractUsername(VALID_TOKEN)).thenReturn(USERNAME);
+            when(jwtUtils.parseToken(VALID_TOKEN)).thenReturn(activeClaims);
             when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(userDetails);
-            when(jwtUtils.validateToken(VALID_TOKEN, userDetails)).thenReturn(false);
+            when(jwtUtils.isTokenValid(activeClaims, userDetails)).thenReturn(false);
 
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -129,7 +206,7 @@ class JwtAuthenticationFilterTest {
         @DisplayName("Should handle exception during username extraction")
         void shouldHandleExceptionDuringUsernameExtraction() throws ServletException, IOException {
             when(request.getHeader("Authorization")).thenReturn(BEARER_TOKEN);
-            when(jwtUtils.extractUsername(VALID_TOKEN)).thenThrow(new RuntimeException("Token parsing error"));
+            when(jwtUtils.parseToken(VALID_TOKEN)).thenThrow(new RuntimeException("Token parsing error"));
 
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -0,0 +1,142 @@
+package com.github.amangusss.gym_application.jwt;
+
+import com.github.amangusss.gym_application.service.TokenRevocationService;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import jakarta.servlet.FilterChain;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.cache.NullUserCache;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@Slf4j
+@DisplayName("JWT filter benchmark - per-request parsing vs a shared parser and verified-token cache")
+class JwtFilterBenchmarkTest {
+
+    private static final String SECRET = "verysecretkeythatisatleast256bitslong1234567890abcdefghij";
+    private static final String USERNAME = "John.Doe";
+    private static final long EXPIRATION_MS = 3_600_000L;
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int MEASURED_REQUESTS = 20_000;
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private final SecretKey signingKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    private final UserDetails userDetails = User.builder()
+            .username(USERNAME)
+            .password("hashed")
+            .authorities(List.of())
+            .build();
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = jwtUtils(10_000).generateToken(userDetails);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should authenticate every request and report filter cost per request")
+    void shouldCompareFilterCostPerRequest() throws Exception {
+        JwtAuthenticationFilter uncachedFilter = filter(jwtUtils(0));
+        JwtAuthenticationFilter cachedFilter = filter(jwtUtils(10_000));
+
+        timeRequests(WARMUP_REQUESTS, this::parseThreeTimes);
+        timeRequests(WARMUP_REQUESTS, () -> authenticate(uncachedFilter));
+        timeRequests(WARMUP_REQUESTS, () -> authenticate(cachedFilter));
+
+        long perRequestParserNanos = timeRequests(MEASURED_REQUESTS, this::parseThreeTimes);
+        long sharedParserNanos = timeRequests(MEASURED_REQUESTS, () -> authenticate(uncachedFilter));
+        long cachedNanos = timeRequests(MEASURED_REQUESTS, () -> authenticate(cachedFilter));
+
+        log.info("JWT filter cost over {} requests: new parser and three verifications {} ns/request, "
+                        + "shared parser and one verification {} ns/request, verified-token cache hit {} ns/request",
+                MEASURED_REQUESTS,
+                perRequestParserNanos / MEASURED_REQUESTS,
+                sharedParserNanos / MEASURED_REQUESTS,
+                cachedNanos / MEASURED_REQUESTS);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo(USERNAME);
+    }
+
+    private void authenticate(JwtAuthenticationFilter filter) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+
+        filter.doFilterInternal(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            throw new IllegalStateException("Request was not authenticated");
+        }
+    }
+
+    private void parseThreeTimes() {
+        Claims filterClaims = parse();
+        Claims validationClaims = parse();
+        Claims expirationClaims = parse();
+
+        if (!USERNAME.equals(filterClaims.getSubject()) || !USERNAME.equals(validationClaims.getSubject())
+                || expirationClaims.getExpiration() == null) {
+            throw new IllegalStateException("Token did not parse");
+        }
+    }
+
+    private Claims parse() {
+        return Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private JwtAuthenticationFilter filter(JwtUtils jwtUtils) {
+        return new JwtAuthenticationFilter(jwtUtils, username -> userDetails, new NullUserCache(),
+                mock(TokenRevocationService.class));
+    }
+
+    private JwtUtils jwtUtils(long verifiedCacheSize) {
+        JwtUtils jwtUtils = new JwtUtils(SECRET, verifiedCacheSize);
+        ReflectionTestUtils.setField(jwtUtils, "expirationMillis", EXPIRATION_MS);
+        return jwtUtils;
+    }
+
+    private static long timeRequests(int requests, ThrowingRunnable request) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            request.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.amangusss.gym_application.jwt;
 
+import io.jsonwebtoken.JwtException;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,8 +10,8 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
 import java.util.Collections;
-import java.util.Date;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -20,13 +22,14 @@ class JwtUtilsTest {
     private static final String SECRET = "verysecretkeythatisatleast256bitslong1234567890abcdefghij";
     private static final long EXPIRATION_MS = 3600000; // 1 hour
     private static final String USERNAME = "John.Doe";
+    private static final long VERIFIED_CACHE_SIZE = 100;
 
     private JwtUtils jwtUtils;
     private UserDetails userDetails;
 
     @BeforeEach
     void setUp() {
-        jwtUtils = new JwtUtils(SECRET);
+        jwtUtils = new JwtUtils(SECRET, VERIFIED_CACHE_SIZE);
         ReflectionTestUtils.setField(jwtUtils, "expirationMillis", EXPIRATION_MS);
 
         userDetails = User.builder()
@@ -75,7 +78,7 @@ class JwtUtilsTest {
         void shouldExtractUsernameFromToken() {
             String token = jwtUtils.generateToken(userDetails);
 
-            String extractedUsername = jwtUtils.extractUsername(token);
+            String extractedUsername = jwtUtils.parseToken(token).username();
 
             assertThat(extractedUsername).isEqualTo(USERNAME);
         }
@@ -85,10 +88,10 @@ class JwtUtilsTest {
         void shouldExtractExpirationFromToken() {
             String token = jwtUtils.generateToken(userDetails);
 
-            Date expiration = jwtUtils.extractExpiration(token);
+            Instant expiration = jwtUtils.parseToken(token).expiration();
 
             assertThat(expiration).isNotNull();
-            assertThat(expiration).isAfter(new Date());
+            assertThat(expiration).isAfter(Instant.now());
         }
     }
 
@@ -101,7 +104,7 @@ class JwtUtilsTest {
         void shouldValidateTokenSuccessfully() {
             String token = jwtUtils.generateToken(userDetails);
 
-            Boolean isValid = jwtUtils.validateToken(token, userDetails);
+            boolean isValid = jwtUtils.isTokenValid(jwtUtils.parseToken(token), userDetails);
 
             assertThat(isValid).isTrue();
         }
@@ -116,28 +119,39 @@ class JwtUtilsTest {
                     .authorities(Collections.emptyList())
                     .build();
 
-            Boolean isValid = jwtUtils.validateToken(token, otherUser);
+            boolean isValid = jwtUtils.isTokenValid(jwtUtils.parseToken(token), otherUser);
 
             assertThat(isValid).isFalse();
         }
 
         @Test
-        @DisplayName("Should return false for malformed token")
-        void shouldReturnFalseForMalformedToken() {
-            Boolean isValid = jwtUtils.validateToken("invalid.token.here", userDetails);
+        @DisplayName("Should reuse verified claims for the same token")
+        void shouldReuseVerifiedClaimsForSameToken() {
+            String token = jwtUtils.generateToken(userDetails);
 
-            assertThat(isValid).isFalse();
+            JwtClaims first = jwtUtils.parseToken(token);
+            JwtClaims second = jwtUtils.parseToken(token);
+
+            assertThat(second).isSameAs(first);
+            assertThat(first.tokenId()).isNotBlank();
+            assertThat(jwtUtils.isTokenValid(first, userDetails)).isTrue();
         }
 
         @Test
-        @DisplayName("Should return false for token with invalid signature")
-        void shouldReturnFalseForInvalidSignature() {
+        @DisplayName("Should reject malformed token")
+        void shouldRejectMalformedToken() {
+            assertThatThrownBy(() -> jwtUtils.parseToken("invalid.token.here"))
+                    .isInstanceOf(JwtException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject token with invalid signature")
+        void shouldRejectInvalidSignature() {
             String token = jwtUtils.generateToken(userDetails);
             String tamperedToken = token.substring(0, token.lastIndexOf('.') + 1) + "invalidsignature";
 
-            Boolean isValid = jwtUtils.validateToken(tamperedToken, userDetails);
-
-            assertThat(isValid).isFalse();
+            assertThatThrownBy(() -> jwtUtils.parseToken(tamperedToken))
+                    .isInstanceOf(JwtException.class);
         }
     }
 
@@ -148,7 +162,7 @@ class JwtUtilsTest {
         @Test
         @DisplayName("Should throw exception for short secret key")
         void shouldThrowExceptionForShortSecretKey() {
-            assertThatThrownBy(() -> new JwtUtils("shortkey"))
+            assertThatThrownBy(() -> new JwtUtils("shortkey", VERIFIED_CACHE_SIZE))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("256 bits");
         }
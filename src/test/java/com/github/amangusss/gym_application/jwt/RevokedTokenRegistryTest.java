@@ -0,0 +1,54 @@
+package com.github.amangusss.gym_application.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RevokedTokenRegistry Tests")
+class RevokedTokenRegistryTest {
+
+    private static final String TOKEN_ID = "3f1c2a9e-7d41-4c55-9a0b-6e2f1d8c4b7a";
+    private static final long TICK_MILLIS = 1000;
+
+    private RevokedTokenRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new RevokedTokenRegistry(1000, 0.01, TICK_MILLIS, 16);
+    }
+
+    @Test
+    @DisplayName("Should report revoked token until it expires")
+    void shouldReportRevokedTokenUntilItExpires() {
+        registry.revoke(TOKEN_ID, System.currentTimeMillis() + 60_000);
+
+        assertThat(registry.isRevoked(TOKEN_ID)).isTrue();
+        assertThat(registry.isRevoked("7b0e4d12-5c3a-4f8e-b1d9-2a6c8e0f3d45")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should ignore revocation of already expired token")
+    void shouldIgnoreRevocationOfExpiredToken() {
+        registry.revoke(TOKEN_ID, System.currentTimeMillis() - 1);
+
+        assertThat(registry.isRevoked(TOKEN_ID)).isFalse();
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop revocation once the wheel passes its expiry")
+    void shouldDropRevocationAfterExpiry() {
+        long expiresAt = System.currentTimeMillis() + TICK_MILLIS;
+        registry.revoke(TOKEN_ID, expiresAt);
+
+        registry.advance(expiresAt - 1);
+        assertThat(registry.isRevoked(TOKEN_ID)).isTrue();
+
+        registry.advance(expiresAt + TICK_MILLIS);
+
+        assertThat(registry.size()).isZero();
+        assertThat(registry.isRevoked(TOKEN_ID)).isFalse();
+    }
+}
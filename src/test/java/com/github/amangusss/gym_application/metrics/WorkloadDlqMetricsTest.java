@@ -0,0 +1,55 @@
+package com.github.amangusss.gym_application.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WorkloadDlqMetrics Tests")
+class WorkloadDlqMetricsTest {
+
+    private MeterRegistry meterRegistry;
+    private WorkloadDlqMetrics workloadDlqMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        workloadDlqMetrics = new WorkloadDlqMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should increment redrive success counter")
+    void shouldIncrementRedriveSuccessCounter() {
+        workloadDlqMetrics.incrementRedriveRequested();
+
+        Counter counter = meterRegistry.find("workload.dlq.operations")
+                .tag("outcome", "success")
+                .tag("operation", "redrive")
+                .counter();
+        assertThat(counter).isNotNull();
+        assertThat(counter.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should increment failure counter tagged with the operation")
+    void shouldIncrementFailureCounterTaggedWithOperation() {
+        workloadDlqMetrics.incrementOperationFailed("redrive");
+        workloadDlqMetrics.incrementOperationFailed("redrive");
+
+        Counter counter = meterRegistry.find("workload.dlq.operations")
+                .tag("outcome", "failure")
+                .tag("operation", "redrive")
+                .counter();
+        assertThat(counter).isNotNull();
+        assertThat(counter.count()).isEqualTo(2);
+        assertThat(meterRegistry.find("workload.dlq.operations")
+                .tag("outcome", "failure")
+                .tag("operation", "list")
+                .counter()).isNull();
+    }
+}
@@ -0,0 +1,210 @@
+package com.github.amangusss.gym_application.repository;
+
+import com.github.amangusss.gym_application.entity.CustomUser;
+import com.github.amangusss.gym_application.entity.TrainingType;
+import com.github.amangusss.gym_application.entity.trainee.Trainee;
+import com.github.amangusss.gym_application.entity.trainer.Trainer;
+import com.github.amangusss.gym_application.entity.training.Training;
+import com.github.amangusss.gym_application.jms.listener.WorkloadDlqListener;
+import com.github.amangusss.gym_application.jms.service.WorkloadMessageProducer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+@DisplayName("Batch insert benchmark - pooled sequences and JDBC batching on H2")
+class BatchInsertBenchmarkTest {
+
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int ROWS = 500;
+    private static final Integer UNBATCHED = 1;
+    private static final Integer CONFIGURED_BATCH_SIZE = null;
+
+    @Autowired
+    private TraineeRepository traineeRepository;
+
+    @Autowired
+    private TrainingTypeRepository trainingTypeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private WorkloadMessageProducer workloadMessageProducer;
+
+    @MockitoBean
+    private WorkloadDlqListener workloadDlqListener;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("Should hand out unique ids when inserts span several sequence blocks and transactions")
+    void shouldAllocateUniqueIdsAcrossSequenceBlocks() {
+        int rowsPerTransaction = ALLOCATION_SIZE * 2 + 10;
+        List<Long> traineeIds = new ArrayList<>();
+        List<Long> userIds = new ArrayList<>();
+
+        try {
+            for (int round = 0; round < 2; round++) {
+                List<Trainee> trainees = trainees("Ids" + round, rowsPerTransaction);
+                transactionTemplate.executeWithoutResult(status -> traineeRepository.saveAll(trainees));
+                trainees.forEach(trainee -> {
+                    traineeIds.add(trainee.getId());
+                    userIds.add(trainee.getUser().getId());
+                });
+            }
+
+            assertThat(traineeIds).hasSize(rowsPerTransaction * 2).doesNotContainNull().doesNotHaveDuplicates();
+            assertThat(userIds).hasSize(rowsPerTransaction * 2).doesNotContainNull().doesNotHaveDuplicates();
+            assertThat(traineeRepository.findAllById(traineeIds)).hasSize(rowsPerTransaction * 2);
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> traineeRepository.deleteAllById(traineeIds));
+        }
+    }
+
+    @Test
+    @DisplayName("Should register trainees in far fewer statements with JDBC batching and pooled sequences")
+    void shouldBatchRegistrationInserts() {
+        Consumer<String> registration = prefix -> traineeRepository.saveAll(trainees(prefix, ROWS));
+        timeInsert(UNBATCHED, "WarmupUnbatched", registration);
+        timeInsert(CONFIGURED_BATCH_SIZE, "WarmupBatched", registration);
+
+        InsertRun unbatched = timeInsert(UNBATCHED, "Unbatched", registration);
+        InsertRun batched = timeInsert(CONFIGURED_BATCH_SIZE, "Batched", registration);
+
+        log.info("Registered {} trainees: unbatched {} ms, {} statements ({} rows/s), batched {} ms, {} statements ({} rows/s)",
+                ROWS, unbatched.millis(), unbatched.statements(), unbatched.rowsPerSecond(),
+                batched.millis(), batched.statements(), batched.rowsPerSecond());
+
+        assertThat(batched.statements()).isLessThan(unbatched.statements());
+        assertThat(batched.statements()).isLessThan(ROWS / 5);
+    }
+
+    @Test
+    @DisplayName("Should create trainings in far fewer statements with JDBC batching and pooled sequences")
+    void shouldBatchTrainingInserts() {
+        TrainingType yoga = trainingTypeRepository.findByTypeName("YOGA").orElseThrow();
+        Consumer<String> trainingCreation = prefix -> {
+            Trainee trainee = trainees(prefix + "Trainee", 1).get(0);
+            Trainer trainer = Trainer.builder()
+                    .user(user(prefix + "Trainer", 0))
+                    .specialization(yoga)
+                    .build();
+            entityManager.persist(trainee);
+            entityManager.persist(trainer);
+            for (int i = 0; i < ROWS; i++) {
+                entityManager.persist(Training.builder()
+                        .trainingName(prefix + " session " + i)
+                        .trainingType(yoga)
+                        .trainingDate(LocalDate.of(2025, 1, 1).plusDays(i % 365))
+                        .trainingDuration(60.0)
+                        .trainer(trainer)
+                        .trainee(trainee)
+                        .build());
+            }
+        };
+        timeInsert(UNBATCHED, "WarmupUnbatched", trainingCreation);
+        timeInsert(CONFIGURED_BATCH_SIZE, "WarmupBatched", trainingCreation);
+
+        InsertRun unbatched = timeInsert(UNBATCHED, "Unbatched", trainingCreation);
+        InsertRun batched = timeInsert(CONFIGURED_BATCH_SIZE, "Batched", trainingCreation);
+
+        log.info("Created {} trainings: unbatched {} ms, {} statements ({} rows/s), batched {} ms, {} statements ({} rows/s)",
+                ROWS, unbatched.millis(), unbatched.statements(), unbatched.rowsPerSecond(),
+                batched.millis(), batched.statements(), batched.rowsPerSecond());
+
+        assertThat(batched.statements()).isLessThan(unbatched.statements());
+        assertThat(batched.statements()).isLessThan(ROWS / 5);
+    }
+
+    private InsertRun timeInsert(Integer jdbcBatchSize, String prefix, Consumer<String> insert) {
+        statistics.clear();
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            insert.accept(prefix);
+            entityManager.flush();
+            status.setRollbackOnly();
+        });
+        return new InsertRun(System.nanoTime() - start, statistics.getPrepareStatementCount());
+    }
+
+    private List<Trainee> trainees(String prefix, int count) {
+        List<Trainee> trainees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            trainees.add(Trainee.builder()
+                    .user(user(prefix, i))
+                    .dateOfBirth(LocalDate.of(2000, 1, 1))
+                    .address("Benchmark st, " + i)
+                    .build());
+        }
+        return trainees;
+    }
+
+    private static CustomUser user(String prefix, int index) {
+        return CustomUser.builder()
+                .firstName(prefix)
+                .lastName("Bench" + index)
+                .username(prefix + ".Bench" + index)
+                .password("hashed")
+                .isActive(true)
+                .build();
+    }
+
+    private record InsertRun(long nanos, long statements) {
+
+        long millis() {
+            return nanos / 1_000_000;
+        }
+
+        long rowsPerSecond() {
+            return nanos == 0 ? 0 : ROWS * 1_000_000_000L / nanos;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.amangusss.gym_application.repository;
+
+import com.github.amangusss.gym_application.entity.CustomUser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("UserRepository PostgreSQL Tests - username suffix lookup")
+class UserRepositoryPostgresTest {
+
+    @Container
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine")
+            .withInitScript("db/extensions.sql");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.sql.init.mode", () -> "always");
+        registry.add("spring.sql.init.schema-locations", () -> "classpath:schema.sql");
+        registry.add("spring.sql.init.data-locations", () -> "classpath:data.sql");
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("Should return null when neither the base name nor a suffixed name exists")
+    void shouldReturnNullWhenNameIsFree() {
+        save("Free.Name0");
+
+        assertThat(findMaxSuffix("Free.Name")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should count a base name without a suffix as zero")
+    void shouldCountBaseNameAsZero() {
+        save("John.Smith");
+
+        assertThat(findMaxSuffix("John.Smith")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return the highest suffix even when suffixes have gaps")
+    void shouldReturnHighestSuffixAcrossGaps() {
+        save("Jane.Doe");
+        save("Jane.Doe2");
+        save("Jane.Doe7");
+        save("Jane.Doe10");
+
+        assertThat(findMaxSuffix("Jane.Doe")).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should ignore names whose ending after the base is not purely numeric")
+    void shouldIgnoreNonNumericEndings() {
+        save("Mark.Lee3");
+        save("Mark.Leex");
+        save("Mark.Lee4a");
+        save("Mark.Leeson12");
+        save("Mark.Lee1234567890");
+
+        assertThat(findMaxSuffix("Mark.Lee")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should treat underscore and percent in the base name literally")
+    void shouldTreatLikeWildcardsLiterally() {
+        save("Ann_Lee2");
+        save("AnnXLee5");
+        save("Bo%Ray1");
+        save("BoXYZRay9");
+
+        assertThat(findMaxSuffix("Ann_Lee")).isEqualTo(2);
+        assertThat(findMaxSuffix("Bo%Ray")).isEqualTo(1);
+        assertThat(findMaxSuffix("Ann.Lee")).isNull();
+    }
+
+    private Integer findMaxSuffix(String baseUsername) {
+        String prefix = baseUsername.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return userRepository.findMaxUsernameSuffix(baseUsername, prefix);
+    }
+
+    private void save(String username) {
+        userRepository.saveAndFlush(CustomUser.builder()
+                .firstName("First")
+                .lastName("Last")
+                .username(username)
+                .password("hashed")
+                .isActive(true)
+                .build());
+    }
+}
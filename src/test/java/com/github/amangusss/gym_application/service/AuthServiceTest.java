@@ -2,6 +2,7 @@ package com.github.amangusss.gym_application.service;
 
 import com.github.amangusss.gym_application.dto.auth.AuthDTO;
 import com.github.amangusss.gym_application.entity.CustomUser;
+import com.github.amangusss.gym_application.jwt.JwtClaims;
 import com.github.amangusss.gym_application.jwt.JwtUtils;
 import com.github.amangusss.gym_application.repository.UserRepository;
 import com.github.amangusss.gym_application.service.impl.AuthServiceImpl;
@@ -23,11 +24,13 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -50,13 +53,11 @@ class AuthServiceTest {
     private static final String OLD_PASSWORD = "oldPassword";
     private static final String NEW_PASSWORD = "newPassword";
     private static final String JWT_TOKEN = "jwt.token.here";
+    private static final String TOKEN_ID = "3f1c2a9e-7d41-4c55-9a0b-6e2f1d8c4b7a";
 
     @Mock
     private AuthenticationManager authenticationManager;
 
-    @Mock
-    private UserDetailsService userDetailsService;
-
     @Mock
     private JwtUtils jwtUtils;
 
@@ -69,6 +70,12 @@ class AuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -102,7 +109,9 @@ class AuthServiceTest {
         void shouldLoginSuccessfully() {
             AuthDTO.Request.Login request = new AuthDTO.Request.Login(USERNAME, PASSWORD);
             when(bruteForceProtectionService.isBlocked(USERNAME)).thenReturn(false);
-            when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(testUserDetails);
+            when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                    .thenReturn(UsernamePasswordAuthenticationToken.authenticated(
+                            testUserDetails, null, testUserDetails.getAuthorities()));
             when(jwtUtils.generateToken(testUserDetails)).thenReturn(JWT_TOKEN);
             doNothing().when(bruteForceProtectionService).registerSuccessfulLogin(USERNAME);
 
@@ -163,6 +172,7 @@ class AuthServiceTest {
 
             verify(userRepository).save(testUser);
             verify(passwordEncoder).encode(NEW_PASSWORD);
+            verify(userCache).removeUserFromCache(USERNAME);
         }
 
         @Test
@@ -198,7 +208,24 @@ class AuthServiceTest {
         @Test
         @DisplayName("Should logout successfully")
         void shouldLogoutSuccessfully() {
-            authService.logout(USERNAME);
+            Instant expiration = Instant.now().plusSeconds(3600);
+            when(jwtUtils.parseToken(JWT_TOKEN)).thenReturn(new JwtClaims(
+                    TOKEN_ID, USERNAME, true, List.of(), Instant.now(), expiration));
+
+            authService.logout(USERNAME, JWT_TOKEN);
+
+            verify(tokenRevocationService).revoke(TOKEN_ID, expiration);
+        }
+
+        @Test
+        @DisplayName("Should skip revocation for token without id")
+        void shouldSkipRevocationForTokenWithoutId() {
+            when(jwtUtils.parseToken(JWT_TOKEN)).thenReturn(new JwtClaims(
+                    null, USERNAME, true, List.of(), Instant.now(), Instant.now().plusSeconds(3600)));
+
+            authService.logout(USERNAME, JWT_TOKEN);
+
+            verify(tokenRevocationService, never()).revoke(any(), any());
         }
     }
 }
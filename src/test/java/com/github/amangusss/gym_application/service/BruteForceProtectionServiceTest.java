@@ -1,7 +1,9 @@
 package com.github.amangusss.gym_application.service;
 
 import com.github.amangusss.gym_application.cache.LoginAttemptCache;
-import com.github.amangusss.gym_application.config.CacheConfig;
+import com.github.amangusss.gym_application.cache.LoginAttemptPurger;
+import com.github.amangusss.gym_application.cache.LoginAttemptStore;
+import com.github.amangusss.gym_application.cache.LoginAttemptWriteBehind;
 import com.github.amangusss.gym_application.entity.auth.LoginAttempt;
 import com.github.amangusss.gym_application.repository.LoginAttemptRepository;
 import com.github.amangusss.gym_application.service.impl.BruteForceProtectionServiceImpl;
@@ -10,20 +12,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -37,20 +35,23 @@ class BruteForceProtectionServiceTest {
     private LoginAttemptRepository loginAttemptRepository;
 
     @Mock
-    private CacheManager cacheManager;
+    private LoginAttemptWriteBehind loginAttemptWriteBehind;
 
-    @InjectMocks
+    @Mock
+    private LoginAttemptPurger loginAttemptPurger;
+
+    private LoginAttemptStore loginAttemptStore;
     private BruteForceProtectionServiceImpl bruteForceProtectionService;
 
-    private Cache testCache;
     private static final String TEST_USERNAME = "testuser";
     private static final int MAX_ATTEMPTS = 5;
     private static final long LOCKOUT_DURATION = 300000;
 
     @BeforeEach
     void setUp() {
-        testCache = new ConcurrentMapCache(CacheConfig.LOGIN_ATTEMPTS_CACHE);
-        when(cacheManager.getCache(CacheConfig.LOGIN_ATTEMPTS_CACHE)).thenReturn(testCache);
+        loginAttemptStore = new LoginAttemptStore(1000, 900000);
+        bruteForceProtectionService = new BruteForceProtectionServiceImpl(
+                loginAttemptRepository, loginAttemptStore, loginAttemptWriteBehind, loginAttemptPurger);
 
         ReflectionTestUtils.setField(bruteForceProtectionService, "maxLoginAttempts", MAX_ATTEMPTS);
         ReflectionTestUtils.setField(bruteForceProtectionService, "lockoutDurationMillis", LOCKOUT_DURATION);
@@ -69,8 +70,6 @@ class BruteForceProtectionServiceTest {
     @Test
     @DisplayName("Should decrement remaining attempts after failed login")
     void shouldDecrementAttemptsAfterFailedLogin() {
-        when(loginAttemptRepository.findByUsername(TEST_USERNAME)).thenReturn(Optional.empty());
-
         bruteForceProtectionService.registerFailedLogin(TEST_USERNAME);
         int remainingAfterFirst = bruteForceProtectionService.getRemainingAttempts(TEST_USERNAME);
 
@@ -85,8 +84,6 @@ class BruteForceProtectionServiceTest {
     @Test
     @DisplayName("Should block user after max failed attempts")
     void shouldBlockUserAfterMaxAttempts() {
-        when(loginAttemptRepository.findByUsername(TEST_USERNAME)).thenReturn(Optional.empty());
-
         for (int i = 0; i < MAX_ATTEMPTS; i++) {
             bruteForceProtectionService.registerFailedLogin(TEST_USERNAME);
         }
@@ -98,8 +95,6 @@ class BruteForceProtectionServiceTest {
     @Test
     @DisplayName("Should not block user before reaching max attempts")
     void shouldNotBlockUserBeforeMaxAttempts() {
-        when(loginAttemptRepository.findByUsername(TEST_USERNAME)).thenReturn(Optional.empty());
-
         for (int i = 0; i < MAX_ATTEMPTS - 1; i++) {
             bruteForceProtectionService.registerFailedLogin(TEST_USERNAME);
         }
@@ -111,8 +106,6 @@ class BruteForceProtectionServiceTest {
     @Test
     @DisplayName("Should clear attempts after successful login")
     void shouldClearAttemptsAfterSuccessfulLogin() {
-        when(loginAttemptRepository.findByUsername(TEST_USERNAME)).thenReturn(Optional.empty());
-
         bruteForceProtectionService.registerFailedLogin(TEST_USERNAME);
         bruteForceProtectionService.registerFailedLogin(TEST_USERNAME);
 
@@ -122,43 +115,49 @@ class BruteForceProtectionServiceTest {
 
         assertThat(bruteForceProtectionService.getRemainingAttempts(TEST_USERNAME)).isEqualTo(MAX_ATTEMPTS);
         assertThat(bruteForceProtectionService.isBlocked(TEST_USERNAME)).isFalse();
+        assertThat(loginAttemptStore.get(TEST_USERNAME)).isNull();
+        verify(loginAttemptWriteBehind, times(1)).enqueueDelete(TEST_USERNAME);
     }
 
     @Test
-    @DisplayName("Should unblock user after lockout period expires")
+    @DisplayName("Should skip database delete on successful login without recorded attempts")
+    void shouldSkipDatabaseDeleteWhenNoAttemptsRecorded() {
+        bruteForceProtectionService.registerSuccessfulLogin(TEST_USERNAME);
+
+        verify(loginAttemptWriteBehind, never()).enqueueDelete(any());
+    }
+
+    @Test
+    @DisplayName("Should unblock user after lockout period expires without touching the database")
     void shouldUnblockUserAfterLockoutExpires() {
-        LocalDateTime now = LocalDateTime.now();
-        LoginAttemptCache expiredEntry = LoginAttemptCache.builder()
+        long now = System.currentTimeMillis();
+        loginAttemptStore.put(LoginAttemptCache.builder()
                 .username(TEST_USERNAME)
                 .attemptCount(MAX_ATTEMPTS)
-                .firstAttemptTime(now.minusMinutes(10))
-                .lastAttemptTime(now.minusMinutes(10))
-                .lockedUntil(now.minusMinutes(1))
-                .build();
-
-        testCache.put(TEST_USERNAME, expiredEntry);
+                .firstAttemptMillis(now - 600_000)
+                .lastAttemptMillis(now - 600_000)
+                .lockedUntilMillis(now - 60_000)
+                .build());
 
         boolean isBlocked = bruteForceProtectionService.isBlocked(TEST_USERNAME);
         int remainingAttempts = bruteForceProtectionService.getRemainingAttempts(TEST_USERNAME);
 
         assertThat(isBlocked).isFalse();
         assertThat(remainingAttempts).isEqualTo(MAX_ATTEMPTS);
+        verify(loginAttemptWriteBehind, never()).enqueueDelete(any());
     }
 
     @Test
     @DisplayName("Should reset counter after lockout expires and new attempt is made")
     void shouldResetCounterAfterLockoutExpires() {
-        LocalDateTime now = LocalDateTime.now();
-        LoginAttemptCache expiredEntry = LoginAttemptCache.builder()
+        long now = System.currentTimeMillis();
+        loginAttemptStore.put(LoginAttemptCache.builder()
                 .username(TEST_USERNAME)
                 .attemptCount(MAX_ATTEMPTS)
-                .firstAttemptTime(now.minusMinutes(10))
-                .lastAttemptTime(now.minusMinutes(10))
-                .lockedUntil(now.minusMinutes(1))
-                .build();
-
-        testCache.put(TEST_USERNAME, expiredEntry);
-        when(loginAttemptRepository.findByUsername(TEST_USERNAME)).thenReturn(Optional.empty());
+                .firstAttemptMillis(now - 600_000)
+                .lastAttemptMillis(now - 600_000)
+                .lockedUntilMillis(now - 60_000)
+                .build());
 
         bruteForceProtectionService.registerFailedLogin(TEST_USERNAME);
         int remainingAttempts = bruteForceProtectionService.getRemainingAttempts(TEST_USERNAME);
@@ -170,24 +169,19 @@ class BruteForceProtectionServiceTest {
     @Test
     @DisplayName("Should track first attempt time correctly")
     void shouldTrackFirstAttemptTime() {
-        when(loginAttemptRepository.findByUsername(TEST_USERNAME)).thenReturn(Optional.empty());
-        LocalDateTime beforeFirstAttempt = LocalDateTime.now();
+        long beforeFirstAttempt = System.currentTimeMillis();
 
         bruteForceProtectionService.registerFailedLogin(TEST_USERNAME);
 
-        LoginAttemptCache cacheEntry = testCache.get(TEST_USERNAME, LoginAttemptCache.class);
+        LoginAttemptCache cacheEntry = loginAttemptStore.get(TEST_USERNAME);
 
         assertThat(cacheEntry).isNotNull();
-        assertThat(cacheEntry.getFirstAttemptTime()).isNotNull();
-        assertThat(cacheEntry.getFirstAttemptTime()).isAfterOrEqualTo(beforeFirstAttempt);
-        assertThat(cacheEntry.getFirstAttemptTime()).isBeforeOrEqualTo(LocalDateTime.now());
+        assertThat(cacheEntry.getFirstAttemptMillis()).isBetween(beforeFirstAttempt, System.currentTimeMillis());
     }
 
     @Test
     @DisplayName("Should calculate lockout time from first attempt, not current time")
     void shouldCalculateLockoutFromFirstAttempt() {
-        when(loginAttemptRepository.findByUsername(TEST_USERNAME)).thenReturn(Optional.empty());
-
         for (int i = 0; i < MAX_ATTEMPTS; i++) {
             bruteForceProtectionService.registerFailedLogin(TEST_USERNAME);
             try {
@@ -197,15 +191,11 @@ class BruteForceProtectionServiceTest {
             }
         }
 
-        LoginAttemptCache cacheEntry = testCache.get(TEST_USERNAME, LoginAttemptCache.class);
+        LoginAttemptCache cacheEntry = loginAttemptStore.get(TEST_USERNAME);
 
         assertThat(cacheEntry).isNotNull();
-        assertThat(cacheEntry.getLockedUntil()).isNotNull();
-
-        LocalDateTime expectedLockoutTime = cacheEntry.getFirstAttemptTime()
-                .plusSeconds(LOCKOUT_DURATION / 1000);
-
-        assertThat(cacheEntry.getLockedUntil()).isEqualToIgnoringNanos(expectedLockoutTime);
+        assertThat(cacheEntry.getLockedUntilMillis())
+                .isEqualTo(cacheEntry.getFirstAttemptMillis() + LOCKOUT_DURATION);
     }
 
     @Test
@@ -225,19 +215,26 @@ class BruteForceProtectionServiceTest {
 
         bruteForceProtectionService.initCache();
 
-        LoginAttemptCache cacheEntry = testCache.get(TEST_USERNAME, LoginAttemptCache.class);
+        LoginAttemptCache cacheEntry = loginAttemptStore.get(TEST_USERNAME);
         assertThat(cacheEntry).isNotNull();
         assertThat(cacheEntry.getAttemptCount()).isEqualTo(3);
-        assertThat(cacheEntry.getLockedUntil()).isEqualTo(now.plusMinutes(3));
+        assertThat(bruteForceProtectionService.isBlocked(TEST_USERNAME)).isTrue();
     }
 
     @Test
-    @DisplayName("Should persist to database when saving attempt")
-    void shouldPersistToDatabase() {
-        when(loginAttemptRepository.findByUsername(TEST_USERNAME)).thenReturn(Optional.empty());
-
+    @DisplayName("Should queue database write instead of writing inline when saving attempt")
+    void shouldQueueDatabaseWrite() {
         bruteForceProtectionService.registerFailedLogin(TEST_USERNAME);
 
-        verify(loginAttemptRepository, times(1)).save(any(LoginAttempt.class));
+        verify(loginAttemptWriteBehind, times(1)).enqueueSave(any(LoginAttemptCache.class));
+        verify(loginAttemptRepository, never()).save(any(LoginAttempt.class));
+    }
+
+    @Test
+    @DisplayName("Should delegate scheduled cleanup to the chunked purger")
+    void shouldDelegateCleanupToPurger() {
+        bruteForceProtectionService.cleanupOldAttempts();
+
+        verify(loginAttemptPurger, times(1)).purgeOlderThan(any(LocalDateTime.class));
     }
 }
@@ -9,14 +9,16 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -33,13 +35,16 @@ class CustomUserDetailsServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
+    @Mock
+    private UserCache userCache;
+
     private CustomUserDetailsService customUserDetailsService;
 
     private CustomUser testUser;
 
     @BeforeEach
     void setUp() {
+        customUserDetailsService = new CustomUserDetailsService(userRepository, userCache, "ROLE_ADMIN", Set.of("Admin.User"));
         testUser = CustomUser.builder()
                 .id(1L)
                 .username(USERNAME)
@@ -61,10 +66,23 @@ class CustomUserDetailsServiceTest {
         assertThat(userDetails.getUsername()).isEqualTo(USERNAME);
         assertThat(userDetails.getPassword()).isEqualTo(PASSWORD);
         assertThat(userDetails.isEnabled()).isTrue();
+        assertThat(userDetails.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
 
         verify(userRepository).findByUsername(USERNAME);
     }
 
+    @Test
+    @DisplayName("Should grant the admin authority to configured admin usernames")
+    void shouldGrantAdminAuthorityToConfiguredAdmins() {
+        testUser.setUsername("Admin.User");
+        when(userRepository.findByUsername("Admin.User")).thenReturn(Optional.of(testUser));
+
+        UserDetails userDetails = customUserDetailsService.loadUserByUsername("Admin.User");
+
+        assertThat(userDetails.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER", "ROLE_ADMIN");
+    }
+
     @Test
     @DisplayName("Should load user by username when user is inactive")
     void shouldLoadUserByUsernameWhenInactive() {
@@ -91,4 +109,18 @@ class CustomUserDetailsServiceTest {
 
         verify(userRepository).findByUsername("unknown.user");
     }
+
+    @Test
+    @DisplayName("Should store upgraded password hash for user")
+    void shouldStoreUpgradedPasswordHash() {
+        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(testUser));
+        UserDetails current = customUserDetailsService.loadUserByUsername(USERNAME);
+
+        UserDetails updated = customUserDetailsService.updatePassword(current, "upgradedHash");
+
+        assertThat(updated.getPassword()).isEqualTo("upgradedHash");
+        assertThat(testUser.getPassword()).isEqualTo("upgradedHash");
+        verify(userRepository).save(testUser);
+        verify(userCache).removeUserFromCache(USERNAME);
+    }
 }
@@ -0,0 +1,154 @@
+package com.github.amangusss.gym_application.service;
+
+import com.github.amangusss.gym_application.dto.auth.AuthDTO;
+import com.github.amangusss.gym_application.entity.CustomUser;
+import com.github.amangusss.gym_application.jms.listener.WorkloadDlqListener;
+import com.github.amangusss.gym_application.jms.service.WorkloadMessageProducer;
+import com.github.amangusss.gym_application.jwt.JwtUtils;
+import com.github.amangusss.gym_application.repository.LoginAttemptRepository;
+import com.github.amangusss.gym_application.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "security.bcrypt.strength=4")
+@ActiveProfiles("test")
+@DisplayName("Login benchmark - single-pass login vs loading the user twice")
+class LoginBenchmarkTest {
+
+    private static final String USERNAME = "Login.Benchmark";
+    private static final String PASSWORD = "benchmark-password";
+    private static final int WARMUP_LOGINS = 50;
+    private static final int MEASURED_LOGINS = 300;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LoginAttemptRepository loginAttemptRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private WorkloadMessageProducer workloadMessageProducer;
+
+    @MockitoBean
+    private WorkloadDlqListener workloadDlqListener;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        userRepository.save(CustomUser.builder()
+                .firstName("Login")
+                .lastName("Benchmark")
+                .username(USERNAME)
+                .password(passwordEncoder.encode(PASSWORD))
+                .isActive(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        userRepository.findByUsername(USERNAME).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    @DisplayName("Should log in with fewer statements than loading the user twice and deleting attempts")
+    void shouldCompareSinglePassAndDoubleLoadLogin() {
+        AuthDTO.Request.Login request = new AuthDTO.Request.Login(USERNAME, PASSWORD);
+
+        run(WARMUP_LOGINS, () -> doubleLoadLogin(request));
+        run(WARMUP_LOGINS, () -> authService.login(request));
+
+        LoginRun doubleLoad = run(MEASURED_LOGINS, () -> doubleLoadLogin(request));
+        LoginRun singlePass = run(MEASURED_LOGINS, () -> authService.login(request));
+
+        log.info("Logged in {} times: double load {} ms, {} statements ({} logins/s), single pass {} ms, {} statements ({} logins/s)",
+                MEASURED_LOGINS,
+                doubleLoad.millis(), doubleLoad.statements(), doubleLoad.loginsPerSecond(),
+                singlePass.millis(), singlePass.statements(), singlePass.loginsPerSecond());
+
+        assertThat(singlePass.statements()).isLessThan(doubleLoad.statements());
+        assertThat(singlePass.statements()).isLessThanOrEqualTo(MEASURED_LOGINS);
+    }
+
+    private void doubleLoadLogin(AuthDTO.Request.Login request) {
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(request.username(), request.password()));
+        UserDetails userDetails = userDetailsService.loadUserByUsername(request.username());
+        jwtUtils.generateToken(userDetails);
+        transactionTemplate.executeWithoutResult(status ->
+                loginAttemptRepository.deleteAllByUsernameIn(List.of(request.username())));
+    }
+
+    private LoginRun run(int logins, Runnable login) {
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < logins; i++) {
+            login.run();
+        }
+        return new LoginRun(System.nanoTime() - start, statistics.getPrepareStatementCount());
+    }
+
+    private record LoginRun(long nanos, long statements) {
+
+        long millis() {
+            return nanos / 1_000_000;
+        }
+
+        long loginsPerSecond() {
+            return nanos == 0 ? 0 : MEASURED_LOGINS * 1_000_000_000L / nanos;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.amangusss.gym_application.service;
+
+import com.github.amangusss.gym_application.entity.auth.RevokedToken;
+import com.github.amangusss.gym_application.jwt.RevokedTokenRegistry;
+import com.github.amangusss.gym_application.repository.RevokedTokenRepository;
+import com.github.amangusss.gym_application.service.impl.TokenRevocationServiceImpl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationService Tests")
+class TokenRevocationServiceTest {
+
+    private static final String TOKEN_ID = "3f1c2a9e-7d41-4c55-9a0b-6e2f1d8c4b7a";
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationServiceImpl tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        RevokedTokenRegistry registry = new RevokedTokenRegistry(1000, 0.01, 60_000, 16);
+        tokenRevocationService = new TokenRevocationServiceImpl(revokedTokenRepository, registry, 10_000);
+    }
+
+    @Test
+    @DisplayName("Should persist and report revoked token")
+    void shouldPersistAndReportRevokedToken() {
+        when(revokedTokenRepository.existsByTokenId(TOKEN_ID)).thenReturn(false);
+
+        tokenRevocationService.revoke(TOKEN_ID, Instant.now().plusSeconds(3600));
+
+        assertThat(tokenRevocationService.isRevoked(TOKEN_ID)).isTrue();
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+    }
+
+    @Test
+    @DisplayName("Should not persist revocation of expired token")
+    void shouldNotPersistRevocationOfExpiredToken() {
+        tokenRevocationService.revoke(TOKEN_ID, Instant.now().minusSeconds(1));
+
+        assertThat(tokenRevocationService.isRevoked(TOKEN_ID)).isFalse();
+        verify(revokedTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should restore active revocations from database")
+    void shouldRestoreActiveRevocationsFromDatabase() {
+        when(revokedTokenRepository.findAllByExpiresAtAfter(any())).thenReturn(List.of(RevokedToken.builder()
+                .tokenId(TOKEN_ID)
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .revokedAt(LocalDateTime.now())
+                .build()));
+
+        tokenRevocationService.loadRevocations();
+
+        assertThat(tokenRevocationService.isRevoked(TOKEN_ID)).isTrue();
+        assertThat(tokenRevocationService.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should pick up revocations recorded by other nodes on sync")
+    void shouldSyncRevocationsRecordedByOtherNodes() {
+        when(revokedTokenRepository.findAllByExpiresAtAfter(any())).thenReturn(List.of());
+        tokenRevocationService.loadRevocations();
+        when(revokedTokenRepository.findAllByRevokedAtAfterAndExpiresAtAfter(any(), any())).thenReturn(List.of(RevokedToken.builder()
+                .tokenId(TOKEN_ID)
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .revokedAt(LocalDateTime.now())
+                .build()));
+
+        assertThat(tokenRevocationService.isRevoked(TOKEN_ID)).isFalse();
+        tokenRevocationService.syncRevocations();
+
+        assertThat(tokenRevocationService.isRevoked(TOKEN_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should only query revocations newer than the last sync minus the overlap")
+    void shouldQueryRevocationsSinceLastSync() {
+        when(revokedTokenRepository.findAllByExpiresAtAfter(any())).thenReturn(List.of());
+        LocalDateTime beforeLoad = LocalDateTime.now();
+        tokenRevocationService.loadRevocations();
+        when(revokedTokenRepository.findAllByRevokedAtAfterAndExpiresAtAfter(any(), any())).thenReturn(List.of());
+
+        tokenRevocationService.syncRevocations();
+        tokenRevocationService.syncRevocations();
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(revokedTokenRepository, times(2)).findAllByRevokedAtAfterAndExpiresAtAfter(since.capture(), any());
+        assertThat(since.getAllValues().get(0)).isAfterOrEqualTo(beforeLoad.minusSeconds(10));
+        assertThat(since.getAllValues().get(1)).isAfterOrEqualTo(since.getAllValues().get(0));
+        verify(revokedTokenRepository, times(1)).findAllByExpiresAtAfter(any());
+    }
+
+    @Test
+    @DisplayName("Should purge expired revocations with one bulk delete")
+    void shouldPurgeExpiredRevocationsInBulk() {
+        LocalDateTime beforeCleanup = LocalDateTime.now();
+        when(revokedTokenRepository.deleteAllExpiredBefore(any())).thenReturn(42);
+
+        tokenRevocationService.cleanupExpiredRevocations();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(revokedTokenRepository).deleteAllExpiredBefore(cutoff.capture());
+        assertThat(cutoff.getValue()).isAfterOrEqualTo(beforeCleanup);
+        verify(revokedTokenRepository, never()).findAllByExpiresAtAfter(any());
+    }
+}
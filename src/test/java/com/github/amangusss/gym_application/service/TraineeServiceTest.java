@@ -1,18 +1,29 @@
 package com.github.amangusss.gym_application.service;
 
 import com.github.amangusss.gym_application.dto.trainee.TraineeDTO;
+import com.github.amangusss.gym_application.dto.trainer.TrainerDTO;
+import com.github.amangusss.gym_application.dto.training.TrainingDTO;
 import com.github.amangusss.gym_application.entity.CustomUser;
+import com.github.amangusss.gym_application.entity.TrainingType;
 import com.github.amangusss.gym_application.entity.trainee.Trainee;
+import com.github.amangusss.gym_application.entity.trainer.Trainer;
+import com.github.amangusss.gym_application.entity.training.Training;
+import com.github.amangusss.gym_application.exception.TraineeNotFoundException;
+import com.github.amangusss.gym_application.exception.TrainerNotFoundException;
+import com.github.amangusss.gym_application.exception.ValidationException;
 import com.github.amangusss.gym_application.mapper.TraineeMapper;
 import com.github.amangusss.gym_application.mapper.TrainerMapper;
 import com.github.amangusss.gym_application.mapper.TrainingMapper;
 import com.github.amangusss.gym_application.repository.TraineeRepository;
 import com.github.amangusss.gym_application.repository.TrainerRepository;
+import com.github.amangusss.gym_application.repository.TrainingRepository;
 import com.github.amangusss.gym_application.repository.TrainingTypeRepository;
-import com.github.amangusss.gym_application.repository.UserRepository;
 import com.github.amangusss.gym_application.service.impl.TraineeServiceImpl;
-import com.github.amangusss.gym_application.util.credentials.PasswordGenerator;
+import com.github.amangusss.gym_application.util.batch.BatchRowPersister;
+import com.github.amangusss.gym_application.util.credentials.BatchCredentialsGenerator;
+import com.github.amangusss.gym_application.util.credentials.CredentialPool;
 import com.github.amangusss.gym_application.util.credentials.UsernameGenerator;
+import com.github.amangusss.gym_application.util.paging.PageableFactory;
 import com.github.amangusss.gym_application.validation.entity.EntityValidator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,18 +33,33 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -59,6 +85,11 @@ class TraineeServiceTest {
     private static final String NEW_ADDRESS = "New Address";
     private static final LocalDate DATE_OF_BIRTH = LocalDate.of(2004, 8, 14);
     private static final boolean IS_ACTIVE = true;
+    private static final LocalDate PERIOD_FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate PERIOD_TO = LocalDate.of(2025, 12, 31);
+    private static final String TRAINER_NAME = "Aman";
+    private static final String TRAINING_TYPE_NAME = "YOGA";
+    private static final Long TRAINING_TYPE_ID = 2L;
 
     @Mock
     private TraineeRepository traineeRepository;
@@ -67,17 +98,14 @@ class TraineeServiceTest {
     private TrainerRepository trainerRepository;
 
     @Mock
-    private TrainingTypeRepository trainingTypeRepository;
+    private TrainingRepository trainingRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private TrainingTypeRepository trainingTypeRepository;
 
     @Mock
     private UsernameGenerator usernameGenerator;
 
-    @Mock
-    private PasswordGenerator passwordGenerator;
-
     @Mock
     private EntityValidator entityValidator;
 
@@ -93,6 +121,21 @@ class TraineeServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PageableFactory pageableFactory;
+
+    @Mock
+    private BatchCredentialsGenerator batchCredentialsGenerator;
+
+    @Spy
+    private BatchRowPersister batchRowPersister = new BatchRowPersister(mock(PlatformTransactionManager.class));
+
+    @Mock
+    private CredentialPool credentialPool;
+
+    @Mock
+    private UserCache userCache;
+
     @InjectMocks
     private TraineeServiceImpl traineeService;
 
@@ -102,9 +145,10 @@ class TraineeServiceTest {
 
     @BeforeEach
     void setUp() {
-        reset(traineeRepository, trainerRepository, trainingTypeRepository, userRepository,
-                usernameGenerator, passwordGenerator, entityValidator,
-                traineeMapper, trainerMapper, trainingMapper, passwordEncoder);
+        reset(traineeRepository, trainerRepository, trainingRepository, trainingTypeRepository,
+                usernameGenerator, entityValidator,
+                traineeMapper, trainerMapper, trainingMapper, passwordEncoder, pageableFactory,
+                batchCredentialsGenerator, credentialPool, userCache);
 
         when(passwordEncoder.encode(VALID_PASSWORD))
                 .thenReturn(ENCODED_VALID_PASSWORD);
@@ -144,12 +188,10 @@ class TraineeServiceTest {
     @DisplayName("Should create trainee with generated credentials when creating trainee")
     void shouldCreateTraineeWithGeneratedCredentialsWhenCreatingTrainee() {
         when(traineeMapper.toEntity(registerRequest)).thenReturn(testTrainee);
-        when(usernameGenerator.generateUsername(
-                        eq(FIRST_NAME),
-                        eq(LAST_NAME),
-                        any()))
+        when(usernameGenerator.generateUsername(FIRST_NAME, LAST_NAME))
                 .thenReturn(USERNAME);
-        when(passwordGenerator.generatePassword()).thenReturn(VALID_PASSWORD);
+        when(credentialPool.take())
+                .thenReturn(new CredentialPool.PooledCredential(VALID_PASSWORD, ENCODED_VALID_PASSWORD));
         doNothing().when(entityValidator).validateTraineeForCreation(any());
         when(traineeRepository.save(any(Trainee.class))).thenReturn(testTrainee);
         when(traineeMapper.toRegisteredResponse(any(Trainee.class), eq(VALID_PASSWORD)))
@@ -236,6 +278,7 @@ class TraineeServiceTest {
         traineeService.updateTraineeStatus(USERNAME, true);
 
         verify(traineeRepository, times(1)).save(any(Trainee.class));
+        verify(userCache, times(1)).removeUserFromCache(USERNAME);
     }
 
     @Test
@@ -257,4 +300,196 @@ class TraineeServiceTest {
         verify(traineeRepository, times(1)).save(any(Trainee.class));
         verify(passwordEncoder, times(1)).encode(NEW_PASSWORD);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should delegate trainee trainings filtering and paging to the repository")
+    void shouldDelegateTraineeTrainingsFilteringAndPagingToRepository() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Training training = Training.builder().trainingName("Morning Yoga").build();
+        TrainingDTO.Response.TraineeTraining trainingResponse = new TrainingDTO.Response.TraineeTraining(
+                "Morning Yoga", PERIOD_FROM, TRAINING_TYPE_NAME, 60.0, "Aman Nazarkulov");
+
+        when(pageableFactory.create(0, 10)).thenReturn(pageable);
+        when(trainingTypeRepository.findByTypeName(TRAINING_TYPE_NAME))
+                .thenReturn(Optional.of(TrainingType.builder().id(TRAINING_TYPE_ID).typeName(TRAINING_TYPE_NAME).build()));
+        when(traineeRepository.findByUserUsername(USERNAME)).thenReturn(Optional.of(testTrainee));
+        when(trainingRepository.findTraineeTrainings(
+                TRAINEE_ID, PERIOD_FROM, PERIOD_TO, TRAINER_NAME, TRAINING_TYPE_ID, pageable))
+                .thenReturn(List.of(training));
+        when(trainingMapper.toTraineeTrainingResponse(training)).thenReturn(trainingResponse);
+
+        List<TrainingDTO.Response.TraineeTraining> result = traineeService.getTraineeTrainings(
+                USERNAME, PERIOD_FROM, PERIOD_TO, TRAINER_NAME, TRAINING_TYPE_NAME, 0, 10);
+
+        assertThat(result).containsExactly(trainingResponse);
+        verify(entityValidator, times(1)).validateDateRange(PERIOD_FROM, PERIOD_TO);
+    }
+
+    @Test
+    @DisplayName("Should skip empty trainer name filter when fetching trainee trainings")
+    void shouldSkipEmptyTrainerNameFilterWhenFetchingTraineeTrainings() {
+        when(pageableFactory.create(null, null)).thenReturn(Pageable.unpaged());
+        when(traineeRepository.findByUserUsername(USERNAME)).thenReturn(Optional.of(testTrainee));
+        when(trainingRepository.findTraineeTrainings(
+                eq(TRAINEE_ID), isNull(), isNull(), isNull(), isNull(), eq(Pageable.unpaged())))
+                .thenReturn(List.of());
+
+        List<TrainingDTO.Response.TraineeTraining> result = traineeService.getTraineeTrainings(
+                USERNAME, null, null, "", null, null, null);
+
+        assertThat(result).isEmpty();
+        verify(trainingTypeRepository, never()).findByTypeName(any());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when fetching trainings of unknown trainee")
+    void shouldThrowExceptionWhenFetchingTrainingsOfUnknownTrainee() {
+        when(traineeRepository.findByUserUsername(USERNAME)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> traineeService.getTraineeTrainings(
+                USERNAME, null, null, null, null, null, null))
+                .isInstanceOf(TraineeNotFoundException.class);
+
+        verify(trainingRepository, never()).findTraineeTrainings(
+                anyLong(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return active unassigned trainers from repository query")
+    void shouldReturnActiveUnassignedTrainersFromRepositoryQuery() {
+        Pageable pageable = PageRequest.of(0, 10);
+        TrainerDTO.Response.Unassigned unassigned = new TrainerDTO.Response.Unassigned(
+                "Aman.Nazarkulov", "Aman", "Nazarkulov", "Yoga");
+
+        when(pageableFactory.create(0, 10)).thenReturn(pageable);
+        when(traineeRepository.findByUserUsername(USERNAME)).thenReturn(Optional.of(testTrainee));
+        when(trainerRepository.findActiveUnassignedTrainers(TRAINEE_ID, pageable)).thenReturn(List.of(unassigned));
+
+        List<TrainerDTO.Response.Unassigned> result = traineeService.getUnassignedTrainers(USERNAME, 0, 10);
+
+        assertThat(result).containsExactly(unassigned);
+        verify(trainerRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should throw exception when fetching unassigned trainers of unknown trainee")
+    void shouldThrowExceptionWhenFetchingUnassignedTrainersOfUnknownTrainee() {
+        when(traineeRepository.findByUserUsername(USERNAME)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> traineeService.getUnassignedTrainers(USERNAME, null, null))
+                .isInstanceOf(TraineeNotFoundException.class);
+
+        verify(trainerRepository, never()).findActiveUnassignedTrainers(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should only add and remove changed trainers when updating trainee trainers")
+    void shouldOnlyAddAndRemoveChangedTrainersWhenUpdatingTraineeTrainers() {
+        Trainer kept = createTrainer(10L, "Kept.Trainer");
+        Trainer removed = createTrainer(11L, "Removed.Trainer");
+        Trainer added = createTrainer(12L, "Added.Trainer");
+        testTrainee.getTrainers().add(kept);
+        testTrainee.getTrainers().add(removed);
+
+        when(trainerRepository.findAllByUserUsernameIn(Set.of("Kept.Trainer", "Added.Trainer")))
+                .thenReturn(List.of(kept, added));
+        when(traineeRepository.findByUserUsername(USERNAME)).thenReturn(Optional.of(testTrainee));
+        when(traineeRepository.save(testTrainee)).thenReturn(testTrainee);
+
+        List<TrainerDTO.Response.InList> result = traineeService.updateTraineeTrainers(USERNAME,
+                new TraineeDTO.Request.UpdateTrainers(List.of("Kept.Trainer", "Added.Trainer")));
+
+        assertThat(result).hasSize(2);
+        assertThat(testTrainee.getTrainers()).containsExactlyInAnyOrder(kept, added);
+        verify(trainerRepository, never()).findByUserUsername(any());
+    }
+
+    @Test
+    @DisplayName("Should report all missing trainers when updating trainee trainers")
+    void shouldReportAllMissingTrainersWhenUpdatingTraineeTrainers() {
+        Trainer existing = createTrainer(10L, "Existing.Trainer");
+        when(trainerRepository.findAllByUserUsernameIn(Set.of("Existing.Trainer", "Missing.One", "Missing.Two")))
+                .thenReturn(List.of(existing));
+
+        assertThatThrownBy(() -> traineeService.updateTraineeTrainers(USERNAME,
+                new TraineeDTO.Request.UpdateTrainers(List.of("Missing.Two", "Existing.Trainer", "Missing.One"))))
+                .isInstanceOf(TrainerNotFoundException.class)
+                .hasMessage("Trainers not found: Missing.One, Missing.Two");
+
+        verify(traineeRepository, never()).save(any());
+    }
+
+    private Trainer createTrainer(Long id, String username) {
+        return Trainer.builder()
+                .id(id)
+                .user(CustomUser.builder().username(username).build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should register valid rows and report invalid rows when creating trainees in batch")
+    void shouldRegisterValidRowsAndReportInvalidRowsWhenCreatingTraineesInBatch() {
+        TraineeDTO.Request.Register invalidRequest = new TraineeDTO.Request.Register(FIRST_NAME, LAST_NAME, DATE_OF_BIRTH, null);
+        Trainee invalidTrainee = Trainee.builder().user(CustomUser.builder().build()).build();
+
+        when(traineeMapper.toEntity(registerRequest)).thenReturn(testTrainee);
+        when(traineeMapper.toEntity(invalidRequest)).thenReturn(invalidTrainee);
+        doThrow(new ValidationException("Address is required"))
+                .when(entityValidator).validateTraineeForCreation(invalidTrainee);
+        when(batchCredentialsGenerator.assignCredentials(List.of(testTrainee.getUser())))
+                .thenReturn(List.of(VALID_PASSWORD));
+        when(traineeRepository.saveAll(List.of(testTrainee))).thenReturn(List.of(testTrainee));
+
+        List<TraineeDTO.Response.BatchRegistered> result = traineeService.createTrainees(
+                List.of(invalidRequest, registerRequest));
+
+        assertThat(result).containsExactly(
+                new TraineeDTO.Response.BatchRegistered(0, null, null, "Address is required"),
+                new TraineeDTO.Response.BatchRegistered(1, USERNAME, VALID_PASSWORD, null));
+        assertThat(testTrainee.getUser().isActive()).isTrue();
+        verify(batchCredentialsGenerator, times(1)).validateBatchSize(2);
+    }
+
+    @Test
+    @DisplayName("Should report a row that fails to persist without failing the rest of the batch")
+    void shouldIsolateRowFailuresWhenCreatingTraineesInBatch() {
+        TraineeDTO.Request.Register secondRequest = new TraineeDTO.Request.Register("Jane", "Roe", DATE_OF_BIRTH, ADDRESS);
+        Trainee secondTrainee = Trainee.builder()
+                .id(TRAINEE_ID + 1)
+                .user(CustomUser.builder().id(USER_ID + 1).username("Jane.Roe").build())
+                .build();
+
+        when(traineeMapper.toEntity(registerRequest)).thenReturn(testTrainee);
+        when(traineeMapper.toEntity(secondRequest)).thenReturn(secondTrainee);
+        when(batchCredentialsGenerator.assignCredentials(List.of(testTrainee.getUser(), secondTrainee.getUser())))
+                .thenReturn(List.of(VALID_PASSWORD, NEW_PASSWORD));
+        when(traineeRepository.saveAll(List.of(testTrainee, secondTrainee)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(traineeRepository.save(testTrainee)).thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(traineeRepository.save(secondTrainee)).thenReturn(secondTrainee);
+
+        List<TraineeDTO.Response.BatchRegistered> result = traineeService.createTrainees(
+                List.of(registerRequest, secondRequest));
+
+        assertThat(result).containsExactly(
+                new TraineeDTO.Response.BatchRegistered(0, null, null, "Row conflicts with existing data, please retry"),
+                new TraineeDTO.Response.BatchRegistered(1, "Jane.Roe", NEW_PASSWORD, null));
+        assertThat(secondTrainee.getId()).isNull();
+        assertThat(secondTrainee.getUser().getId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not persist anything when every batch row is invalid")
+    void shouldNotPersistAnythingWhenEveryBatchRowIsInvalid() {
+        when(traineeMapper.toEntity(registerRequest)).thenReturn(testTrainee);
+        doThrow(new ValidationException("First name is required"))
+                .when(entityValidator).validateTraineeForCreation(testTrainee);
+
+        List<TraineeDTO.Response.BatchRegistered> result = traineeService.createTrainees(List.of(registerRequest));
+
+        assertThat(result).extracting(TraineeDTO.Response.BatchRegistered::error)
+                .containsExactly("First name is required");
+        verify(batchCredentialsGenerator, never()).assignCredentials(anyList());
+        verify(traineeRepository, never()).saveAll(anyList());
+    }
+}
@@ -1,17 +1,23 @@
 package com.github.amangusss.gym_application.service;
 
 import com.github.amangusss.gym_application.dto.trainer.TrainerDTO;
+import com.github.amangusss.gym_application.dto.training.TrainingDTO;
 import com.github.amangusss.gym_application.entity.TrainingType;
 import com.github.amangusss.gym_application.entity.CustomUser;
 import com.github.amangusss.gym_application.entity.trainer.Trainer;
+import com.github.amangusss.gym_application.entity.training.Training;
 import com.github.amangusss.gym_application.exception.TrainerNotFoundException;
+import com.github.amangusss.gym_application.exception.TrainingTypeNotFoundException;
 import com.github.amangusss.gym_application.mapper.TrainerMapper;
 import com.github.amangusss.gym_application.mapper.TrainingMapper;
 import com.github.amangusss.gym_application.repository.TrainerRepository;
-import com.github.amangusss.gym_application.repository.UserRepository;
+import com.github.amangusss.gym_application.repository.TrainingRepository;
 import com.github.amangusss.gym_application.service.impl.TrainerServiceImpl;
-import com.github.amangusss.gym_application.util.credentials.PasswordGenerator;
+import com.github.amangusss.gym_application.util.batch.BatchRowPersister;
+import com.github.amangusss.gym_application.util.credentials.BatchCredentialsGenerator;
+import com.github.amangusss.gym_application.util.credentials.CredentialPool;
 import com.github.amangusss.gym_application.util.credentials.UsernameGenerator;
+import com.github.amangusss.gym_application.util.paging.PageableFactory;
 import com.github.amangusss.gym_application.validation.entity.EntityValidator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,11 +27,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +46,8 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -62,14 +77,11 @@ class TrainerServiceTest {
     private TrainerRepository trainerRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private TrainingRepository trainingRepository;
 
     @Mock
     private UsernameGenerator usernameGenerator;
 
-    @Mock
-    private PasswordGenerator passwordGenerator;
-
     @Mock
     private EntityValidator entityValidator;
 
@@ -85,6 +97,21 @@ class TrainerServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PageableFactory pageableFactory;
+
+    @Mock
+    private BatchCredentialsGenerator batchCredentialsGenerator;
+
+    @Spy
+    private BatchRowPersister batchRowPersister = new BatchRowPersister(mock(PlatformTransactionManager.class));
+
+    @Mock
+    private CredentialPool credentialPool;
+
+    @Mock
+    private UserCache userCache;
+
     @InjectMocks
     private TrainerServiceImpl trainerService;
 
@@ -95,9 +122,10 @@ class TrainerServiceTest {
 
     @BeforeEach
     void setUp() {
-        reset(trainerRepository, userRepository, usernameGenerator,
-                passwordGenerator, entityValidator, trainerMapper,
-                trainingMapper, trainingTypeService, passwordEncoder);
+        reset(trainerRepository, trainingRepository, usernameGenerator,
+                entityValidator, trainerMapper,
+                trainingMapper, trainingTypeService, passwordEncoder, pageableFactory,
+                batchCredentialsGenerator, credentialPool, userCache);
 
         when(passwordEncoder.encode(VALID_PASSWORD))
                 .thenReturn(ENCODED_VALID_PASSWORD);
@@ -142,12 +170,10 @@ class TrainerServiceTest {
     void shouldRegisterTrainerWithGeneratedCredentialsWhenRegisteringTrainer() {
         when(trainingTypeService.findById(TRAINING_TYPE_ID)).thenReturn(testTrainingType);
         when(trainerMapper.toEntity(registerRequest, testTrainingType)).thenReturn(testTrainer);
-        when(usernameGenerator.generateUsername(
-                        eq(FIRST_NAME),
-                        eq(LAST_NAME),
-                        any()))
+        when(usernameGenerator.generateUsername(FIRST_NAME, LAST_NAME))
                 .thenReturn(USERNAME);
-        when(passwordGenerator.generatePassword()).thenReturn(VALID_PASSWORD);
+        when(credentialPool.take())
+                .thenReturn(new CredentialPool.PooledCredential(VALID_PASSWORD, ENCODED_VALID_PASSWORD));
         doNothing().when(entityValidator).validateTrainerForCreation(any());
         when(trainerRepository.save(any(Trainer.class))).thenReturn(testTrainer);
         when(trainerMapper.toRegisteredResponse(any(Trainer.class), eq(VALID_PASSWORD)))
@@ -160,7 +186,8 @@ class TrainerServiceTest {
         assertThat(result.password()).isEqualTo(VALID_PASSWORD);
 
         verify(trainerRepository, times(1)).save(any(Trainer.class));
-        verify(passwordEncoder, times(1)).encode(VALID_PASSWORD);
+        verify(credentialPool, times(1)).take();
+        verify(passwordEncoder, never()).encode(VALID_PASSWORD);
     }
 
     @Test
@@ -230,6 +257,7 @@ class TrainerServiceTest {
         trainerService.updateTrainerStatus(USERNAME, true);
 
         verify(trainerRepository, times(1)).save(any(Trainer.class));
+        verify(userCache, times(1)).removeUserFromCache(USERNAME);
     }
 
     @Test
@@ -262,4 +290,63 @@ class TrainerServiceTest {
         assertThatThrownBy(() -> trainerService.getTrainerProfile(USERNAME))
                 .isInstanceOf(TrainerNotFoundException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should search trainer trainings by normalized trainee name when trainee name is given")
+    void shouldSearchTrainerTrainingsByNormalizedTraineeNameWhenTraineeNameIsGiven() {
+        LocalDate periodFrom = LocalDate.of(2025, 1, 1);
+        LocalDate periodTo = LocalDate.of(2025, 12, 31);
+        Pageable pageable = PageRequest.of(0, 20);
+        Training training = Training.builder().trainingName("Evening Yoga").build();
+        TrainingDTO.Response.TrainerTraining trainingResponse = new TrainingDTO.Response.TrainerTraining(
+                "Evening Yoga", periodFrom, TRAINING_TYPE_NAME, 45.0, "Dastan Ibraimov");
+
+        when(pageableFactory.create(0, null)).thenReturn(pageable);
+        when(trainerRepository.findByUserUsername(USERNAME)).thenReturn(Optional.of(testTrainer));
+        when(trainingRepository.findTrainerTrainings(TRAINER_ID, periodFrom, periodTo, "dastan ib", pageable))
+                .thenReturn(List.of(training));
+        when(trainingMapper.toTrainerTrainingResponse(training)).thenReturn(trainingResponse);
+
+        List<TrainingDTO.Response.TrainerTraining> result = trainerService.getTrainerTrainings(
+                USERNAME, periodFrom, periodTo, " Dastan IB ", 0, null);
+
+        assertThat(result).containsExactly(trainingResponse);
+        verify(entityValidator, times(1)).validateDateRange(periodFrom, periodTo);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when fetching trainings of unknown trainer")
+    void shouldThrowExceptionWhenFetchingTrainingsOfUnknownTrainer() {
+        when(trainerRepository.findByUserUsername(USERNAME)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> trainerService.getTrainerTrainings(USERNAME, null, null, null, null, null))
+                .isInstanceOf(TrainerNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should resolve each specialization once and report unknown ones per row when registering trainers in batch")
+    void shouldResolveSpecializationOnceAndReportUnknownOnesWhenRegisteringTrainersInBatch() {
+        Long unknownTypeId = 99L;
+        TrainerDTO.Request.Register unknownTypeRequest = new TrainerDTO.Request.Register(FIRST_NAME, LAST_NAME, unknownTypeId);
+        Trainer secondTrainer = Trainer.builder()
+                .user(CustomUser.builder().firstName(FIRST_NAME).lastName(LAST_NAME).username(USERNAME + "1").build())
+                .specialization(testTrainingType)
+                .build();
+
+        when(trainingTypeService.findById(TRAINING_TYPE_ID)).thenReturn(testTrainingType);
+        when(trainingTypeService.findById(unknownTypeId)).thenThrow(new TrainingTypeNotFoundException(unknownTypeId));
+        when(trainerMapper.toEntity(registerRequest, testTrainingType)).thenReturn(testTrainer, secondTrainer);
+        when(batchCredentialsGenerator.assignCredentials(List.of(testTrainer.getUser(), secondTrainer.getUser())))
+                .thenReturn(List.of(VALID_PASSWORD, NEW_PASSWORD));
+        when(trainerRepository.saveAll(List.of(testTrainer, secondTrainer))).thenReturn(List.of(testTrainer, secondTrainer));
+
+        List<TrainerDTO.Response.BatchRegistered> result = trainerService.registerTrainers(
+                List.of(registerRequest, unknownTypeRequest, registerRequest));
+
+        assertThat(result).containsExactly(
+                new TrainerDTO.Response.BatchRegistered(0, USERNAME, VALID_PASSWORD, null),
+                new TrainerDTO.Response.BatchRegistered(1, null, null, "Training type not found with id: 99"),
+                new TrainerDTO.Response.BatchRegistered(2, USERNAME + "1", NEW_PASSWORD, null));
+        verify(trainingTypeService, times(1)).findById(TRAINING_TYPE_ID);
+    }
+}
@@ -9,7 +9,7 @@ import com.github.amangusss.gym_application.entity.training.Training;
 import com.github.amangusss.gym_application.exception.TraineeNotFoundException;
 import com.github.amangusss.gym_application.exception.TrainerNotFoundException;
 import com.github.amangusss.gym_application.exception.ValidationException;
-import com.github.amangusss.gym_application.jms.service.WorkloadMessageProducer;
+import com.github.amangusss.gym_application.jms.service.WorkloadOutboxService;
 import com.github.amangusss.gym_application.repository.TraineeRepository;
 import com.github.amangusss.gym_application.repository.TrainerRepository;
 import com.github.amangusss.gym_application.repository.TrainingRepository;
@@ -76,7 +76,7 @@ class TrainingServiceTest {
     private EntityValidator entityValidator;
 
     @Mock
-    private WorkloadMessageProducer workloadMessageProducer;
+    private WorkloadOutboxService workloadOutboxService;
 
     @InjectMocks
     private TrainingServiceImpl trainingService;
@@ -88,7 +88,7 @@ class TrainingServiceTest {
 
     @BeforeEach
     void setUp() {
-        Mockito.reset(trainingRepository, traineeRepository, trainerRepository, entityValidator, workloadMessageProducer);
+        Mockito.reset(trainingRepository, traineeRepository, trainerRepository, entityValidator, workloadOutboxService);
 
         TrainingType testTrainingType = TrainingType.builder()
                 .id(TRAINING_TYPE_ID)
@@ -150,13 +150,13 @@ class TrainingServiceTest {
                 .thenReturn(Optional.of(testTrainer));
         doNothing().when(entityValidator).validateTraining(any());
         when(trainingRepository.save(any(Training.class))).thenReturn(testTraining);
-        doNothing().when(workloadMessageProducer).sendWorkloadMessage(any(), any());
+        doNothing().when(workloadOutboxService).enqueue(any(), any());
 
         trainingService.addTraining(createRequest);
 
         verify(entityValidator, times(1)).validateTraining(any());
         verify(trainingRepository, times(1)).save(any(Training.class));
-        verify(workloadMessageProducer, times(1)).sendWorkloadMessage(any(), any());
+        verify(workloadOutboxService, times(1)).enqueue(any(), any());
     }
 
     @Test
@@ -0,0 +1,95 @@
+package com.github.amangusss.gym_application.service;
+
+import com.github.amangusss.gym_application.entity.workload.WorkloadDeadLetter;
+import com.github.amangusss.gym_application.exception.ValidationException;
+import com.github.amangusss.gym_application.jms.dlq.WorkloadDlqRedriver;
+import com.github.amangusss.gym_application.jms.service.impl.WorkloadDlqServiceImpl;
+import com.github.amangusss.gym_application.mapper.WorkloadDeadLetterMapper;
+import com.github.amangusss.gym_application.metrics.WorkloadDlqMetrics;
+import com.github.amangusss.gym_application.repository.WorkloadDeadLetterRepository;
+import com.github.amangusss.gym_application.util.paging.PageableFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkloadDlqService Tests")
+class WorkloadDlqServiceTest {
+
+    @Mock
+    private WorkloadDeadLetterRepository deadLetterRepository;
+
+    @Mock
+    private WorkloadDlqRedriver workloadDlqRedriver;
+
+    @Mock
+    private WorkloadDlqMetrics workloadDlqMetrics;
+
+    private WorkloadDlqServiceImpl workloadDlqService;
+
+    @BeforeEach
+    void setUp() {
+        workloadDlqService = new WorkloadDlqServiceImpl(deadLetterRepository, new WorkloadDeadLetterMapper(),
+                workloadDlqRedriver, workloadDlqMetrics, new PageableFactory(20, 100));
+    }
+
+    @Test
+    @DisplayName("Should store a new dead letter as pending")
+    void shouldStoreDeadLetter() {
+        when(deadLetterRepository.existsByMessageId("ID:1")).thenReturn(false);
+
+        workloadDlqService.recordDeadLetter("ID:1", "tx-1", "Validation failed", "{}", true);
+
+        ArgumentCaptor<WorkloadDeadLetter> saved = ArgumentCaptor.forClass(WorkloadDeadLetter.class);
+        verify(deadLetterRepository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(WorkloadDeadLetter.Status.PENDING);
+        assertThat(saved.getValue().getErrorReason()).isEqualTo("Validation failed");
+        verify(workloadDlqMetrics).incrementReceived();
+    }
+
+    @Test
+    @DisplayName("Should store an undecodable dead letter as unreadable with its raw body")
+    void shouldStoreUndecodableDeadLetterAsUnreadable() {
+        when(deadLetterRepository.existsByMessageId("ID:2")).thenReturn(false);
+
+        workloadDlqService.recordDeadLetter("ID:2", "tx-2", "Conversion failed", "AQID", false);
+
+        ArgumentCaptor<WorkloadDeadLetter> saved = ArgumentCaptor.forClass(WorkloadDeadLetter.class);
+        verify(deadLetterRepository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(WorkloadDeadLetter.Status.UNREADABLE);
+        assertThat(saved.getValue().getBody()).isEqualTo("AQID");
+        verify(workloadDlqMetrics).incrementReceived();
+    }
+
+    @Test
+    @DisplayName("Should ignore a redelivered dead letter that is already stored")
+    void shouldIgnoreRedeliveredDeadLetter() {
+        when(deadLetterRepository.existsByMessageId("ID:1")).thenReturn(true);
+
+        workloadDlqService.recordDeadLetter("ID:1", "tx-1", "Validation failed", "{}", true);
+
+        verify(deadLetterRepository, never()).save(any());
+        verify(workloadDlqMetrics, never()).incrementReceived();
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown status filter")
+    void shouldRejectUnknownStatus() {
+        assertThatThrownBy(() -> workloadDlqService.getDeadLetters(null, "LOST", null, null, null, null))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("LOST");
+    }
+}
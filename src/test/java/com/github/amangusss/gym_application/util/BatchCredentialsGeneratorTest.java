@@ -0,0 +1,101 @@
+package com.github.amangusss.gym_application.util;
+
+import com.github.amangusss.gym_application.entity.CustomUser;
+import com.github.amangusss.gym_application.exception.ValidationException;
+import com.github.amangusss.gym_application.util.credentials.BatchCredentialsGenerator;
+import com.github.amangusss.gym_application.util.credentials.CredentialPool;
+import com.github.amangusss.gym_application.util.credentials.PasswordGenerator;
+import com.github.amangusss.gym_application.util.credentials.UsernameGenerator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("BatchCredentialsGenerator Tests")
+class BatchCredentialsGeneratorTest {
+
+    private static final int MAX_BATCH_SIZE = 3;
+    private static final int HASH_CHUNK_SIZE = 2;
+
+    private UsernameGenerator usernameGenerator;
+    private PasswordGenerator passwordGenerator;
+    private CredentialPool credentialPool;
+    private BatchCredentialsGenerator batchCredentialsGenerator;
+
+    @BeforeEach
+    void setUp() {
+        usernameGenerator = mock(UsernameGenerator.class);
+        passwordGenerator = mock(PasswordGenerator.class);
+        credentialPool = mock(CredentialPool.class);
+        when(credentialPool.poll()).thenReturn(Optional.empty());
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode("first")).thenReturn("hashed_first");
+        when(passwordEncoder.encode("second")).thenReturn("hashed_second");
+
+        batchCredentialsGenerator = new BatchCredentialsGenerator(
+                usernameGenerator, passwordGenerator, passwordEncoder, credentialPool, MAX_BATCH_SIZE, HASH_CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should assign usernames and hashed passwords in request order")
+    void shouldAssignUsernamesAndHashedPasswordsInOrder() {
+        CustomUser first = CustomUser.builder().firstName("John").lastName("Doe").build();
+        CustomUser second = CustomUser.builder().firstName("John").lastName("Doe").build();
+        List<CustomUser> users = List.of(first, second);
+        when(usernameGenerator.generateUsernames(users)).thenReturn(List.of("John.Doe", "John.Doe1"));
+        when(passwordGenerator.generatePassword()).thenReturn("first", "second");
+
+        List<String> plainPasswords = batchCredentialsGenerator.assignCredentials(users);
+
+        assertThat(plainPasswords).containsExactly("first", "second");
+        assertThat(first.getUsername()).isEqualTo("John.Doe");
+        assertThat(first.getPassword()).isEqualTo("hashed_first");
+        assertThat(second.getUsername()).isEqualTo("John.Doe1");
+        assertThat(second.getPassword()).isEqualTo("hashed_second");
+    }
+
+    @Test
+    @DisplayName("Should take pooled credentials first and hash only the remainder")
+    void shouldTakePooledCredentialsFirstAndHashOnlyRemainder() {
+        CustomUser first = CustomUser.builder().firstName("John").lastName("Doe").build();
+        CustomUser second = CustomUser.builder().firstName("John").lastName("Doe").build();
+        List<CustomUser> users = List.of(first, second);
+        when(usernameGenerator.generateUsernames(users)).thenReturn(List.of("John.Doe", "John.Doe1"));
+        when(credentialPool.poll())
+                .thenReturn(Optional.of(new CredentialPool.PooledCredential("pooled", "hashed_pooled")))
+                .thenReturn(Optional.empty());
+        when(passwordGenerator.generatePassword()).thenReturn("second");
+
+        List<String> plainPasswords = batchCredentialsGenerator.assignCredentials(users);
+
+        assertThat(plainPasswords).containsExactly("pooled", "second");
+        assertThat(first.getPassword()).isEqualTo("hashed_pooled");
+        assertThat(second.getPassword()).isEqualTo("hashed_second");
+    }
+
+    @Test
+    @DisplayName("Should reject empty batch")
+    void shouldRejectEmptyBatch() {
+        assertThatThrownBy(() -> batchCredentialsGenerator.validateBatchSize(0))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Batch size");
+    }
+
+    @Test
+    @DisplayName("Should reject batch above the maximum size")
+    void shouldRejectBatchAboveMaximumSize() {
+        assertThatThrownBy(() -> batchCredentialsGenerator.validateBatchSize(MAX_BATCH_SIZE + 1))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Batch size");
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.amangusss.gym_application.util;
+
+import com.github.amangusss.gym_application.exception.ServiceUnavailableException;
+import com.github.amangusss.gym_application.metrics.PasswordHashingMetrics;
+import com.github.amangusss.gym_application.util.credentials.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedPasswordEncoder Tests")
+class BoundedPasswordEncoderTest {
+
+    private static final String RAW_PASSWORD = "password123";
+
+    private MeterRegistry meterRegistry;
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should hash and verify passwords and record timers")
+    void shouldHashAndVerifyPasswordsAndRecordTimers() {
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4),
+                new PasswordHashingMetrics(meterRegistry), 2, 4);
+
+        String hash = passwordEncoder.encode(RAW_PASSWORD);
+
+        assertThat(passwordEncoder.matches(RAW_PASSWORD, hash)).isTrue();
+        assertThat(passwordEncoder.matches("wrong", hash)).isFalse();
+        assertThat(meterRegistry.find("password.hashing.duration").tag("operation", "hash").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.find("password.hashing.duration").tag("operation", "verify").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.find("password.hashing.queue.size").gauge()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should upgrade hashes created with a lower cost")
+    void shouldUpgradeHashesCreatedWithLowerCost() {
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5),
+                new PasswordHashingMetrics(meterRegistry), 1, 1);
+
+        String weakerHash = new BCryptPasswordEncoder(4).encode(RAW_PASSWORD);
+
+        assertThat(passwordEncoder.upgradeEncoding(weakerHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(passwordEncoder.encode(RAW_PASSWORD))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should hash a batch in order without submitting more than one chunk at a time")
+    void shouldHashBatchInBoundedChunks() {
+        PasswordEncoder reversingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return new StringBuilder(rawPassword).reverse().toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+        passwordEncoder = new BoundedPasswordEncoder(reversingEncoder, new PasswordHashingMetrics(meterRegistry), 1, 1);
+
+        List<String> hashes = passwordEncoder.encodeAll(List.of("ab", "cd", "ef", "gh", "ij"), 2);
+
+        assertThat(hashes).containsExactly("ba", "dc", "fe", "hg", "ji");
+        assertThat(meterRegistry.find("password.hashing.rejected").counter().count()).isZero();
+        assertThat(meterRegistry.find("password.hashing.duration").tag("operation", "hash").timer().count())
+                .isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should reject hashing with ServiceUnavailableException when the queue is full")
+    void shouldRejectHashingWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder, new PasswordHashingMetrics(meterRegistry), 1, 1);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("second"));
+        while (meterRegistry.get("password.hashing.queue.size").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> passwordEncoder.encode("third"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.amangusss.gym_application.util;
+
+import com.github.amangusss.gym_application.exception.ServiceUnavailableException;
+import com.github.amangusss.gym_application.metrics.CredentialPoolMetrics;
+import com.github.amangusss.gym_application.util.credentials.CredentialPool;
+import com.github.amangusss.gym_application.util.credentials.PasswordGenerator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CredentialPool Tests")
+class CredentialPoolTest {
+
+    private static final int POOL_SIZE = 3;
+    private static final int REFILL_BATCH_SIZE = 2;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordGenerator passwordGenerator;
+    private PasswordEncoder passwordEncoder;
+    private CredentialPool credentialPool;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordGenerator = mock(PasswordGenerator.class);
+        passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordGenerator.generatePassword()).thenReturn("password");
+        when(passwordEncoder.encode(anyString())).thenReturn("hashed_password");
+
+        credentialPool = new CredentialPool(passwordGenerator, passwordEncoder,
+                new CredentialPoolMetrics(meterRegistry), POOL_SIZE, REFILL_BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should add at most one refill batch per run and stop at capacity")
+    void shouldRefillInBatchesUpToCapacity() {
+        credentialPool.refill();
+        assertThat(credentialPool.size()).isEqualTo(REFILL_BATCH_SIZE);
+
+        credentialPool.refill();
+        assertThat(credentialPool.size()).isEqualTo(POOL_SIZE);
+        assertThat(meterRegistry.get("credentials.pool.size").gauge().value()).isEqualTo(POOL_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should serve pooled credential when pool is not empty")
+    void shouldServePooledCredentialWhenAvailable() {
+        credentialPool.refill();
+
+        CredentialPool.PooledCredential credential = credentialPool.take();
+
+        assertThat(credential.plainPassword()).isEqualTo("password");
+        assertThat(credential.hashedPassword()).isEqualTo("hashed_password");
+        assertThat(credentialPool.size()).isEqualTo(REFILL_BATCH_SIZE - 1);
+        assertThat(meterRegistry.get("credentials.pool.taken").tag("source", "pool").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should hash inline when pool is empty")
+    void shouldHashInlineWhenPoolIsEmpty() {
+        CredentialPool.PooledCredential credential = credentialPool.take();
+
+        assertThat(credential.hashedPassword()).isEqualTo("hashed_password");
+        assertThat(meterRegistry.get("credentials.pool.taken").tag("source", "inline").counter().count()).isEqualTo(1);
+        assertThat(credentialPool.poll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should postpone refill when password hashing is saturated")
+    void shouldPostponeRefillWhenHashingIsSaturated() {
+        when(passwordEncoder.encode(anyString())).thenThrow(new ServiceUnavailableException("busy"));
+
+        credentialPool.refill();
+
+        assertThat(credentialPool.size()).isZero();
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.amangusss.gym_application.util;
+
+import com.github.amangusss.gym_application.exception.ValidationException;
+import com.github.amangusss.gym_application.util.paging.PageableFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Pageable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PageableFactory Tests")
+class PageableFactoryTest {
+
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
+    private PageableFactory pageableFactory;
+
+    @BeforeEach
+    void setUp() {
+        pageableFactory = new PageableFactory(DEFAULT_SIZE, MAX_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should return unpaged when neither page nor size is given")
+    void shouldReturnUnpagedWhenNoPagingParameters() {
+        assertThat(pageableFactory.create(null, null).isPaged()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should use default size when only page is given")
+    void shouldUseDefaultSizeWhenOnlyPageIsGiven() {
+        Pageable pageable = pageableFactory.create(2, null);
+
+        assertThat(pageable.getPageNumber()).isEqualTo(2);
+        assertThat(pageable.getPageSize()).isEqualTo(DEFAULT_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should use first page when only size is given")
+    void shouldUseFirstPageWhenOnlySizeIsGiven() {
+        Pageable pageable = pageableFactory.create(null, 5);
+
+        assertThat(pageable.getPageNumber()).isZero();
+        assertThat(pageable.getPageSize()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should reject negative page index")
+    void shouldRejectNegativePageIndex() {
+        assertThatThrownBy(() -> pageableFactory.create(-1, 10))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Page index");
+    }
+
+    @Test
+    @DisplayName("Should reject page size above the maximum")
+    void shouldRejectPageSizeAboveMaximum() {
+        assertThatThrownBy(() -> pageableFactory.create(0, MAX_SIZE + 1))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Page size");
+    }
+}
@@ -1,6 +1,9 @@
 package com.github.amangusss.gym_application.util;
 
+import com.github.amangusss.gym_application.entity.CustomUser;
 import com.github.amangusss.gym_application.exception.ValidationException;
+import com.github.amangusss.gym_application.repository.UserRepository;
+import com.github.amangusss.gym_application.util.credentials.UsernameBloomFilter;
 import com.github.amangusss.gym_application.util.credentials.UsernameGenerator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -8,20 +11,30 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
-import java.util.HashSet;
-import java.util.Set;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @DisplayName("UsernameGenerator Tests")
 class UsernameGeneratorTest {
 
+    private UserRepository userRepository;
     private UsernameGenerator usernameGenerator;
 
     @BeforeEach
     void setUp() {
-        usernameGenerator = new UsernameGenerator();
+        userRepository = mock(UserRepository.class);
+        usernameGenerator = new UsernameGenerator(userRepository, new UsernameBloomFilter(1000, 0.01), 2);
     }
 
     @Nested
@@ -31,7 +44,9 @@ class UsernameGeneratorTest {
         @Test
         @DisplayName("Should generate username from first and last name")
         void shouldGenerateUsernameFromNames() {
-            String username = usernameGenerator.generateUsername("John", "Doe", name -> false);
+            when(userRepository.findMaxUsernameSuffix("John.Doe", "John.Doe")).thenReturn(null);
+
+            String username = usernameGenerator.generateUsername("John", "Doe");
 
             assertThat(username).isEqualTo("John.Doe");
         }
@@ -39,33 +54,155 @@ class UsernameGeneratorTest {
         @Test
         @DisplayName("Should generate username with suffix when base username exists")
         void shouldGenerateUsernameWithSuffix() {
-            Set<String> existingUsernames = new HashSet<>();
-            existingUsernames.add("John.Doe");
+            when(userRepository.findMaxUsernameSuffix("John.Doe", "John.Doe")).thenReturn(0);
 
-            String username = usernameGenerator.generateUsername("John", "Doe", existingUsernames::contains);
+            String username = usernameGenerator.generateUsername("John", "Doe");
 
             assertThat(username).isEqualTo("John.Doe1");
         }
 
         @Test
-        @DisplayName("Should increment suffix until unique username is found")
-        void shouldIncrementSuffixUntilUnique() {
-            Set<String> existingUsernames = new HashSet<>();
-            existingUsernames.add("John.Doe");
-            existingUsernames.add("John.Doe1");
-            existingUsernames.add("John.Doe2");
+        @DisplayName("Should use next suffix after the highest existing one in a single lookup")
+        void shouldUseNextSuffixAfterHighestExisting() {
+            when(userRepository.findMaxUsernameSuffix("John.Doe", "John.Doe")).thenReturn(12);
 
-            String username = usernameGenerator.generateUsername("John", "Doe", existingUsernames::contains);
+            String username = usernameGenerator.generateUsername("John", "Doe");
 
-            assertThat(username).isEqualTo("John.Doe3");
+            assertThat(username).isEqualTo("John.Doe13");
+            verify(userRepository, times(1)).findMaxUsernameSuffix("John.Doe", "John.Doe");
+        }
+
+        @Test
+        @DisplayName("Should escape LIKE wildcards in the username prefix")
+        void shouldEscapeLikeWildcardsInPrefix() {
+            when(userRepository.findMaxUsernameSuffix("John_.Doe%", "John\\_.Doe\\%")).thenReturn(null);
+
+            String username = usernameGenerator.generateUsername("John_", "Doe%");
+
+            assertThat(username).isEqualTo("John_.Doe%");
         }
 
         @Test
         @DisplayName("Should trim whitespace from names")
         void shouldTrimWhitespaceFromNames() {
-            String username = usernameGenerator.generateUsername("  John  ", "  Doe  ", name -> false);
+            when(userRepository.findMaxUsernameSuffix("John.Doe", "John.Doe")).thenReturn(null);
+
+            String username = usernameGenerator.generateUsername("  John  ", "  Doe  ");
+
+            assertThat(username).isEqualTo("John.Doe");
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Username Generation Tests")
+    class BatchUsernameGenerationTests {
+
+        @Test
+        @DisplayName("Should give repeated names consecutive suffixes with one lookup per distinct name")
+        void shouldGiveRepeatedNamesConsecutiveSuffixes() {
+            when(userRepository.findMaxUsernameSuffix("John.Doe", "John.Doe")).thenReturn(4);
+            when(userRepository.findMaxUsernameSuffix("Jane.Roe", "Jane.Roe")).thenReturn(null);
+
+            List<String> usernames = usernameGenerator.generateUsernames(List.of(
+                    CustomUser.builder().firstName("John").lastName("Doe").build(),
+                    CustomUser.builder().firstName("Jane").lastName("Roe").build(),
+                    CustomUser.builder().firstName("John").lastName("Doe").build(),
+                    CustomUser.builder().firstName("Jane").lastName("Roe").build()));
+
+            assertThat(usernames).containsExactly("John.Doe5", "Jane.Roe", "John.Doe6", "Jane.Roe1");
+            verify(userRepository, times(1)).findMaxUsernameSuffix("John.Doe", "John.Doe");
+            verify(userRepository, times(1)).findMaxUsernameSuffix("Jane.Roe", "Jane.Roe");
+        }
+
+        @Test
+        @DisplayName("Should continue repeated names after the highest suffix in the database even if the base is free")
+        void shouldContinueRepeatedNamesAfterDatabaseSuffix() {
+            when(userRepository.findUsernamesAfter(eq(""), any(Pageable.class))).thenReturn(List.of());
+            when(userRepository.findMaxUsernameSuffix("John.Doe", "John.Doe")).thenReturn(1);
+            usernameGenerator.loadExistingUsernames();
+
+            List<String> usernames = usernameGenerator.generateUsernames(List.of(
+                    CustomUser.builder().firstName("John").lastName("Doe").build(),
+                    CustomUser.builder().firstName("John").lastName("Doe").build()));
+
+            assertThat(usernames).containsExactly("John.Doe2", "John.Doe3");
+            verify(userRepository, never()).existsByUsername(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Bloom Filter Tests")
+    class BloomFilterTests {
+
+        @Test
+        @DisplayName("Should load existing usernames page by page after sizing the filter from the row count")
+        void shouldLoadExistingUsernamesInPages() {
+            when(userRepository.count()).thenReturn(3L);
+            when(userRepository.findUsernamesAfter(eq(""), any(Pageable.class))).thenReturn(List.of("Ann.Lee", "Bob.Ray"));
+            when(userRepository.findUsernamesAfter(eq("Bob.Ray"), any(Pageable.class))).thenReturn(List.of("John.Doe"));
+            when(userRepository.findMaxUsernameSuffix("John.Doe", "John.Doe")).thenReturn(0);
+            usernameGenerator.loadExistingUsernames();
+
+            String username = usernameGenerator.generateUsername("John", "Doe");
+
+            assertThat(username).isEqualTo("John.Doe1");
+            verify(userRepository).count();
+            verify(userRepository, times(2)).findUsernamesAfter(any(), any(Pageable.class));
+            verify(userRepository, never()).existsByUsername(any());
+        }
+
+        @Test
+        @DisplayName("Should only check existence for never used username once filter is loaded")
+        void shouldSkipSuffixLookupForNeverUsedUsername() {
+            when(userRepository.findUsernamesAfter(eq(""), any(Pageable.class))).thenReturn(List.of("Jane.Roe"));
+            usernameGenerator.loadExistingUsernames();
+
+            String username = usernameGenerator.generateUsername("John", "Doe");
 
             assertThat(username).isEqualTo("John.Doe");
+            verify(userRepository).existsByUsername("John.Doe");
+            verify(userRepository, never()).findMaxUsernameSuffix(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should fall back to suffix lookup when another node registered a username missing from the filter")
+        void shouldUseSuffixLookupWhenFilterIsStale() {
+            when(userRepository.findUsernamesAfter(eq(""), any(Pageable.class))).thenReturn(List.of());
+            when(userRepository.existsByUsername("John.Doe")).thenReturn(true);
+            when(userRepository.findMaxUsernameSuffix("John.Doe", "John.Doe")).thenReturn(2);
+            usernameGenerator.loadExistingUsernames();
+
+            String username = usernameGenerator.generateUsername("John", "Doe");
+
+            assertThat(username).isEqualTo("John.Doe3");
+            verify(userRepository).existsByUsername("John.Doe");
+            verify(userRepository).findMaxUsernameSuffix("John.Doe", "John.Doe");
+        }
+
+        @Test
+        @DisplayName("Should query database for username present in filter")
+        void shouldQueryDatabaseForUsernamePresentInFilter() {
+            when(userRepository.findUsernamesAfter(eq(""), any(Pageable.class))).thenReturn(List.of("John.Doe"));
+            when(userRepository.findMaxUsernameSuffix("John.Doe", "John.Doe")).thenReturn(0);
+            usernameGenerator.loadExistingUsernames();
+
+            String username = usernameGenerator.generateUsername("John", "Doe");
+
+            assertThat(username).isEqualTo("John.Doe1");
+        }
+
+        @Test
+        @DisplayName("Should remember generated usernames")
+        void shouldRememberGeneratedUsernames() {
+            when(userRepository.findUsernamesAfter(eq(""), any(Pageable.class))).thenReturn(List.of());
+            when(userRepository.findMaxUsernameSuffix("John.Doe", "John.Doe")).thenReturn(0);
+            usernameGenerator.loadExistingUsernames();
+
+            usernameGenerator.generateUsername("John", "Doe");
+            String second = usernameGenerator.generateUsername("John", "Doe");
+
+            assertThat(second).isEqualTo("John.Doe1");
+            verify(userRepository, times(1)).findMaxUsernameSuffix("John.Doe", "John.Doe");
         }
     }
 
@@ -76,7 +213,7 @@ class UsernameGeneratorTest {
         @Test
         @DisplayName("Should throw ValidationException when firstName is null")
         void shouldThrowExceptionWhenFirstNameIsNull() {
-            assertThatThrownBy(() -> usernameGenerator.generateUsername(null, "Doe", name -> false))
+            assertThatThrownBy(() -> usernameGenerator.generateUsername(null, "Doe"))
                     .isInstanceOf(ValidationException.class)
                     .hasMessageContaining("must not be null");
         }
@@ -84,7 +221,7 @@ class UsernameGeneratorTest {
         @Test
         @DisplayName("Should throw ValidationException when lastName is null")
         void shouldThrowExceptionWhenLastNameIsNull() {
-            assertThatThrownBy(() -> usernameGenerator.generateUsername("John", null, name -> false))
+            assertThatThrownBy(() -> usernameGenerator.generateUsername("John", null))
                     .isInstanceOf(ValidationException.class)
                     .hasMessageContaining("must not be null");
         }
@@ -92,7 +229,7 @@ class UsernameGeneratorTest {
         @Test
         @DisplayName("Should throw ValidationException when both names are null")
         void shouldThrowExceptionWhenBothNamesAreNull() {
-            assertThatThrownBy(() -> usernameGenerator.generateUsername(null, null, name -> false))
+            assertThatThrownBy(() -> usernameGenerator.generateUsername(null, null))
                     .isInstanceOf(ValidationException.class);
         }
     }